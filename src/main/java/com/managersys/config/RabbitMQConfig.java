@@ -21,6 +21,12 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.routing-key.email}")
     private String emailRoutingKey;
 
+    @Value("${rabbitmq.exchange.employee-tokens}")
+    private String employeeTokensExchange;
+
+    @Value("${rabbitmq.exchange.customer-keys}")
+    private String customerKeysExchange;
+
     @Bean
     public Queue emailQueue() {
         return new Queue(emailQueue, true);
@@ -39,6 +45,41 @@ public class RabbitMQConfig {
                 .with(emailRoutingKey);
     }
 
+    @Bean
+    public FanoutExchange employeeTokensExchange() {
+        return new FanoutExchange(employeeTokensExchange);
+    }
+
+    // Server-named, exclusive and auto-deleted: one per node, gone when the node stops
+    @Bean
+    public Queue employeeTokensQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding employeeTokensBinding(Queue employeeTokensQueue, FanoutExchange employeeTokensExchange) {
+        return BindingBuilder
+                .bind(employeeTokensQueue)
+                .to(employeeTokensExchange);
+    }
+
+    @Bean
+    public FanoutExchange customerKeysExchange() {
+        return new FanoutExchange(customerKeysExchange);
+    }
+
+    @Bean
+    public Queue customerKeysQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding customerKeysBinding(Queue customerKeysQueue, FanoutExchange customerKeysExchange) {
+        return BindingBuilder
+                .bind(customerKeysQueue)
+                .to(customerKeysExchange);
+    }
+
     @Bean
     public MessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -38,4 +39,20 @@ public class AuthenticationController {
     public ResponseEntity<String> confirm(@RequestParam("token") String token) {
         return ResponseEntity.ok(authService.confirmToken(token));
     }
+
+    @PostMapping("/employees/{employeeId}/revoke-tokens")
+    @Operation(summary = "Revoke every access token issued to an employee")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> revokeTokens(@PathVariable Long employeeId) {
+        authService.revokeTokens(employeeId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/employees/{employeeId}/role")
+    @Operation(summary = "Change an employee's role, revoking their current tokens")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> changeRole(@PathVariable Long employeeId, @RequestParam("role") String role) {
+        authService.changeRole(employeeId, role);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,58 @@
+package com.managersys.controller;
+
+import com.managersys.exception.ResourceNotFoundException;
+import com.managersys.service.BookingCatalog;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/booking-catalog")
+@Tag(name = "Online Booking", description = "Public catalog of services open for online booking")
+public class BookingCatalogController {
+
+    private final BookingCatalog bookingCatalog;
+
+    public BookingCatalogController(BookingCatalog bookingCatalog) {
+        this.bookingCatalog = bookingCatalog;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get the services open for online booking, grouped by category")
+    public ResponseEntity<byte[]> getCatalog(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return respond(bookingCatalog.getCatalog(), ifNoneMatch);
+    }
+
+    @GetMapping("/categories/{categoryId}")
+    @Operation(summary = "Get the services of one category open for online booking")
+    public ResponseEntity<byte[]> getCategory(
+            @PathVariable Long categoryId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        BookingCatalog.Entry entry = bookingCatalog.getCategory(categoryId);
+        if (entry == null) {
+            throw new ResourceNotFoundException("Category", "id", categoryId);
+        }
+        return respond(entry, ifNoneMatch);
+    }
+
+    // The snapshot's bytes are written as they are; clients revalidate with the ETag
+    private static ResponseEntity<byte[]> respond(BookingCatalog.Entry entry, String ifNoneMatch) {
+        if (entry.getEtag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(entry.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(entry.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(entry.getJson());
+    }
+}
@@ -0,0 +1,50 @@
+package com.managersys.controller;
+
+import com.managersys.dto.CategoryTreeNodeDTO;
+import com.managersys.dto.ServiceCategoryDTO;
+import com.managersys.service.CategoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/categories")
+@Tag(name = "Service Categories", description = "Service category tree APIs")
+public class CategoryController {
+
+    private final CategoryService categoryService;
+
+    public CategoryController(CategoryService categoryService) {
+        this.categoryService = categoryService;
+    }
+
+    @GetMapping("/tree")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get the active category tree with active service counts per subtree")
+    public ResponseEntity<List<CategoryTreeNodeDTO>> getCategoryTree() {
+        return ResponseEntity.ok(categoryService.getActiveCategoryTree());
+    }
+
+    @GetMapping("/{id}/breadcrumbs")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get the path from the root category down to a category")
+    public ResponseEntity<List<ServiceCategoryDTO>> getBreadcrumbs(@PathVariable Long id) {
+        return ResponseEntity.ok(categoryService.getBreadcrumbs(id));
+    }
+
+    @PutMapping("/{id}/parent")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Move a category, with its subcategories, under another parent")
+    public ResponseEntity<Void> moveCategory(
+            @PathVariable Long id,
+            @Parameter(description = "New parent category (omit to make it a root category)")
+            @RequestParam(required = false) Long parentId) {
+        categoryService.moveCategory(id, parentId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,8 +1,17 @@
 package com.managersys.controller;
 
 import com.managersys.dto.CustomerDTO;
+import com.managersys.dto.CustomerImportRequestDTO;
+import com.managersys.dto.CustomerImportResultDTO;
+import com.managersys.dto.CustomerLocationDTO;
+import com.managersys.dto.CustomerOverviewDTO;
+import com.managersys.dto.CustomerSuggestionDTO;
+import com.managersys.dto.CustomerTimelineDTO;
+import com.managersys.dto.KeysetPageDTO;
 import com.managersys.model.Customer;
+import com.managersys.service.CustomerOverviewService;
 import com.managersys.service.CustomerService;
+import com.managersys.service.CustomerTimelineService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -25,10 +34,18 @@ import java.util.Map;
 @Tag(name = "Customers", description = "Customer management APIs")
 public class CustomerController {
 
+    private static final int MAX_LOCATION_PAGE_SIZE = 100;
+    private static final int MAX_TIMELINE_PAGE_SIZE = 100;
+
     private final CustomerService customerService;
+    private final CustomerOverviewService customerOverviewService;
+    private final CustomerTimelineService customerTimelineService;
 
-    public CustomerController(CustomerService customerService) {
+    public CustomerController(CustomerService customerService, CustomerOverviewService customerOverviewService,
+                              CustomerTimelineService customerTimelineService) {
         this.customerService = customerService;
+        this.customerOverviewService = customerOverviewService;
+        this.customerTimelineService = customerTimelineService;
     }
 
     @PostMapping
@@ -48,6 +65,14 @@ public class CustomerController {
         return ResponseEntity.created(location).body(createdCustomer);
     }
 
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Import customers in bulk, skipping duplicates")
+    public ResponseEntity<CustomerImportResultDTO> importCustomers(
+            @Valid @RequestBody CustomerImportRequestDTO request) {
+        return ResponseEntity.ok(customerService.importCustomers(request.getCustomers()));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Get a customer by ID")
@@ -58,6 +83,33 @@ public class CustomerController {
         return ResponseEntity.ok(customerService.getCustomerById(id));
     }
 
+    @GetMapping("/{id}/overview")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get a customer with recent orders, upcoming schedules, lifetime spend and services used")
+    public ResponseEntity<CustomerOverviewDTO> getCustomerOverview(
+            @Parameter(description = "ID of the customer", required = true)
+            @PathVariable Long id) {
+        
+        return ResponseEntity.ok(customerOverviewService.getCustomerOverview(id));
+    }
+
+    @GetMapping("/{id}/timeline")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get a customer's orders, appointments and cancellations as one feed, newest first")
+    public ResponseEntity<CustomerTimelineDTO> getCustomerTimeline(
+            @Parameter(description = "ID of the customer", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Cursor of the previous page (nextCursor)")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        if (size < 1 || size > MAX_TIMELINE_PAGE_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_TIMELINE_PAGE_SIZE);
+        }
+        
+        return ResponseEntity.ok(customerTimelineService.getTimeline(id, cursor, size));
+    }
+
     @GetMapping
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Get all customers with pagination and optional filters")
@@ -77,6 +129,13 @@ public class CustomerController {
         return ResponseEntity.ok(customerService.getAllCustomers(pageable));
     }
 
+    @GetMapping("/typeahead")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get the top 10 customers matching a name, email, phone or tax ID fragment")
+    public ResponseEntity<List<CustomerSuggestionDTO>> typeahead(@RequestParam String q) {
+        return ResponseEntity.ok(customerService.typeahead(q));
+    }
+
     @GetMapping("/birthdays")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Get customers with birthdays in a date range")
@@ -100,19 +159,26 @@ public class CustomerController {
 
     @GetMapping("/locations")
     @PreAuthorize("isAuthenticated()")
-    @Operation(summary = "Get unique city and state combinations")
-    public ResponseEntity<List<Map<String, String>>> getCustomerLocations() {
+    @Operation(summary = "Get unique city and state combinations with their customer counts")
+    public ResponseEntity<List<CustomerLocationDTO>> getCustomerLocations() {
         return ResponseEntity.ok(customerService.findCitiesWithStates());
     }
 
     @GetMapping("/by-location")
     @PreAuthorize("isAuthenticated()")
-    @Operation(summary = "Get customers by city and state")
-    public ResponseEntity<List<CustomerDTO>> getCustomersByLocation(
+    @Operation(summary = "Get customers by city and state, paged by id")
+    public ResponseEntity<KeysetPageDTO<CustomerDTO>> getCustomersByLocation(
             @RequestParam String city,
-            @RequestParam String state) {
+            @RequestParam String state,
+            @Parameter(description = "Last id of the previous page (nextAfterId)")
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        if (size < 1 || size > MAX_LOCATION_PAGE_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_LOCATION_PAGE_SIZE);
+        }
         
-        return ResponseEntity.ok(customerService.findByCityAndState(city, state));
+        return ResponseEntity.ok(customerService.findByCityAndState(city, state, afterId, size));
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,56 @@
+package com.managersys.controller;
+
+import com.managersys.dto.CustomerStatsDTO;
+import com.managersys.model.CustomerStats;
+import com.managersys.service.CustomerStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/customer-stats")
+@Tag(name = "Customer Stats", description = "Lifetime value and RFM segments")
+public class CustomerStatsController {
+
+    private final CustomerStatsService customerStatsService;
+
+    public CustomerStatsController(CustomerStatsService customerStatsService) {
+        this.customerStatsService = customerStatsService;
+    }
+
+    @GetMapping("/top-spenders")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Get customers ordered by lifetime spend")
+    public ResponseEntity<Page<CustomerStatsDTO>> getTopSpenders(
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(customerStatsService.getTopSpenders(pageable));
+    }
+
+    @GetMapping("/lapsed")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Get customers without a paid order in the last N days")
+    public ResponseEntity<Page<CustomerStatsDTO>> getLapsedCustomers(
+            @RequestParam(defaultValue = "180") int days,
+            @PageableDefault(size = 20) Pageable pageable) {
+        
+        if (days < 1) {
+            throw new IllegalArgumentException("Days must be at least 1");
+        }
+        
+        return ResponseEntity.ok(customerStatsService.getLapsedCustomers(days, pageable));
+    }
+
+    @GetMapping("/segments/{segment}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Get customers in an RFM segment, ordered by lifetime spend")
+    public ResponseEntity<Page<CustomerStatsDTO>> getCustomersBySegment(
+            @PathVariable CustomerStats.Segment segment,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(customerStatsService.getCustomersBySegment(segment, pageable));
+    }
+}
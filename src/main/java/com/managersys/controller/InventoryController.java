@@ -0,0 +1,55 @@
+package com.managersys.controller;
+
+import com.managersys.dto.ProductStockDTO;
+import com.managersys.dto.StockLocationDTO;
+import com.managersys.service.InventoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/inventory")
+@Tag(name = "Inventory", description = "Stock location and per-location stock APIs")
+public class InventoryController {
+
+    private final InventoryService inventoryService;
+
+    public InventoryController(InventoryService inventoryService) {
+        this.inventoryService = inventoryService;
+    }
+
+    @GetMapping("/locations")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get all stock locations in allocation order")
+    public ResponseEntity<List<StockLocationDTO>> getAllLocations() {
+        return ResponseEntity.ok(inventoryService.getAllLocations());
+    }
+
+    @PostMapping("/locations")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Create a stock location (warehouse or store)")
+    public ResponseEntity<StockLocationDTO> createLocation(@Valid @RequestBody StockLocationDTO locationDTO) {
+        return ResponseEntity.ok(inventoryService.createLocation(locationDTO));
+    }
+
+    @GetMapping("/products/{productId}/stock")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get a product's stock at every location")
+    public ResponseEntity<List<ProductStockDTO>> getProductStock(@PathVariable Long productId) {
+        return ResponseEntity.ok(inventoryService.getProductStock(productId));
+    }
+
+    @PutMapping("/products/{productId}/stock/{locationId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Set a product's stock at a location")
+    public ResponseEntity<ProductStockDTO> setStock(
+            @PathVariable Long productId,
+            @PathVariable Long locationId,
+            @RequestParam int quantity) {
+        return ResponseEntity.ok(inventoryService.setStock(productId, locationId, quantity));
+    }
+}
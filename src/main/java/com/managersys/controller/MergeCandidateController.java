@@ -0,0 +1,52 @@
+package com.managersys.controller;
+
+import com.managersys.dto.CustomerDTO;
+import com.managersys.dto.MergeCandidateDTO;
+import com.managersys.service.DuplicateCustomerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/customers/merge-candidates")
+@Tag(name = "Customer Merge", description = "Review and merge likely duplicate customers")
+public class MergeCandidateController {
+
+    private final DuplicateCustomerService duplicateCustomerService;
+
+    public MergeCandidateController(DuplicateCustomerService duplicateCustomerService) {
+        this.duplicateCustomerService = duplicateCustomerService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Get pending merge candidates, most similar first")
+    public ResponseEntity<Page<MergeCandidateDTO>> getPendingCandidates(
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(duplicateCustomerService.getPendingCandidates(pageable));
+    }
+
+    @PostMapping("/{id}/merge")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Merge the pair, moving orders and schedules to the surviving customer")
+    public ResponseEntity<CustomerDTO> mergeCandidate(
+            @PathVariable Long id,
+            @Parameter(description = "Customer to keep (defaults to the older one)")
+            @RequestParam(required = false) Long survivorId) {
+        return ResponseEntity.ok(duplicateCustomerService.mergeCandidate(id, survivorId));
+    }
+
+    @PostMapping("/{id}/dismiss")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Mark the pair as not a duplicate")
+    public ResponseEntity<Void> dismissCandidate(@PathVariable Long id) {
+        duplicateCustomerService.dismissCandidate(id);
+        return ResponseEntity.noContent().build();
+    }
+}
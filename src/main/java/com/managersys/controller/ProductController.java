@@ -1,6 +1,9 @@
 package com.managersys.controller;
 
+import com.managersys.dto.BulkStockAdjustmentRequestDTO;
 import com.managersys.dto.ProductDTO;
+import com.managersys.dto.ProductListDTO;
+import com.managersys.dto.StockAdjustmentResultDTO;
 import com.managersys.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -41,7 +44,7 @@ public class ProductController {
     @GetMapping
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Get all products with pagination")
-    public ResponseEntity<Page<ProductDTO>> getAllProducts(
+    public ResponseEntity<Page<ProductListDTO>> getAllProducts(
             @PageableDefault(size = 20) Pageable pageable) {
         return ResponseEntity.ok(productService.getAllProducts(pageable));
     }
@@ -88,4 +91,12 @@ public class ProductController {
         productService.updateStock(id, quantity);
         return ResponseEntity.ok().build();
     }
+
+    @PatchMapping("/stock")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Apply bulk stock adjustments (e.g. warehouse cycle counts)")
+    public ResponseEntity<List<StockAdjustmentResultDTO>> bulkAdjustStock(
+            @Valid @RequestBody BulkStockAdjustmentRequestDTO request) {
+        return ResponseEntity.ok(productService.bulkAdjustStock(request.getAdjustments()));
+    }
 }
@@ -0,0 +1,32 @@
+package com.managersys.controller;
+
+import com.managersys.dto.SupplierReplenishmentDTO;
+import com.managersys.service.ReplenishmentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/replenishment")
+@Tag(name = "Replenishment", description = "Purchase suggestions computed from sales velocity")
+public class ReplenishmentController {
+
+    private final ReplenishmentService replenishmentService;
+
+    public ReplenishmentController(ReplenishmentService replenishmentService) {
+        this.replenishmentService = replenishmentService;
+    }
+
+    @GetMapping("/suppliers")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Get suggested purchase quantities grouped per supplier")
+    public ResponseEntity<Page<SupplierReplenishmentDTO>> getSuggestionsBySupplier(
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(replenishmentService.getSuggestionsBySupplier(pageable));
+    }
+}
@@ -1,6 +1,7 @@
 package com.managersys.controller;
 
 import com.managersys.dto.SaleOrderDTO;
+import com.managersys.dto.SaleOrderListDTO;
 import com.managersys.service.SaleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -62,7 +63,7 @@ public class SaleController {
     @GetMapping
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Get all sale orders with pagination and optional filters")
-    public ResponseEntity<Page<SaleOrderDTO>> getAllSaleOrders(
+    public ResponseEntity<Page<SaleOrderListDTO>> getAllSaleOrders(
             @RequestParam(required = false) Long customerId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
@@ -0,0 +1,46 @@
+package com.managersys.controller;
+
+import com.managersys.dto.ServiceStatsDTO;
+import com.managersys.service.ServiceAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/service-stats")
+@Tag(name = "Service Stats", description = "Revenue, completed appointments and ratings per service")
+public class ServiceStatsController {
+
+    private static final int MAX_STATS_PAGE_SIZE = 100;
+
+    private final ServiceAnalyticsService serviceAnalyticsService;
+
+    public ServiceStatsController(ServiceAnalyticsService serviceAnalyticsService) {
+        this.serviceAnalyticsService = serviceAnalyticsService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Get services ranked by revenue, completed appointments or average rating over a date range")
+    public ResponseEntity<Page<ServiceStatsDTO>> getServiceStats(
+            @Parameter(description = "First day (defaults to the configured window before 'to')")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (defaults to today)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "REVENUE") ServiceStatsDTO.Metric rankBy,
+            @PageableDefault(size = 20) Pageable pageable) {
+        if (pageable.getPageSize() > MAX_STATS_PAGE_SIZE) {
+            throw new IllegalArgumentException("Size must not exceed " + MAX_STATS_PAGE_SIZE);
+        }
+        return ResponseEntity.ok(serviceAnalyticsService.getServiceStats(from, to, rankBy, pageable));
+    }
+}
@@ -1,16 +1,21 @@
 package com.managersys.controller;
 
 import com.managersys.dto.SupplierDTO;
+import com.managersys.dto.SupplierScorecardDTO;
+import com.managersys.service.SupplierScorecardService;
 import com.managersys.service.SupplierService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -18,10 +23,15 @@ import java.util.List;
 @Tag(name = "Suppliers", description = "Supplier management APIs")
 public class SupplierController {
 
+    private static final int MAX_WITH_PRODUCTS_PAGE_SIZE = 100;
+    private static final int MAX_SCORECARD_PAGE_SIZE = 100;
+
     private final SupplierService supplierService;
+    private final SupplierScorecardService supplierScorecardService;
 
-    public SupplierController(SupplierService supplierService) {
+    public SupplierController(SupplierService supplierService, SupplierScorecardService supplierScorecardService) {
         this.supplierService = supplierService;
+        this.supplierScorecardService = supplierScorecardService;
     }
 
     @PostMapping
@@ -61,6 +71,33 @@ public class SupplierController {
         return ResponseEntity.ok(supplierService.getSuppliersWithProducts());
     }
 
+    @GetMapping("/with-products/paged")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get suppliers that have products, one page at a time, each with its first product ids and product count")
+    public ResponseEntity<Page<SupplierDTO>> getSuppliersWithProductsPaged(
+            @PageableDefault(size = 20) Pageable pageable) {
+        if (pageable.getPageSize() > MAX_WITH_PRODUCTS_PAGE_SIZE) {
+            throw new IllegalArgumentException("Size must not exceed " + MAX_WITH_PRODUCTS_PAGE_SIZE);
+        }
+        return ResponseEntity.ok(supplierService.getSuppliersWithProducts(pageable));
+    }
+
+    @GetMapping("/scorecards")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Get suppliers ranked by revenue, units sold, sell-through or stockouts over a date range")
+    public ResponseEntity<Page<SupplierScorecardDTO>> getScorecards(
+            @Parameter(description = "First day (defaults to the configured window before 'to')")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (defaults to today)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "REVENUE") SupplierScorecardDTO.Metric rankBy,
+            @PageableDefault(size = 20) Pageable pageable) {
+        if (pageable.getPageSize() > MAX_SCORECARD_PAGE_SIZE) {
+            throw new IllegalArgumentException("Size must not exceed " + MAX_SCORECARD_PAGE_SIZE);
+        }
+        return ResponseEntity.ok(supplierScorecardService.getScorecards(from, to, rankBy, pageable));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @Operation(summary = "Update a supplier")
@@ -0,0 +1,157 @@
+package com.managersys.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Services open for online booking, grouped by category. Built once per
+ * catalog change and served as pre-serialized JSON.
+ */
+public class BookingCatalogDTO {
+
+    private List<CategoryEntryDTO> categories;
+
+    private List<ServiceEntryDTO> uncategorized;
+
+    public BookingCatalogDTO() {
+    }
+
+    public BookingCatalogDTO(List<CategoryEntryDTO> categories, List<ServiceEntryDTO> uncategorized) {
+        this.categories = categories;
+        this.uncategorized = uncategorized;
+    }
+
+    public List<CategoryEntryDTO> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(List<CategoryEntryDTO> categories) {
+        this.categories = categories;
+    }
+
+    public List<ServiceEntryDTO> getUncategorized() {
+        return uncategorized;
+    }
+
+    public void setUncategorized(List<ServiceEntryDTO> uncategorized) {
+        this.uncategorized = uncategorized;
+    }
+
+    public static class CategoryEntryDTO {
+
+        private Long id;
+
+        private String name;
+
+        private List<ServiceEntryDTO> services;
+
+        public CategoryEntryDTO() {
+        }
+
+        public CategoryEntryDTO(Long id, String name, List<ServiceEntryDTO> services) {
+            this.id = id;
+            this.name = name;
+            this.services = services;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<ServiceEntryDTO> getServices() {
+            return services;
+        }
+
+        public void setServices(List<ServiceEntryDTO> services) {
+            this.services = services;
+        }
+    }
+
+    public static class ServiceEntryDTO {
+
+        private Long id;
+
+        private String name;
+
+        private BigDecimal price;
+
+        private Integer durationMinutes;
+
+        private boolean depositRequired;
+
+        private BigDecimal depositAmount;
+
+        public ServiceEntryDTO() {
+        }
+
+        public ServiceEntryDTO(Long id, String name, BigDecimal price, Integer durationMinutes,
+                               boolean depositRequired, BigDecimal depositAmount) {
+            this.id = id;
+            this.name = name;
+            this.price = price;
+            this.durationMinutes = durationMinutes;
+            this.depositRequired = depositRequired;
+            this.depositAmount = depositAmount;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        public void setPrice(BigDecimal price) {
+            this.price = price;
+        }
+
+        public Integer getDurationMinutes() {
+            return durationMinutes;
+        }
+
+        public void setDurationMinutes(Integer durationMinutes) {
+            this.durationMinutes = durationMinutes;
+        }
+
+        public boolean isDepositRequired() {
+            return depositRequired;
+        }
+
+        public void setDepositRequired(boolean depositRequired) {
+            this.depositRequired = depositRequired;
+        }
+
+        public BigDecimal getDepositAmount() {
+            return depositAmount;
+        }
+
+        public void setDepositAmount(BigDecimal depositAmount) {
+            this.depositAmount = depositAmount;
+        }
+    }
+}
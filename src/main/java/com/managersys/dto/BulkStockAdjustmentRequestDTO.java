@@ -0,0 +1,36 @@
+package com.managersys.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class BulkStockAdjustmentRequestDTO {
+
+    @Valid
+    @NotEmpty(message = "At least one stock adjustment is required")
+    @Size(max = 20000, message = "A single request cannot exceed 20000 adjustments")
+    private List<StockAdjustmentDTO> adjustments;
+
+    public BulkStockAdjustmentRequestDTO() {
+    }
+
+    public BulkStockAdjustmentRequestDTO(List<StockAdjustmentDTO> adjustments) {
+        this.adjustments = adjustments;
+    }
+
+    public List<StockAdjustmentDTO> getAdjustments() {
+        return adjustments;
+    }
+
+    public void setAdjustments(List<StockAdjustmentDTO> adjustments) {
+        this.adjustments = adjustments;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkStockAdjustmentRequestDTO{" +
+               "adjustments=" + (adjustments != null ? adjustments.size() : 0) +
+               '}';
+    }
+}
@@ -0,0 +1,126 @@
+package com.managersys.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class CategoryTreeNodeDTO {
+
+    private Long id;
+
+    private String name;
+
+    private String description;
+
+    private Integer displayOrder;
+
+    private String color;
+
+    private String icon;
+
+    // Active services in this category and all of its visible subcategories
+    private long serviceCount;
+
+    private List<CategoryTreeNodeDTO> children = new ArrayList<>();
+
+    public CategoryTreeNodeDTO() {
+    }
+
+    public CategoryTreeNodeDTO(Long id, String name, String description, Integer displayOrder,
+                               String color, String icon, long serviceCount) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.displayOrder = displayOrder;
+        this.color = color;
+        this.icon = icon;
+        this.serviceCount = serviceCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Integer getDisplayOrder() {
+        return displayOrder;
+    }
+
+    public void setDisplayOrder(Integer displayOrder) {
+        this.displayOrder = displayOrder;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public void setColor(String color) {
+        this.color = color;
+    }
+
+    public String getIcon() {
+        return icon;
+    }
+
+    public void setIcon(String icon) {
+        this.icon = icon;
+    }
+
+    public long getServiceCount() {
+        return serviceCount;
+    }
+
+    public void setServiceCount(long serviceCount) {
+        this.serviceCount = serviceCount;
+    }
+
+    public List<CategoryTreeNodeDTO> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<CategoryTreeNodeDTO> children) {
+        this.children = children;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CategoryTreeNodeDTO that = (CategoryTreeNodeDTO) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryTreeNodeDTO{" +
+               "id=" + id +
+               ", name='" + name + '\'' +
+               ", serviceCount=" + serviceCount +
+               ", children=" + (children != null ? children.size() : 0) +
+               '}';
+    }
+}
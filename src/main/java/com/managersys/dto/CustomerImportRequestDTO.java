@@ -0,0 +1,36 @@
+package com.managersys.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class CustomerImportRequestDTO {
+
+    @Valid
+    @NotEmpty(message = "At least one customer is required")
+    @Size(max = 20000, message = "A single import cannot exceed 20000 customers")
+    private List<CustomerDTO> customers;
+
+    public CustomerImportRequestDTO() {
+    }
+
+    public CustomerImportRequestDTO(List<CustomerDTO> customers) {
+        this.customers = customers;
+    }
+
+    public List<CustomerDTO> getCustomers() {
+        return customers;
+    }
+
+    public void setCustomers(List<CustomerDTO> customers) {
+        this.customers = customers;
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerImportRequestDTO{" +
+               "customers=" + (customers != null ? customers.size() : 0) +
+               '}';
+    }
+}
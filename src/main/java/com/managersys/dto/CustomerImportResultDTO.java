@@ -0,0 +1,127 @@
+package com.managersys.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class CustomerImportResultDTO {
+
+    private int received;
+
+    private int imported;
+
+    private List<SkippedLine> skipped = new ArrayList<>();
+
+    public enum Reason {
+        DUPLICATE_IN_REQUEST,
+        ALREADY_EXISTS
+    }
+
+    public CustomerImportResultDTO() {
+    }
+
+    public CustomerImportResultDTO(int received, int imported, List<SkippedLine> skipped) {
+        this.received = received;
+        this.imported = imported;
+        this.skipped = skipped;
+    }
+
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public List<SkippedLine> getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(List<SkippedLine> skipped) {
+        this.skipped = skipped;
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerImportResultDTO{" +
+               "received=" + received +
+               ", imported=" + imported +
+               ", skipped=" + (skipped != null ? skipped.size() : 0) +
+               '}';
+    }
+
+    public static class SkippedLine {
+
+        private int line;
+
+        private String email;
+
+        private String taxId;
+
+        private Reason reason;
+
+        public SkippedLine() {
+        }
+
+        public SkippedLine(int line, String email, String taxId, Reason reason) {
+            this.line = line;
+            this.email = email;
+            this.taxId = taxId;
+            this.reason = reason;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public void setLine(int line) {
+            this.line = line;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public String getTaxId() {
+            return taxId;
+        }
+
+        public void setTaxId(String taxId) {
+            this.taxId = taxId;
+        }
+
+        public Reason getReason() {
+            return reason;
+        }
+
+        public void setReason(Reason reason) {
+            this.reason = reason;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            SkippedLine that = (SkippedLine) o;
+            return line == that.line && reason == that.reason;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(line, reason);
+        }
+    }
+}
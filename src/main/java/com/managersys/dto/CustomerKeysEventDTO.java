@@ -0,0 +1,62 @@
+package com.managersys.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Broadcast to every node when customers are created or change their email or
+ * tax ID, so each node's existence filters learn the new (normalized) keys.
+ */
+public class CustomerKeysEventDTO {
+
+    private List<String> emails = new ArrayList<>();
+
+    private List<String> taxIds = new ArrayList<>();
+
+    public CustomerKeysEventDTO() {
+    }
+
+    public CustomerKeysEventDTO(List<String> emails, List<String> taxIds) {
+        this.emails = emails;
+        this.taxIds = taxIds;
+    }
+
+    public List<String> getEmails() {
+        return emails;
+    }
+
+    public void setEmails(List<String> emails) {
+        this.emails = emails;
+    }
+
+    public List<String> getTaxIds() {
+        return taxIds;
+    }
+
+    public void setTaxIds(List<String> taxIds) {
+        this.taxIds = taxIds;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CustomerKeysEventDTO that = (CustomerKeysEventDTO) o;
+        return Objects.equals(emails, that.emails) &&
+               Objects.equals(taxIds, that.taxIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(emails, taxIds);
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerKeysEventDTO{" +
+               "emails=" + emails.size() +
+               ", taxIds=" + taxIds.size() +
+               '}';
+    }
+}
@@ -0,0 +1,79 @@
+package com.managersys.dto;
+
+import com.managersys.model.CustomerLocation;
+import java.util.Objects;
+
+public class CustomerLocationDTO {
+
+    private String city;
+
+    private String state;
+
+    private Long customerCount;
+
+    public CustomerLocationDTO() {
+    }
+
+    public CustomerLocationDTO(String city, String state, Long customerCount) {
+        this.city = city;
+        this.state = state;
+        this.customerCount = customerCount;
+    }
+
+    public static CustomerLocationDTO fromEntity(CustomerLocation location) {
+        if (location == null) {
+            return null;
+        }
+        return new CustomerLocationDTO(
+                location.getCity(),
+                location.getState(),
+                location.getCustomerCount()
+        );
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public Long getCustomerCount() {
+        return customerCount;
+    }
+
+    public void setCustomerCount(Long customerCount) {
+        this.customerCount = customerCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CustomerLocationDTO that = (CustomerLocationDTO) o;
+        return Objects.equals(city, that.city) && Objects.equals(state, that.state);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(city, state);
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerLocationDTO{" +
+               "city='" + city + '\'' +
+               ", state='" + state + '\'' +
+               ", customerCount=" + customerCount +
+               '}';
+    }
+}
@@ -0,0 +1,112 @@
+package com.managersys.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+
+public class CustomerOverviewDTO {
+
+    private CustomerDTO customer;
+
+    private List<SaleOrderListDTO> recentOrders;
+
+    private List<ServiceScheduleDTO> upcomingSchedules;
+
+    private long paidOrderCount;
+
+    private BigDecimal lifetimeSpend;
+
+    private List<ServiceListDTO> servicesUsed;
+
+    public CustomerOverviewDTO() {
+    }
+
+    public CustomerOverviewDTO(CustomerDTO customer, List<SaleOrderListDTO> recentOrders,
+                               List<ServiceScheduleDTO> upcomingSchedules, long paidOrderCount,
+                               BigDecimal lifetimeSpend, List<ServiceListDTO> servicesUsed) {
+        this.customer = customer;
+        this.recentOrders = recentOrders;
+        this.upcomingSchedules = upcomingSchedules;
+        this.paidOrderCount = paidOrderCount;
+        this.lifetimeSpend = lifetimeSpend;
+        this.servicesUsed = servicesUsed;
+    }
+
+    public CustomerDTO getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(CustomerDTO customer) {
+        this.customer = customer;
+    }
+
+    public List<SaleOrderListDTO> getRecentOrders() {
+        return recentOrders;
+    }
+
+    public void setRecentOrders(List<SaleOrderListDTO> recentOrders) {
+        this.recentOrders = recentOrders;
+    }
+
+    public List<ServiceScheduleDTO> getUpcomingSchedules() {
+        return upcomingSchedules;
+    }
+
+    public void setUpcomingSchedules(List<ServiceScheduleDTO> upcomingSchedules) {
+        this.upcomingSchedules = upcomingSchedules;
+    }
+
+    public long getPaidOrderCount() {
+        return paidOrderCount;
+    }
+
+    public void setPaidOrderCount(long paidOrderCount) {
+        this.paidOrderCount = paidOrderCount;
+    }
+
+    public BigDecimal getLifetimeSpend() {
+        return lifetimeSpend;
+    }
+
+    public void setLifetimeSpend(BigDecimal lifetimeSpend) {
+        this.lifetimeSpend = lifetimeSpend;
+    }
+
+    public List<ServiceListDTO> getServicesUsed() {
+        return servicesUsed;
+    }
+
+    public void setServicesUsed(List<ServiceListDTO> servicesUsed) {
+        this.servicesUsed = servicesUsed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CustomerOverviewDTO that = (CustomerOverviewDTO) o;
+        return paidOrderCount == that.paidOrderCount &&
+               Objects.equals(customer, that.customer) &&
+               Objects.equals(recentOrders, that.recentOrders) &&
+               Objects.equals(upcomingSchedules, that.upcomingSchedules) &&
+               Objects.equals(lifetimeSpend, that.lifetimeSpend) &&
+               Objects.equals(servicesUsed, that.servicesUsed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(customer, recentOrders, upcomingSchedules, paidOrderCount, lifetimeSpend, servicesUsed);
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerOverviewDTO{" +
+               "customer=" + customer +
+               ", recentOrders=" + (recentOrders != null ? recentOrders.size() : 0) +
+               ", upcomingSchedules=" + (upcomingSchedules != null ? upcomingSchedules.size() : 0) +
+               ", paidOrderCount=" + paidOrderCount +
+               ", lifetimeSpend=" + lifetimeSpend +
+               ", servicesUsed=" + (servicesUsed != null ? servicesUsed.size() : 0) +
+               '}';
+    }
+}
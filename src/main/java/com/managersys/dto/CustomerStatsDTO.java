@@ -0,0 +1,166 @@
+package com.managersys.dto;
+
+import com.managersys.model.CustomerStats;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public class CustomerStatsDTO {
+
+    private Long customerId;
+
+    private String customerName;
+
+    private String customerEmail;
+
+    private Integer orderCount;
+
+    private BigDecimal totalSpend;
+
+    private LocalDateTime firstOrderAt;
+
+    private LocalDateTime lastOrderAt;
+
+    private Short recencyScore;
+
+    private Short frequencyScore;
+
+    private Short monetaryScore;
+
+    private CustomerStats.Segment segment;
+
+    public CustomerStatsDTO() {
+    }
+
+    public static CustomerStatsDTO fromEntity(CustomerStats stats) {
+        if (stats == null) {
+            return null;
+        }
+        CustomerStatsDTO dto = new CustomerStatsDTO();
+        dto.setCustomerId(stats.getCustomerId());
+        if (stats.getCustomer() != null) {
+            dto.setCustomerName(stats.getCustomer().getName());
+            dto.setCustomerEmail(stats.getCustomer().getEmail());
+        }
+        dto.setOrderCount(stats.getOrderCount());
+        dto.setTotalSpend(stats.getTotalSpend());
+        dto.setFirstOrderAt(stats.getFirstOrderAt());
+        dto.setLastOrderAt(stats.getLastOrderAt());
+        dto.setRecencyScore(stats.getRecencyScore());
+        dto.setFrequencyScore(stats.getFrequencyScore());
+        dto.setMonetaryScore(stats.getMonetaryScore());
+        dto.setSegment(stats.getSegment());
+        return dto;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public void setCustomerName(String customerName) {
+        this.customerName = customerName;
+    }
+
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    public void setCustomerEmail(String customerEmail) {
+        this.customerEmail = customerEmail;
+    }
+
+    public Integer getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(Integer orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public BigDecimal getTotalSpend() {
+        return totalSpend;
+    }
+
+    public void setTotalSpend(BigDecimal totalSpend) {
+        this.totalSpend = totalSpend;
+    }
+
+    public LocalDateTime getFirstOrderAt() {
+        return firstOrderAt;
+    }
+
+    public void setFirstOrderAt(LocalDateTime firstOrderAt) {
+        this.firstOrderAt = firstOrderAt;
+    }
+
+    public LocalDateTime getLastOrderAt() {
+        return lastOrderAt;
+    }
+
+    public void setLastOrderAt(LocalDateTime lastOrderAt) {
+        this.lastOrderAt = lastOrderAt;
+    }
+
+    public Short getRecencyScore() {
+        return recencyScore;
+    }
+
+    public void setRecencyScore(Short recencyScore) {
+        this.recencyScore = recencyScore;
+    }
+
+    public Short getFrequencyScore() {
+        return frequencyScore;
+    }
+
+    public void setFrequencyScore(Short frequencyScore) {
+        this.frequencyScore = frequencyScore;
+    }
+
+    public Short getMonetaryScore() {
+        return monetaryScore;
+    }
+
+    public void setMonetaryScore(Short monetaryScore) {
+        this.monetaryScore = monetaryScore;
+    }
+
+    public CustomerStats.Segment getSegment() {
+        return segment;
+    }
+
+    public void setSegment(CustomerStats.Segment segment) {
+        this.segment = segment;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CustomerStatsDTO that = (CustomerStatsDTO) o;
+        return Objects.equals(customerId, that.customerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(customerId);
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerStatsDTO{" +
+               "customerId=" + customerId +
+               ", orderCount=" + orderCount +
+               ", totalSpend=" + totalSpend +
+               ", segment=" + segment +
+               '}';
+    }
+}
@@ -0,0 +1,103 @@
+package com.managersys.dto;
+
+import com.managersys.model.Customer;
+import java.util.Objects;
+
+public class CustomerSuggestionDTO {
+
+    private Long id;
+
+    private String name;
+
+    private String email;
+
+    private String phone;
+
+    private String taxId;
+
+    public CustomerSuggestionDTO() {
+    }
+
+    public CustomerSuggestionDTO(Long id, String name, String email, String phone, String taxId) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.phone = phone;
+        this.taxId = taxId;
+    }
+
+    public static CustomerSuggestionDTO fromEntity(Customer customer) {
+        if (customer == null) {
+            return null;
+        }
+        return new CustomerSuggestionDTO(
+                customer.getId(),
+                customer.getName(),
+                customer.getEmail(),
+                customer.getPhone(),
+                customer.getTaxId()
+        );
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public String getTaxId() {
+        return taxId;
+    }
+
+    public void setTaxId(String taxId) {
+        this.taxId = taxId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CustomerSuggestionDTO that = (CustomerSuggestionDTO) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerSuggestionDTO{" +
+               "id=" + id +
+               ", name='" + name + '\'' +
+               ", email='" + email + '\'' +
+               '}';
+    }
+}
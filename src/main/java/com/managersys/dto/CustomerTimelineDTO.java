@@ -0,0 +1,65 @@
+package com.managersys.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One page of a customer's activity, newest first. Pass {@code nextCursor}
+ * back as {@code cursor} to fetch the following page; it is null on the last
+ * page.
+ */
+public class CustomerTimelineDTO {
+
+    private List<CustomerTimelineEventDTO> events;
+
+    private String nextCursor;
+
+    public CustomerTimelineDTO() {
+    }
+
+    public CustomerTimelineDTO(List<CustomerTimelineEventDTO> events, String nextCursor) {
+        this.events = events;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<CustomerTimelineEventDTO> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<CustomerTimelineEventDTO> events) {
+        this.events = events;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isLast() {
+        return nextCursor == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CustomerTimelineDTO that = (CustomerTimelineDTO) o;
+        return Objects.equals(events, that.events) && Objects.equals(nextCursor, that.nextCursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(events, nextCursor);
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerTimelineDTO{" +
+               "size=" + (events != null ? events.size() : 0) +
+               ", nextCursor='" + nextCursor + '\'' +
+               '}';
+    }
+}
@@ -0,0 +1,122 @@
+package com.managersys.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public class CustomerTimelineEventDTO {
+
+    // Declaration order breaks ties between events at the same instant
+    public enum Type {
+        ORDER,
+        APPOINTMENT,
+        APPOINTMENT_CANCELLED
+    }
+
+    private Type type;
+
+    private Long referenceId;
+
+    private LocalDateTime occurredAt;
+
+    private String status;
+
+    private String title;
+
+    private String detail;
+
+    private BigDecimal amount;
+
+    public CustomerTimelineEventDTO() {
+    }
+
+    public CustomerTimelineEventDTO(Type type, Long referenceId, LocalDateTime occurredAt, String status,
+                                    String title, String detail, BigDecimal amount) {
+        this.type = type;
+        this.referenceId = referenceId;
+        this.occurredAt = occurredAt;
+        this.status = status;
+        this.title = title;
+        this.detail = detail;
+        this.amount = amount;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Long getReferenceId() {
+        return referenceId;
+    }
+
+    public void setReferenceId(Long referenceId) {
+        this.referenceId = referenceId;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public void setDetail(String detail) {
+        this.detail = detail;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CustomerTimelineEventDTO that = (CustomerTimelineEventDTO) o;
+        return type == that.type && Objects.equals(referenceId, that.referenceId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, referenceId);
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerTimelineEventDTO{" +
+               "type=" + type +
+               ", referenceId=" + referenceId +
+               ", occurredAt=" + occurredAt +
+               ", status='" + status + '\'' +
+               '}';
+    }
+}
@@ -0,0 +1,87 @@
+package com.managersys.dto;
+
+import java.util.Objects;
+
+/**
+ * Broadcast to every node when an employee is enabled or their role, password
+ * or token version changes, so their in-memory token-version tables and
+ * cached user details stay current.
+ */
+public class EmployeeTokenEventDTO {
+
+    private Long employeeId;
+
+    private String email;
+
+    private int tokenVersion;
+
+    private boolean enabled;
+
+    public EmployeeTokenEventDTO() {
+    }
+
+    public EmployeeTokenEventDTO(Long employeeId, String email, int tokenVersion, boolean enabled) {
+        this.employeeId = employeeId;
+        this.email = email;
+        this.tokenVersion = tokenVersion;
+        this.enabled = enabled;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(int tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmployeeTokenEventDTO that = (EmployeeTokenEventDTO) o;
+        return tokenVersion == that.tokenVersion &&
+               enabled == that.enabled &&
+               Objects.equals(employeeId, that.employeeId) &&
+               Objects.equals(email, that.email);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(employeeId, email, tokenVersion, enabled);
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeeTokenEventDTO{" +
+               "employeeId=" + employeeId +
+               ", email='" + email + '\'' +
+               ", tokenVersion=" + tokenVersion +
+               ", enabled=" + enabled +
+               '}';
+    }
+}
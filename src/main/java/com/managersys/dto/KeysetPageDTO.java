@@ -0,0 +1,64 @@
+package com.managersys.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One page of a keyset (seek) pagination. Pass {@code nextAfterId} back as
+ * {@code afterId} to fetch the following page; it is null on the last page.
+ */
+public class KeysetPageDTO<T> {
+
+    private List<T> content;
+
+    private Long nextAfterId;
+
+    public KeysetPageDTO() {
+    }
+
+    public KeysetPageDTO(List<T> content, Long nextAfterId) {
+        this.content = content;
+        this.nextAfterId = nextAfterId;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public Long getNextAfterId() {
+        return nextAfterId;
+    }
+
+    public void setNextAfterId(Long nextAfterId) {
+        this.nextAfterId = nextAfterId;
+    }
+
+    public boolean isLast() {
+        return nextAfterId == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        KeysetPageDTO<?> that = (KeysetPageDTO<?>) o;
+        return Objects.equals(content, that.content) && Objects.equals(nextAfterId, that.nextAfterId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(content, nextAfterId);
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetPageDTO{" +
+               "size=" + (content != null ? content.size() : 0) +
+               ", nextAfterId=" + nextAfterId +
+               '}';
+    }
+}
@@ -0,0 +1,110 @@
+package com.managersys.dto;
+
+import com.managersys.model.MergeCandidate;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public class MergeCandidateDTO {
+
+    private Long id;
+
+    private BigDecimal score;
+
+    private MergeCandidate.Status status;
+
+    private LocalDateTime detectedAt;
+
+    private CustomerSuggestionDTO customer;
+
+    private CustomerSuggestionDTO duplicate;
+
+    public MergeCandidateDTO() {
+    }
+
+    public static MergeCandidateDTO fromEntity(MergeCandidate candidate,
+                                               CustomerSuggestionDTO customer,
+                                               CustomerSuggestionDTO duplicate) {
+        if (candidate == null) {
+            return null;
+        }
+        MergeCandidateDTO dto = new MergeCandidateDTO();
+        dto.setId(candidate.getId());
+        dto.setScore(candidate.getScore());
+        dto.setStatus(candidate.getStatus());
+        dto.setDetectedAt(candidate.getDetectedAt());
+        dto.setCustomer(customer);
+        dto.setDuplicate(duplicate);
+        return dto;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public BigDecimal getScore() {
+        return score;
+    }
+
+    public void setScore(BigDecimal score) {
+        this.score = score;
+    }
+
+    public MergeCandidate.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(MergeCandidate.Status status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getDetectedAt() {
+        return detectedAt;
+    }
+
+    public void setDetectedAt(LocalDateTime detectedAt) {
+        this.detectedAt = detectedAt;
+    }
+
+    public CustomerSuggestionDTO getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(CustomerSuggestionDTO customer) {
+        this.customer = customer;
+    }
+
+    public CustomerSuggestionDTO getDuplicate() {
+        return duplicate;
+    }
+
+    public void setDuplicate(CustomerSuggestionDTO duplicate) {
+        this.duplicate = duplicate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MergeCandidateDTO that = (MergeCandidateDTO) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "MergeCandidateDTO{" +
+               "id=" + id +
+               ", score=" + score +
+               ", status=" + status +
+               '}';
+    }
+}
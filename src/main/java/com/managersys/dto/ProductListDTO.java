@@ -0,0 +1,120 @@
+package com.managersys.dto;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Compact product row for list pages, filled by a JPQL constructor
+ * expression so the supplier name comes from the same query.
+ */
+public class ProductListDTO {
+
+    private Long id;
+
+    private String name;
+
+    private String sku;
+
+    private BigDecimal price;
+
+    private Integer stockQuantity;
+
+    private Long supplierId;
+
+    private String supplierName;
+
+    public ProductListDTO() {
+    }
+
+    public ProductListDTO(Long id, String name, String sku, BigDecimal price, Integer stockQuantity, Long supplierId, String supplierName) {
+        this.id = id;
+        this.name = name;
+        this.sku = sku;
+        this.price = price;
+        this.stockQuantity = stockQuantity;
+        this.supplierId = supplierId;
+        this.supplierName = supplierName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public Integer getStockQuantity() {
+        return stockQuantity;
+    }
+
+    public void setStockQuantity(Integer stockQuantity) {
+        this.stockQuantity = stockQuantity;
+    }
+
+    public Long getSupplierId() {
+        return supplierId;
+    }
+
+    public void setSupplierId(Long supplierId) {
+        this.supplierId = supplierId;
+    }
+
+    public String getSupplierName() {
+        return supplierName;
+    }
+
+    public void setSupplierName(String supplierName) {
+        this.supplierName = supplierName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProductListDTO that = (ProductListDTO) o;
+        return Objects.equals(id, that.id) &&
+               Objects.equals(sku, that.sku);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, sku);
+    }
+
+    @Override
+    public String toString() {
+        return "ProductListDTO{" +
+               "id=" + id +
+               ", name='" + name + '\'' +
+               ", sku='" + sku + '\'' +
+               ", price=" + price +
+               ", stockQuantity=" + stockQuantity +
+               ", supplierName='" + supplierName + '\'' +
+               '}';
+    }
+}
@@ -0,0 +1,106 @@
+package com.managersys.dto;
+
+import com.managersys.model.ProductStock;
+import java.util.Objects;
+
+public class ProductStockDTO {
+
+    private Long productId;
+
+    private Long locationId;
+
+    private String locationCode;
+
+    private String locationName;
+
+    private Integer quantity;
+
+    public ProductStockDTO() {
+    }
+
+    public ProductStockDTO(Long productId, Long locationId, String locationCode, String locationName, Integer quantity) {
+        this.productId = productId;
+        this.locationId = locationId;
+        this.locationCode = locationCode;
+        this.locationName = locationName;
+        this.quantity = quantity;
+    }
+
+    public static ProductStockDTO fromEntity(ProductStock stock) {
+        if (stock == null) {
+            return null;
+        }
+        return new ProductStockDTO(
+                stock.getId().getProductId(),
+                stock.getId().getLocationId(),
+                stock.getLocation() != null ? stock.getLocation().getCode() : null,
+                stock.getLocation() != null ? stock.getLocation().getName() : null,
+                stock.getQuantity()
+        );
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Long getLocationId() {
+        return locationId;
+    }
+
+    public void setLocationId(Long locationId) {
+        this.locationId = locationId;
+    }
+
+    public String getLocationCode() {
+        return locationCode;
+    }
+
+    public void setLocationCode(String locationCode) {
+        this.locationCode = locationCode;
+    }
+
+    public String getLocationName() {
+        return locationName;
+    }
+
+    public void setLocationName(String locationName) {
+        this.locationName = locationName;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProductStockDTO that = (ProductStockDTO) o;
+        return Objects.equals(productId, that.productId) &&
+               Objects.equals(locationId, that.locationId) &&
+               Objects.equals(quantity, that.quantity);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(productId, locationId, quantity);
+    }
+
+    @Override
+    public String toString() {
+        return "ProductStockDTO{" +
+               "productId=" + productId +
+               ", locationId=" + locationId +
+               ", locationCode='" + locationCode + '\'' +
+               ", quantity=" + quantity +
+               '}';
+    }
+}
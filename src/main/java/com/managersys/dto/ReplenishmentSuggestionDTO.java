@@ -0,0 +1,157 @@
+package com.managersys.dto;
+
+import com.managersys.model.ReplenishmentSuggestion;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public class ReplenishmentSuggestionDTO {
+
+    private Long productId;
+
+    private String productName;
+
+    private String sku;
+
+    private Long unitsSold;
+
+    private BigDecimal dailyVelocity;
+
+    private Integer stockQuantity;
+
+    private BigDecimal daysOfCover;
+
+    private Integer suggestedQuantity;
+
+    private LocalDateTime computedAt;
+
+    public ReplenishmentSuggestionDTO() {
+    }
+
+    public ReplenishmentSuggestionDTO(Long productId, String productName, String sku, Long unitsSold, BigDecimal dailyVelocity, Integer stockQuantity, BigDecimal daysOfCover, Integer suggestedQuantity, LocalDateTime computedAt) {
+        this.productId = productId;
+        this.productName = productName;
+        this.sku = sku;
+        this.unitsSold = unitsSold;
+        this.dailyVelocity = dailyVelocity;
+        this.stockQuantity = stockQuantity;
+        this.daysOfCover = daysOfCover;
+        this.suggestedQuantity = suggestedQuantity;
+        this.computedAt = computedAt;
+    }
+
+    public static ReplenishmentSuggestionDTO fromEntity(ReplenishmentSuggestion suggestion) {
+        if (suggestion == null) {
+            return null;
+        }
+        return new ReplenishmentSuggestionDTO(
+                suggestion.getProductId(),
+                suggestion.getProductName(),
+                suggestion.getSku(),
+                suggestion.getUnitsSold(),
+                suggestion.getDailyVelocity(),
+                suggestion.getStockQuantity(),
+                suggestion.getDaysOfCover(),
+                suggestion.getSuggestedQuantity(),
+                suggestion.getComputedAt()
+        );
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public Long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public void setUnitsSold(Long unitsSold) {
+        this.unitsSold = unitsSold;
+    }
+
+    public BigDecimal getDailyVelocity() {
+        return dailyVelocity;
+    }
+
+    public void setDailyVelocity(BigDecimal dailyVelocity) {
+        this.dailyVelocity = dailyVelocity;
+    }
+
+    public Integer getStockQuantity() {
+        return stockQuantity;
+    }
+
+    public void setStockQuantity(Integer stockQuantity) {
+        this.stockQuantity = stockQuantity;
+    }
+
+    public BigDecimal getDaysOfCover() {
+        return daysOfCover;
+    }
+
+    public void setDaysOfCover(BigDecimal daysOfCover) {
+        this.daysOfCover = daysOfCover;
+    }
+
+    public Integer getSuggestedQuantity() {
+        return suggestedQuantity;
+    }
+
+    public void setSuggestedQuantity(Integer suggestedQuantity) {
+        this.suggestedQuantity = suggestedQuantity;
+    }
+
+    public LocalDateTime getComputedAt() {
+        return computedAt;
+    }
+
+    public void setComputedAt(LocalDateTime computedAt) {
+        this.computedAt = computedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ReplenishmentSuggestionDTO that = (ReplenishmentSuggestionDTO) o;
+        return Objects.equals(productId, that.productId) &&
+               Objects.equals(suggestedQuantity, that.suggestedQuantity);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(productId, suggestedQuantity);
+    }
+
+    @Override
+    public String toString() {
+        return "ReplenishmentSuggestionDTO{" +
+               "productId=" + productId +
+               ", sku='" + sku + '\'' +
+               ", dailyVelocity=" + dailyVelocity +
+               ", stockQuantity=" + stockQuantity +
+               ", daysOfCover=" + daysOfCover +
+               ", suggestedQuantity=" + suggestedQuantity +
+               '}';
+    }
+}
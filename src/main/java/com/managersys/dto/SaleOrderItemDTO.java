@@ -11,6 +11,9 @@ public class SaleOrderItemDTO {
     @NotNull(message = "Product ID is required")
     private Long productId;
 
+    // Location to take the stock from; picked by priority when omitted
+    private Long locationId;
+
     @NotBlank(message = "Product name is required")
     @Size(max = 200, message = "Product name cannot exceed 200 characters")
     private String productName;
@@ -72,6 +75,7 @@ public class SaleOrderItemDTO {
             item.getDiscountAmount(),
             item.getTotalAmount()
         );
+        dto.setLocationId(item.getLocation() != null ? item.getLocation().getId() : null);
         return dto;
     }
 
@@ -79,8 +83,6 @@ public class SaleOrderItemDTO {
     public SaleOrderItem toEntity() {
         SaleOrderItem item = new SaleOrderItem();
         item.setId(this.id);
-        item.setProductName(this.productName);
-        item.setProductDescription(this.productDescription);
         item.setUnitPrice(this.unitPrice);
         item.setQuantity(this.quantity);
         item.setDiscountPercentage(this.discountPercentage);
@@ -105,6 +107,14 @@ public class SaleOrderItemDTO {
         this.productId = productId;
     }
 
+    public Long getLocationId() {
+        return locationId;
+    }
+
+    public void setLocationId(Long locationId) {
+        this.locationId = locationId;
+    }
+
     public String getProductName() {
         return productName;
     }
@@ -0,0 +1,125 @@
+package com.managersys.dto;
+
+import com.managersys.model.SaleOrder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Compact sale order row for list pages, filled by a JPQL constructor
+ * expression; items (and their product descriptions) are only loaded for
+ * the order detail.
+ */
+public class SaleOrderListDTO {
+
+    private Long id;
+
+    private String orderNumber;
+
+    private Long customerId;
+
+    private String customerName;
+
+    private SaleOrder.Status status;
+
+    private LocalDateTime orderDate;
+
+    private BigDecimal finalAmount;
+
+    public SaleOrderListDTO() {
+    }
+
+    public SaleOrderListDTO(Long id, String orderNumber, Long customerId, String customerName,
+                            SaleOrder.Status status, LocalDateTime orderDate, BigDecimal finalAmount) {
+        this.id = id;
+        this.orderNumber = orderNumber;
+        this.customerId = customerId;
+        this.customerName = customerName;
+        this.status = status;
+        this.orderDate = orderDate;
+        this.finalAmount = finalAmount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getOrderNumber() {
+        return orderNumber;
+    }
+
+    public void setOrderNumber(String orderNumber) {
+        this.orderNumber = orderNumber;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public void setCustomerName(String customerName) {
+        this.customerName = customerName;
+    }
+
+    public SaleOrder.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(SaleOrder.Status status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getOrderDate() {
+        return orderDate;
+    }
+
+    public void setOrderDate(LocalDateTime orderDate) {
+        this.orderDate = orderDate;
+    }
+
+    public BigDecimal getFinalAmount() {
+        return finalAmount;
+    }
+
+    public void setFinalAmount(BigDecimal finalAmount) {
+        this.finalAmount = finalAmount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SaleOrderListDTO that = (SaleOrderListDTO) o;
+        return Objects.equals(id, that.id) &&
+               Objects.equals(orderNumber, that.orderNumber);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, orderNumber);
+    }
+
+    @Override
+    public String toString() {
+        return "SaleOrderListDTO{" +
+               "id=" + id +
+               ", orderNumber='" + orderNumber + '\'' +
+               ", customerName='" + customerName + '\'' +
+               ", status=" + status +
+               ", orderDate=" + orderDate +
+               ", finalAmount=" + finalAmount +
+               '}';
+    }
+}
@@ -0,0 +1,131 @@
+package com.managersys.dto;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Compact service row for list pages, filled by a JPQL constructor
+ * expression so the TEXT columns (description, preparation instructions,
+ * cancellation policy) are never read.
+ */
+public class ServiceListDTO {
+
+    private Long id;
+
+    private String name;
+
+    private BigDecimal price;
+
+    private Integer durationMinutes;
+
+    private boolean active;
+
+    private boolean onlineBookingAvailable;
+
+    private Long categoryId;
+
+    private String categoryName;
+
+    public ServiceListDTO() {
+    }
+
+    public ServiceListDTO(Long id, String name, BigDecimal price, Integer durationMinutes, boolean active,
+                          boolean onlineBookingAvailable, Long categoryId, String categoryName) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.durationMinutes = durationMinutes;
+        this.active = active;
+        this.onlineBookingAvailable = onlineBookingAvailable;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public Integer getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public void setDurationMinutes(Integer durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public boolean isOnlineBookingAvailable() {
+        return onlineBookingAvailable;
+    }
+
+    public void setOnlineBookingAvailable(boolean onlineBookingAvailable) {
+        this.onlineBookingAvailable = onlineBookingAvailable;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public void setCategoryName(String categoryName) {
+        this.categoryName = categoryName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ServiceListDTO that = (ServiceListDTO) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "ServiceListDTO{" +
+               "id=" + id +
+               ", name='" + name + '\'' +
+               ", price=" + price +
+               ", durationMinutes=" + durationMinutes +
+               ", categoryName='" + categoryName + '\'' +
+               '}';
+    }
+}
@@ -0,0 +1,134 @@
+package com.managersys.dto;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+public class ServiceStatsDTO {
+
+    public enum Metric {
+        REVENUE,
+        COMPLETED,
+        RATING
+    }
+
+    private long rank;
+
+    private Long serviceId;
+
+    private String serviceName;
+
+    private long completedCount;
+
+    private long paidCount;
+
+    private BigDecimal revenue;
+
+    // Null when none of the completed appointments was rated
+    private BigDecimal averageRating;
+
+    public ServiceStatsDTO() {
+    }
+
+    public ServiceStatsDTO(long rank, Long serviceId, String serviceName, long completedCount,
+                           long paidCount, BigDecimal revenue, BigDecimal averageRating) {
+        this.rank = rank;
+        this.serviceId = serviceId;
+        this.serviceName = serviceName;
+        this.completedCount = completedCount;
+        this.paidCount = paidCount;
+        this.revenue = revenue;
+        this.averageRating = averageRating;
+    }
+
+    public static ServiceStatsDTO fromRow(Object[] row) {
+        return new ServiceStatsDTO(
+                ((Number) row[0]).longValue(),
+                ((Number) row[1]).longValue(),
+                (String) row[2],
+                ((Number) row[3]).longValue(),
+                ((Number) row[4]).longValue(),
+                (BigDecimal) row[5],
+                (BigDecimal) row[6]);
+    }
+
+    public long getRank() {
+        return rank;
+    }
+
+    public void setRank(long rank) {
+        this.rank = rank;
+    }
+
+    public Long getServiceId() {
+        return serviceId;
+    }
+
+    public void setServiceId(Long serviceId) {
+        this.serviceId = serviceId;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public void setServiceName(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    public long getCompletedCount() {
+        return completedCount;
+    }
+
+    public void setCompletedCount(long completedCount) {
+        this.completedCount = completedCount;
+    }
+
+    public long getPaidCount() {
+        return paidCount;
+    }
+
+    public void setPaidCount(long paidCount) {
+        this.paidCount = paidCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    public BigDecimal getAverageRating() {
+        return averageRating;
+    }
+
+    public void setAverageRating(BigDecimal averageRating) {
+        this.averageRating = averageRating;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ServiceStatsDTO that = (ServiceStatsDTO) o;
+        return Objects.equals(serviceId, that.serviceId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(serviceId);
+    }
+
+    @Override
+    public String toString() {
+        return "ServiceStatsDTO{" +
+               "rank=" + rank +
+               ", serviceId=" + serviceId +
+               ", serviceName='" + serviceName + '\'' +
+               ", completedCount=" + completedCount +
+               ", revenue=" + revenue +
+               ", averageRating=" + averageRating +
+               '}';
+    }
+}
@@ -0,0 +1,102 @@
+package com.managersys.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import java.util.Objects;
+
+public class StockAdjustmentDTO {
+
+    // Either productId or sku identifies the product
+    private Long productId;
+
+    @Size(min = 3, max = 50, message = "SKU must be between 3 and 50 characters")
+    private String sku;
+
+    // Location being counted; the default location when omitted
+    private Long locationId;
+
+    // Either delta (relative change) or absoluteQuantity (counted quantity) is applied
+    private Integer delta;
+
+    @Min(value = 0, message = "Absolute quantity cannot be negative")
+    private Integer absoluteQuantity;
+
+    public StockAdjustmentDTO() {
+    }
+
+    public StockAdjustmentDTO(Long productId, String sku, Long locationId, Integer delta, Integer absoluteQuantity) {
+        this.productId = productId;
+        this.sku = sku;
+        this.locationId = locationId;
+        this.delta = delta;
+        this.absoluteQuantity = absoluteQuantity;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public Long getLocationId() {
+        return locationId;
+    }
+
+    public void setLocationId(Long locationId) {
+        this.locationId = locationId;
+    }
+
+    public Integer getDelta() {
+        return delta;
+    }
+
+    public void setDelta(Integer delta) {
+        this.delta = delta;
+    }
+
+    public Integer getAbsoluteQuantity() {
+        return absoluteQuantity;
+    }
+
+    public void setAbsoluteQuantity(Integer absoluteQuantity) {
+        this.absoluteQuantity = absoluteQuantity;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StockAdjustmentDTO that = (StockAdjustmentDTO) o;
+        return Objects.equals(productId, that.productId) &&
+               Objects.equals(sku, that.sku) &&
+               Objects.equals(locationId, that.locationId) &&
+               Objects.equals(delta, that.delta) &&
+               Objects.equals(absoluteQuantity, that.absoluteQuantity);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(productId, sku, locationId, delta, absoluteQuantity);
+    }
+
+    @Override
+    public String toString() {
+        return "StockAdjustmentDTO{" +
+               "productId=" + productId +
+               ", sku='" + sku + '\'' +
+               ", locationId=" + locationId +
+               ", delta=" + delta +
+               ", absoluteQuantity=" + absoluteQuantity +
+               '}';
+    }
+}
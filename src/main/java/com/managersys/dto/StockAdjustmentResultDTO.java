@@ -0,0 +1,125 @@
+package com.managersys.dto;
+
+import java.util.Objects;
+
+public class StockAdjustmentResultDTO {
+
+    private int line;
+
+    private Long productId;
+
+    private String sku;
+
+    private Long locationId;
+
+    private Integer previousQuantity;
+
+    private Integer newQuantity;
+
+    private Status status;
+
+    public enum Status {
+        APPLIED,
+        NOT_FOUND,
+        INSUFFICIENT_STOCK,
+        DUPLICATE
+    }
+
+    public StockAdjustmentResultDTO() {
+    }
+
+    public StockAdjustmentResultDTO(int line, Long productId, String sku, Long locationId, Integer previousQuantity, Integer newQuantity, Status status) {
+        this.line = line;
+        this.productId = productId;
+        this.sku = sku;
+        this.locationId = locationId;
+        this.previousQuantity = previousQuantity;
+        this.newQuantity = newQuantity;
+        this.status = status;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public void setLine(int line) {
+        this.line = line;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public Long getLocationId() {
+        return locationId;
+    }
+
+    public void setLocationId(Long locationId) {
+        this.locationId = locationId;
+    }
+
+    public Integer getPreviousQuantity() {
+        return previousQuantity;
+    }
+
+    public void setPreviousQuantity(Integer previousQuantity) {
+        this.previousQuantity = previousQuantity;
+    }
+
+    public Integer getNewQuantity() {
+        return newQuantity;
+    }
+
+    public void setNewQuantity(Integer newQuantity) {
+        this.newQuantity = newQuantity;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StockAdjustmentResultDTO that = (StockAdjustmentResultDTO) o;
+        return line == that.line &&
+               Objects.equals(productId, that.productId) &&
+               Objects.equals(locationId, that.locationId) &&
+               status == that.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(line, productId, locationId, status);
+    }
+
+    @Override
+    public String toString() {
+        return "StockAdjustmentResultDTO{" +
+               "line=" + line +
+               ", productId=" + productId +
+               ", sku='" + sku + '\'' +
+               ", locationId=" + locationId +
+               ", previousQuantity=" + previousQuantity +
+               ", newQuantity=" + newQuantity +
+               ", status=" + status +
+               '}';
+    }
+}
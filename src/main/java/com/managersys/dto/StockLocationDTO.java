@@ -0,0 +1,126 @@
+package com.managersys.dto;
+
+import com.managersys.model.StockLocation;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.Objects;
+
+public class StockLocationDTO {
+
+    private Long id;
+
+    @NotBlank(message = "Location code is required")
+    @Size(max = 20, message = "Code cannot exceed 20 characters")
+    private String code;
+
+    @NotBlank(message = "Location name is required")
+    @Size(min = 2, max = 100, message = "Name must be between 2 and 100 characters")
+    private String name;
+
+    @NotNull(message = "Location type is required")
+    private StockLocation.Type type;
+
+    @Min(value = 0, message = "Priority cannot be negative")
+    private Integer priority;
+
+    public StockLocationDTO() {
+    }
+
+    public StockLocationDTO(Long id, String code, String name, StockLocation.Type type, Integer priority) {
+        this.id = id;
+        this.code = code;
+        this.name = name;
+        this.type = type;
+        this.priority = priority;
+    }
+
+    public static StockLocationDTO fromEntity(StockLocation location) {
+        if (location == null) {
+            return null;
+        }
+        return new StockLocationDTO(
+                location.getId(),
+                location.getCode(),
+                location.getName(),
+                location.getType(),
+                location.getPriority()
+        );
+    }
+
+    public StockLocation toEntity() {
+        StockLocation location = new StockLocation();
+        location.setId(this.id);
+        location.setCode(this.code);
+        location.setName(this.name);
+        location.setType(this.type);
+        location.setPriority(this.priority != null ? this.priority : 0);
+        return location;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public StockLocation.Type getType() {
+        return type;
+    }
+
+    public void setType(StockLocation.Type type) {
+        this.type = type;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StockLocationDTO that = (StockLocationDTO) o;
+        return Objects.equals(id, that.id) &&
+               Objects.equals(code, that.code);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, code);
+    }
+
+    @Override
+    public String toString() {
+        return "StockLocationDTO{" +
+               "id=" + id +
+               ", code='" + code + '\'' +
+               ", name='" + name + '\'' +
+               ", type=" + type +
+               ", priority=" + priority +
+               '}';
+    }
+}
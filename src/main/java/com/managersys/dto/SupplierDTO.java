@@ -29,6 +29,9 @@ public class SupplierDTO {
     @Size(max = 500, message = "Address cannot exceed 500 characters")
     private String address;
     
+    // Paged listing only: productIds is capped per supplier and this is the full count
+    private Long productCount;
+
     private List<Long> productIds;
 
     public SupplierDTO() {
@@ -100,6 +103,14 @@ public class SupplierDTO {
     public void setProductIds(List<Long> productIds) {
         this.productIds = productIds;
     }
+
+    public Long getProductCount() {
+        return productCount;
+    }
+
+    public void setProductCount(Long productCount) {
+        this.productCount = productCount;
+    }
     
     // Equals and HashCode
     @Override
@@ -127,6 +138,7 @@ public class SupplierDTO {
                ", email='" + email + '\'' +
                ", phone='" + phone + '\'' +
                ", address='" + address + '\'' +
+               ", productCount=" + productCount +
                ", productIds=" + productIds +
                '}';
     }
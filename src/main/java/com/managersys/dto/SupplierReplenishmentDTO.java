@@ -0,0 +1,92 @@
+package com.managersys.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class SupplierReplenishmentDTO {
+
+    // Null for products without a supplier
+    private Long supplierId;
+
+    private String supplierName;
+
+    private long productCount;
+
+    private long totalSuggestedQuantity;
+
+    private List<ReplenishmentSuggestionDTO> items = new ArrayList<>();
+
+    public SupplierReplenishmentDTO() {
+    }
+
+    public SupplierReplenishmentDTO(Long supplierId, String supplierName, long productCount, long totalSuggestedQuantity) {
+        this.supplierId = supplierId;
+        this.supplierName = supplierName;
+        this.productCount = productCount;
+        this.totalSuggestedQuantity = totalSuggestedQuantity;
+    }
+
+    public Long getSupplierId() {
+        return supplierId;
+    }
+
+    public void setSupplierId(Long supplierId) {
+        this.supplierId = supplierId;
+    }
+
+    public String getSupplierName() {
+        return supplierName;
+    }
+
+    public void setSupplierName(String supplierName) {
+        this.supplierName = supplierName;
+    }
+
+    public long getProductCount() {
+        return productCount;
+    }
+
+    public void setProductCount(long productCount) {
+        this.productCount = productCount;
+    }
+
+    public long getTotalSuggestedQuantity() {
+        return totalSuggestedQuantity;
+    }
+
+    public void setTotalSuggestedQuantity(long totalSuggestedQuantity) {
+        this.totalSuggestedQuantity = totalSuggestedQuantity;
+    }
+
+    public List<ReplenishmentSuggestionDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ReplenishmentSuggestionDTO> items) {
+        this.items = items;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SupplierReplenishmentDTO that = (SupplierReplenishmentDTO) o;
+        return Objects.equals(supplierId, that.supplierId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(supplierId);
+    }
+
+    @Override
+    public String toString() {
+        return "SupplierReplenishmentDTO{" +
+               "supplierId=" + supplierId +
+               ", supplierName='" + supplierName + '\'' +
+               ", productCount=" + productCount +
+               ", totalSuggestedQuantity=" + totalSuggestedQuantity +
+               '}';
+    }
+}
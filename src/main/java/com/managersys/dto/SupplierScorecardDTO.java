@@ -0,0 +1,160 @@
+package com.managersys.dto;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+public class SupplierScorecardDTO {
+
+    public enum Metric {
+        REVENUE,
+        UNITS_SOLD,
+        SELL_THROUGH,
+        STOCKOUTS
+    }
+
+    private long rank;
+
+    private Long supplierId;
+
+    private String supplierName;
+
+    private BigDecimal revenue;
+
+    private long unitsSold;
+
+    private long orderCount;
+
+    private long stockoutCount;
+
+    private long unitsOnHand;
+
+    // Units sold over units sold plus units still on hand, 0 to 1
+    private BigDecimal sellThroughRate;
+
+    public SupplierScorecardDTO() {
+    }
+
+    public SupplierScorecardDTO(long rank, Long supplierId, String supplierName, BigDecimal revenue,
+                                long unitsSold, long orderCount, long stockoutCount, long unitsOnHand,
+                                BigDecimal sellThroughRate) {
+        this.rank = rank;
+        this.supplierId = supplierId;
+        this.supplierName = supplierName;
+        this.revenue = revenue;
+        this.unitsSold = unitsSold;
+        this.orderCount = orderCount;
+        this.stockoutCount = stockoutCount;
+        this.unitsOnHand = unitsOnHand;
+        this.sellThroughRate = sellThroughRate;
+    }
+
+    public static SupplierScorecardDTO fromRow(Object[] row) {
+        return new SupplierScorecardDTO(
+                ((Number) row[0]).longValue(),
+                ((Number) row[1]).longValue(),
+                (String) row[2],
+                (BigDecimal) row[3],
+                ((Number) row[4]).longValue(),
+                ((Number) row[5]).longValue(),
+                ((Number) row[6]).longValue(),
+                ((Number) row[7]).longValue(),
+                (BigDecimal) row[8]);
+    }
+
+    public long getRank() {
+        return rank;
+    }
+
+    public void setRank(long rank) {
+        this.rank = rank;
+    }
+
+    public Long getSupplierId() {
+        return supplierId;
+    }
+
+    public void setSupplierId(Long supplierId) {
+        this.supplierId = supplierId;
+    }
+
+    public String getSupplierName() {
+        return supplierName;
+    }
+
+    public void setSupplierName(String supplierName) {
+        this.supplierName = supplierName;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    public long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public void setUnitsSold(long unitsSold) {
+        this.unitsSold = unitsSold;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public long getStockoutCount() {
+        return stockoutCount;
+    }
+
+    public void setStockoutCount(long stockoutCount) {
+        this.stockoutCount = stockoutCount;
+    }
+
+    public long getUnitsOnHand() {
+        return unitsOnHand;
+    }
+
+    public void setUnitsOnHand(long unitsOnHand) {
+        this.unitsOnHand = unitsOnHand;
+    }
+
+    public BigDecimal getSellThroughRate() {
+        return sellThroughRate;
+    }
+
+    public void setSellThroughRate(BigDecimal sellThroughRate) {
+        this.sellThroughRate = sellThroughRate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SupplierScorecardDTO that = (SupplierScorecardDTO) o;
+        return Objects.equals(supplierId, that.supplierId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(supplierId);
+    }
+
+    @Override
+    public String toString() {
+        return "SupplierScorecardDTO{" +
+               "rank=" + rank +
+               ", supplierId=" + supplierId +
+               ", supplierName='" + supplierName + '\'' +
+               ", revenue=" + revenue +
+               ", unitsSold=" + unitsSold +
+               ", sellThroughRate=" + sellThroughRate +
+               '}';
+    }
+}
@@ -0,0 +1,22 @@
+package com.managersys.event;
+
+import com.managersys.dto.CustomerKeysEventDTO;
+import com.managersys.service.CustomerExistenceIndex;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CustomerKeysEventListener {
+
+    private final CustomerExistenceIndex customerExistenceIndex;
+
+    public CustomerKeysEventListener(CustomerExistenceIndex customerExistenceIndex) {
+        this.customerExistenceIndex = customerExistenceIndex;
+    }
+
+    // Every node has its own queue, so each one sees every insert (its own included)
+    @RabbitListener(queues = "#{customerKeysQueue.name}")
+    public void handleCustomerKeysEvent(CustomerKeysEventDTO event) {
+        customerExistenceIndex.recordKeys(event.getEmails(), event.getTaxIds());
+    }
+}
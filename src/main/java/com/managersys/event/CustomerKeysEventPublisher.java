@@ -0,0 +1,33 @@
+package com.managersys.event;
+
+import com.managersys.dto.CustomerKeysEventDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CustomerKeysEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerKeysEventPublisher.class);
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String customerKeysExchange;
+
+    public CustomerKeysEventPublisher(RabbitTemplate rabbitTemplate,
+                                      @Value("${rabbitmq.exchange.customer-keys}") String customerKeysExchange) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.customerKeysExchange = customerKeysExchange;
+    }
+
+    public void publish(CustomerKeysEventDTO event) {
+        try {
+            rabbitTemplate.convertAndSend(customerKeysExchange, "", event);
+        } catch (AmqpException e) {
+            // Other nodes catch up on their next filter rebuild
+            log.warn("Could not broadcast {}", event, e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.managersys.event;
 
+import com.managersys.dto.EmailMessageDTO;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
@@ -7,10 +8,10 @@ import org.springframework.stereotype.Component;
 public class EmailEventListener {
 
     @RabbitListener(queues = "${rabbitmq.queue.email}")
-    public void handleEmailEvent(String message) {
+    public void handleEmailEvent(EmailMessageDTO message) {
         // In a real application, this would send an email
         // For now, we'll just log the message
-        System.out.println("Sending email: " + message);
+        System.out.println("Sending email to " + message.getTo() + ": " + message.getSubject());
         
         // Here you would typically use a service like JavaMailSender
         // to send the actual email
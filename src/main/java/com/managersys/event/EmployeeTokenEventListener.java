@@ -0,0 +1,27 @@
+package com.managersys.event;
+
+import com.managersys.dto.EmployeeTokenEventDTO;
+import com.managersys.security.TokenVersionRegistry;
+import com.managersys.security.UserDetailsServiceImpl;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EmployeeTokenEventListener {
+
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final UserDetailsServiceImpl userDetailsService;
+
+    public EmployeeTokenEventListener(TokenVersionRegistry tokenVersionRegistry,
+                                      UserDetailsServiceImpl userDetailsService) {
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.userDetailsService = userDetailsService;
+    }
+
+    // Every node has its own queue, so each one sees every change (its own included)
+    @RabbitListener(queues = "#{employeeTokensQueue.name}")
+    public void handleEmployeeTokenEvent(EmployeeTokenEventDTO event) {
+        tokenVersionRegistry.apply(event.getEmployeeId(), event.getTokenVersion(), event.isEnabled());
+        userDetailsService.evict(event.getEmail());
+    }
+}
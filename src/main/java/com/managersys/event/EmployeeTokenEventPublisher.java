@@ -0,0 +1,58 @@
+package com.managersys.event;
+
+import com.managersys.dto.EmployeeTokenEventDTO;
+import com.managersys.model.Employee;
+import com.managersys.security.TokenVersionRegistry;
+import com.managersys.security.UserDetailsServiceImpl;
+import com.managersys.util.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EmployeeTokenEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeTokenEventPublisher.class);
+
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final RabbitTemplate rabbitTemplate;
+    private final String employeeTokensExchange;
+
+    public EmployeeTokenEventPublisher(TokenVersionRegistry tokenVersionRegistry,
+                                       UserDetailsServiceImpl userDetailsService,
+                                       RabbitTemplate rabbitTemplate,
+                                       @Value("${rabbitmq.exchange.employee-tokens}") String employeeTokensExchange) {
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.userDetailsService = userDetailsService;
+        this.rabbitTemplate = rabbitTemplate;
+        this.employeeTokensExchange = employeeTokensExchange;
+    }
+
+    /**
+     * Applies the employee's token version locally, drops their cached user
+     * details and broadcasts the change to the other nodes once the write
+     * commits.
+     * Every write to an employee's role, password or enabled flag must end
+     * here.
+     */
+    public void publishAfterCommit(Employee employee) {
+        EmployeeTokenEventDTO event = new EmployeeTokenEventDTO(
+                employee.getId(), employee.getEmail(), employee.getTokenVersion(), employee.isEnabled());
+        AfterCommit.run(() -> publish(event));
+    }
+
+    private void publish(EmployeeTokenEventDTO event) {
+        tokenVersionRegistry.apply(event.getEmployeeId(), event.getTokenVersion(), event.isEnabled());
+        userDetailsService.evict(event.getEmail());
+        try {
+            rabbitTemplate.convertAndSend(employeeTokensExchange, "", event);
+        } catch (AmqpException e) {
+            // Other nodes catch up on their next full reload and cache expiry
+            log.warn("Could not broadcast {}", event, e);
+        }
+    }
+}
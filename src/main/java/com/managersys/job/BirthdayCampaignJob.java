@@ -0,0 +1,36 @@
+package com.managersys.job;
+
+import com.managersys.service.BirthdayCampaignService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+public class BirthdayCampaignJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BirthdayCampaignJob.class);
+
+    private final BirthdayCampaignService birthdayCampaignService;
+    private final int daysAhead;
+
+    public BirthdayCampaignJob(BirthdayCampaignService birthdayCampaignService,
+                               @Value("${customers.birthdays.days-ahead}") int daysAhead) {
+        this.birthdayCampaignService = birthdayCampaignService;
+        this.daysAhead = daysAhead;
+    }
+
+    // Covers a single day per run. Runs on every node; customers are claimed per
+    // year before queueing, so each one is still greeted once
+    @Scheduled(cron = "${customers.birthdays.cron}")
+    public void queueUpcomingBirthdays() {
+        LocalDate birthday = LocalDate.now().plusDays(daysAhead);
+        long started = System.currentTimeMillis();
+        int queued = birthdayCampaignService.queueGreetings(birthday);
+        log.info("Queued {} birthday emails for {} in {} ms",
+                queued, birthday, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,40 @@
+package com.managersys.job;
+
+import com.managersys.service.BookingCatalog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BookingCatalogJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingCatalogJob.class);
+
+    private final BookingCatalog bookingCatalog;
+
+    public BookingCatalogJob(BookingCatalog bookingCatalog) {
+        this.bookingCatalog = bookingCatalog;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildCatalog() {
+        rebuild();
+    }
+
+    // Local writes rebuild the catalog on commit; this picks up writes made on other nodes
+    @Scheduled(initialDelayString = "${catalog.booking.rebuild-interval-millis}",
+               fixedDelayString = "${catalog.booking.rebuild-interval-millis}")
+    public void rebuildCatalog() {
+        rebuild();
+    }
+
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        int services = bookingCatalog.rebuild();
+        log.info("Built online booking catalog with {} services in {} ms",
+                services, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,39 @@
+package com.managersys.job;
+
+import com.managersys.service.CustomerExistenceIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CustomerExistenceIndexJob {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerExistenceIndexJob.class);
+
+    private final CustomerExistenceIndex customerExistenceIndex;
+
+    public CustomerExistenceIndexJob(CustomerExistenceIndex customerExistenceIndex) {
+        this.customerExistenceIndex = customerExistenceIndex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${customers.existence-filter.rebuild-interval-millis}",
+               fixedDelayString = "${customers.existence-filter.rebuild-interval-millis}")
+    public void rebuildIndex() {
+        rebuild();
+    }
+
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        int customers = customerExistenceIndex.rebuild();
+        log.info("Built customer existence filters from {} customers in {} ms",
+                customers, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,38 @@
+package com.managersys.job;
+
+import com.managersys.service.CustomerStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CustomerStatsJob {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerStatsJob.class);
+
+    private final CustomerStatsService customerStatsService;
+
+    public CustomerStatsJob(CustomerStatsService customerStatsService) {
+        this.customerStatsService = customerStatsService;
+    }
+
+    @Scheduled(cron = "${customers.stats.segment-cron}")
+    public void refreshSegments() {
+        long started = System.currentTimeMillis();
+        int customers = customerStatsService.refreshSegments();
+        log.info("Refreshed RFM segments for {} customers in {} ms",
+                customers, System.currentTimeMillis() - started);
+    }
+
+    // Totals are maintained as orders are paid and cancelled; the rebuild only
+    // corrects drift (e.g. rows changed outside the application)
+    @Scheduled(cron = "${customers.stats.rebuild-cron}")
+    public void rebuildStats() {
+        long started = System.currentTimeMillis();
+        int customers = customerStatsService.rebuildStats();
+        int scored = customerStatsService.refreshSegments();
+        log.info("Rebuilt stats for {} customers and scored {} in {} ms",
+                customers, scored, System.currentTimeMillis() - started);
+    }
+}
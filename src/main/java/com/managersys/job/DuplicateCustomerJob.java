@@ -0,0 +1,27 @@
+package com.managersys.job;
+
+import com.managersys.service.DuplicateCustomerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DuplicateCustomerJob {
+
+    private static final Logger log = LoggerFactory.getLogger(DuplicateCustomerJob.class);
+
+    private final DuplicateCustomerService duplicateCustomerService;
+
+    public DuplicateCustomerJob(DuplicateCustomerService duplicateCustomerService) {
+        this.duplicateCustomerService = duplicateCustomerService;
+    }
+
+    @Scheduled(cron = "${customers.duplicates.cron}")
+    public void detectDuplicates() {
+        long started = System.currentTimeMillis();
+        int candidates = duplicateCustomerService.detectDuplicates();
+        log.info("Found {} likely duplicate customer pairs in {} ms",
+                candidates, System.currentTimeMillis() - started);
+    }
+}
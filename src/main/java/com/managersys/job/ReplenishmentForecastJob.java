@@ -0,0 +1,27 @@
+package com.managersys.job;
+
+import com.managersys.service.ReplenishmentService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReplenishmentForecastJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplenishmentForecastJob.class);
+
+    private final ReplenishmentService replenishmentService;
+
+    public ReplenishmentForecastJob(ReplenishmentService replenishmentService) {
+        this.replenishmentService = replenishmentService;
+    }
+
+    @Scheduled(cron = "${inventory.replenishment.cron}")
+    public void recomputeSuggestions() {
+        long started = System.currentTimeMillis();
+        int products = replenishmentService.recomputeSuggestions();
+        log.info("Recomputed replenishment suggestions for {} products in {} ms",
+                products, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,61 @@
+package com.managersys.job;
+
+import com.managersys.service.StockHoldService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class StockHoldExpiryJob {
+
+    private static final Logger log = LoggerFactory.getLogger(StockHoldExpiryJob.class);
+
+    private final StockHoldService stockHoldService;
+    private final int batchSize;
+
+    public StockHoldExpiryJob(StockHoldService stockHoldService,
+                              @Value("${inventory.holds.release-batch-size}") int batchSize) {
+        this.stockHoldService = stockHoldService;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOutstandingHolds() {
+        int scheduled = stockHoldService.scheduleOutstandingHolds();
+        log.info("Scheduled expiry of stock holds for {} orders", scheduled);
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.holds.tick-millis}")
+    public void releaseDueHolds() {
+        release(stockHoldService.pollExpiredOrders());
+    }
+
+    // Safety net for holds placed by another node that went away before they expired
+    @Scheduled(fixedDelayString = "${inventory.holds.sweep-interval-millis}")
+    public void sweepExpiredHolds() {
+        List<Long> orderIds = stockHoldService.findOrdersWithExpiredHolds(batchSize);
+        while (!orderIds.isEmpty()) {
+            release(orderIds);
+            if (orderIds.size() < batchSize) {
+                break;
+            }
+            orderIds = stockHoldService.findOrdersWithExpiredHolds(batchSize);
+        }
+    }
+
+    private void release(List<Long> orderIds) {
+        for (int from = 0; from < orderIds.size(); from += batchSize) {
+            List<Long> batch = orderIds.subList(from, Math.min(from + batchSize, orderIds.size()));
+            int cancelled = stockHoldService.releaseExpiredHolds(batch);
+            if (cancelled > 0) {
+                log.debug("Released expired stock holds and cancelled {} draft orders", cancelled);
+            }
+        }
+    }
+}
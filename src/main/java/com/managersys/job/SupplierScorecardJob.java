@@ -0,0 +1,35 @@
+package com.managersys.job;
+
+import com.managersys.service.SupplierScorecardService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SupplierScorecardJob {
+
+    private static final Logger log = LoggerFactory.getLogger(SupplierScorecardJob.class);
+
+    private final SupplierScorecardService supplierScorecardService;
+
+    public SupplierScorecardJob(SupplierScorecardService supplierScorecardService) {
+        this.supplierScorecardService = supplierScorecardService;
+    }
+
+    @Scheduled(cron = "${suppliers.scorecard.refresh-cron}")
+    public void refreshScorecards() {
+        long started = System.currentTimeMillis();
+        int rows = supplierScorecardService.refreshScorecards();
+        log.info("Refreshed {} supplier day rows in {} ms", rows, System.currentTimeMillis() - started);
+    }
+
+    // Days are only recomputed when their orders change or are deleted or their
+    // stock runs out; the rebuild also picks up products moved to another supplier
+    @Scheduled(cron = "${suppliers.scorecard.rebuild-cron}")
+    public void rebuildScorecards() {
+        long started = System.currentTimeMillis();
+        int rows = supplierScorecardService.rebuildScorecards();
+        log.info("Rebuilt {} supplier day rows in {} ms", rows, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,40 @@
+package com.managersys.job;
+
+import com.managersys.security.TokenVersionRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TokenVersionRegistryJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenVersionRegistryJob.class);
+
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    public TokenVersionRegistryJob(TokenVersionRegistry tokenVersionRegistry) {
+        this.tokenVersionRegistry = tokenVersionRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadVersions() {
+        reload();
+    }
+
+    // Changes arrive as events; this covers any broadcast a node missed
+    @Scheduled(initialDelayString = "${jwt.token-versions.reload-interval-millis}",
+               fixedDelayString = "${jwt.token-versions.reload-interval-millis}")
+    public void reloadVersions() {
+        reload();
+    }
+
+    private void reload() {
+        long started = System.currentTimeMillis();
+        int employees = tokenVersionRegistry.reload();
+        log.info("Loaded token versions of {} employees in {} ms",
+                employees, System.currentTimeMillis() - started);
+    }
+}
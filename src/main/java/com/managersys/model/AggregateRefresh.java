@@ -0,0 +1,45 @@
+package com.managersys.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * High-water mark of an incrementally refreshed aggregate: rows changed after
+ * {@code refreshedAt} have not been folded into it yet.
+ */
+@Entity
+@Table(name = "aggregate_refreshes")
+public class AggregateRefresh {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+
+    // Constructors
+    public AggregateRefresh() {}
+
+    public AggregateRefresh(String name, LocalDateTime refreshedAt) {
+        this.name = name;
+        this.refreshedAt = refreshedAt;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    public void setRefreshedAt(LocalDateTime refreshedAt) {
+        this.refreshedAt = refreshedAt;
+    }
+}
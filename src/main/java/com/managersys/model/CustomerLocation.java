@@ -0,0 +1,44 @@
+package com.managersys.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * A distinct customer city/state with the number of customers in it.
+ * Rows are maintained by a database trigger on customers and are read-only here.
+ */
+@Entity
+@Immutable
+@Table(name = "customer_locations")
+public class CustomerLocation {
+
+    @Id
+    @Column(name = "location_key")
+    private String locationKey;
+
+    @Column(nullable = false)
+    private String city;
+
+    @Column(nullable = false)
+    private String state;
+
+    @Column(name = "customer_count", nullable = false)
+    private Long customerCount;
+
+    // Getters
+    public String getLocationKey() {
+        return locationKey;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public Long getCustomerCount() {
+        return customerCount;
+    }
+}
@@ -0,0 +1,107 @@
+package com.managersys.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Lifetime order totals per customer, counting orders from the moment they are
+ * paid until they are cancelled or refunded, plus RFM scores and a segment that
+ * are refreshed daily. Rows are written with set-based statements only.
+ */
+@Entity
+@Immutable
+@Table(name = "customer_stats")
+public class CustomerStats {
+
+    @Id
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id", insertable = false, updatable = false)
+    private Customer customer;
+
+    @Column(name = "order_count", nullable = false)
+    private Integer orderCount;
+
+    @Column(name = "total_spend", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalSpend;
+
+    @Column(name = "first_order_at")
+    private LocalDateTime firstOrderAt;
+
+    @Column(name = "last_order_at")
+    private LocalDateTime lastOrderAt;
+
+    @Column(name = "recency_score")
+    private Short recencyScore;
+
+    @Column(name = "frequency_score")
+    private Short frequencyScore;
+
+    @Column(name = "monetary_score")
+    private Short monetaryScore;
+
+    @Enumerated(EnumType.STRING)
+    private Segment segment;
+
+    @Column(name = "scored_at")
+    private LocalDateTime scoredAt;
+
+    public enum Segment {
+        CHAMPION,
+        LOYAL,
+        NEW,
+        AT_RISK,
+        LAPSED,
+        REGULAR
+    }
+
+    // Getters
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    public Integer getOrderCount() {
+        return orderCount;
+    }
+
+    public BigDecimal getTotalSpend() {
+        return totalSpend;
+    }
+
+    public LocalDateTime getFirstOrderAt() {
+        return firstOrderAt;
+    }
+
+    public LocalDateTime getLastOrderAt() {
+        return lastOrderAt;
+    }
+
+    public Short getRecencyScore() {
+        return recencyScore;
+    }
+
+    public Short getFrequencyScore() {
+        return frequencyScore;
+    }
+
+    public Short getMonetaryScore() {
+        return monetaryScore;
+    }
+
+    public Segment getSegment() {
+        return segment;
+    }
+
+    public LocalDateTime getScoredAt() {
+        return scoredAt;
+    }
+}
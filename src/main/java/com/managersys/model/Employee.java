@@ -31,6 +31,10 @@ public class Employee extends BaseEntity implements UserDetails {
     
     @Column(nullable = false)
     private boolean enabled = false;
+
+    // Access tokens issued with an older version are no longer accepted
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion = 0;
     
     // UserDetails methods
     @Override
@@ -107,4 +111,15 @@ public class Employee extends BaseEntity implements UserDetails {
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
     }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    /**
+     * Revokes every access token issued so far.
+     */
+    public void incrementTokenVersion() {
+        this.tokenVersion++;
+    }
 }
@@ -0,0 +1,116 @@
+package com.managersys.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A pair of customers that the duplicate detection found similar enough to
+ * review. The pair is stored lower id first; either one can be kept on merge.
+ */
+@Entity
+@Table(name = "merge_candidates")
+public class MergeCandidate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "duplicate_id", nullable = false)
+    private Long duplicateId;
+
+    @Column(nullable = false, precision = 5, scale = 4)
+    private BigDecimal score;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.PENDING;
+
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+
+    @Column(name = "resolved_at")
+    private LocalDateTime resolvedAt;
+
+    public enum Status {
+        PENDING,
+        MERGED,
+        DISMISSED,
+        // One of the customers was merged into another pair or deleted
+        OBSOLETE
+    }
+
+    // Constructors
+    public MergeCandidate() {}
+
+    public MergeCandidate(Long customerId, Long duplicateId, BigDecimal score) {
+        this.customerId = Math.min(customerId, duplicateId);
+        this.duplicateId = Math.max(customerId, duplicateId);
+        this.score = score;
+        this.detectedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public Long getDuplicateId() {
+        return duplicateId;
+    }
+
+    public void setDuplicateId(Long duplicateId) {
+        this.duplicateId = duplicateId;
+    }
+
+    public BigDecimal getScore() {
+        return score;
+    }
+
+    public void setScore(BigDecimal score) {
+        this.score = score;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getDetectedAt() {
+        return detectedAt;
+    }
+
+    public void setDetectedAt(LocalDateTime detectedAt) {
+        this.detectedAt = detectedAt;
+    }
+
+    public LocalDateTime getResolvedAt() {
+        return resolvedAt;
+    }
+
+    public void setResolvedAt(LocalDateTime resolvedAt) {
+        this.resolvedAt = resolvedAt;
+    }
+
+    public boolean involves(Long customerId) {
+        return this.customerId.equals(customerId) || this.duplicateId.equals(customerId);
+    }
+}
@@ -21,25 +21,14 @@ public class Product extends BaseEntity {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal price;
     
-    @Column(nullable = false)
+    // Total over all locations, maintained by the database from product_stock
+    @Column(nullable = false, insertable = false, updatable = false)
     private Integer stockQuantity;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "supplier_id")
     private Supplier supplier;
     
-    // Business methods
-    public void decreaseStock(int quantity) {
-        if (this.stockQuantity < quantity) {
-            throw new IllegalStateException("Insufficient stock");
-        }
-        this.stockQuantity -= quantity;
-    }
-    
-    public void increaseStock(int quantity) {
-        this.stockQuantity += quantity;
-    }
-
     public Long getId() {
         return id;
     }
@@ -84,6 +73,8 @@ public class Product extends BaseEntity {
         return stockQuantity;
     }
 
+    // Only refreshes this instance after a change made through InventoryService;
+    // the column itself is never written from here
     public void setStockQuantity(Integer stockQuantity) {
         this.stockQuantity = stockQuantity;
     }
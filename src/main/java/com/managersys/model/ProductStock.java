@@ -0,0 +1,101 @@
+package com.managersys.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Quantity of a product held at one location. Written only through the
+ * conditional updates in ProductStockRepository; a database trigger keeps
+ * products.stock_quantity equal to the sum over all locations.
+ */
+@Entity
+@Table(name = "product_stock")
+public class ProductStock {
+
+    @EmbeddedId
+    private ProductStockId id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "location_id", insertable = false, updatable = false)
+    private StockLocation location;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Getters and Setters
+    public ProductStockId getId() {
+        return id;
+    }
+
+    public void setId(ProductStockId id) {
+        this.id = id;
+    }
+
+    public StockLocation getLocation() {
+        return location;
+    }
+
+    public void setLocation(StockLocation location) {
+        this.location = location;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Embeddable
+    public static class ProductStockId implements Serializable {
+
+        @Column(name = "product_id")
+        private Long productId;
+
+        @Column(name = "location_id")
+        private Long locationId;
+
+        public ProductStockId() {}
+
+        public ProductStockId(Long productId, Long locationId) {
+            this.productId = productId;
+            this.locationId = locationId;
+        }
+
+        public Long getProductId() {
+            return productId;
+        }
+
+        public Long getLocationId() {
+            return locationId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ProductStockId)) return false;
+            ProductStockId that = (ProductStockId) o;
+            return Objects.equals(productId, that.productId) &&
+                   Objects.equals(locationId, that.locationId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(productId, locationId);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.managersys.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Immutable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+
+/**
+ * Name and description of a product as it was sold. Rows are never changed:
+ * a product edit produces a new version the next time the product is sold,
+ * and items keep pointing at the version they were sold with. Identical
+ * content is stored once per product, keyed by its SHA-256 hash.
+ */
+@Entity
+@Immutable
+@BatchSize(size = 50)  // lazy versions of an order's items are initialized together
+@Table(name = "product_versions")
+public class ProductVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    @Column(name = "content_hash", nullable = false)
+    private byte[] contentHash;
+
+    @Column(nullable = false, length = 200)
+    private String name;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public ProductVersion() {}
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Product getProduct() {
+        return product;
+    }
+
+    public byte[] getContentHash() {
+        return contentHash;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // Must match the hash computed by the V15 backfill
+    public static byte[] contentHash(String name, String description) {
+        String content = name + '\u001f' + (description == null ? "0" : "1" + description);
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
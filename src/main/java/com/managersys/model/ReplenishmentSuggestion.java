@@ -0,0 +1,93 @@
+package com.managersys.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One row per product sold within the forecast window. The table is rebuilt
+ * as a whole by the nightly forecast, so entities are only ever read.
+ */
+@Entity
+@Table(name = "replenishment_suggestions")
+public class ReplenishmentSuggestion {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "product_name", nullable = false)
+    private String productName;
+
+    @Column(nullable = false)
+    private String sku;
+
+    @Column(name = "supplier_id")
+    private Long supplierId;
+
+    @Column(name = "supplier_name")
+    private String supplierName;
+
+    @Column(name = "units_sold", nullable = false)
+    private Long unitsSold;
+
+    @Column(name = "daily_velocity", nullable = false, precision = 12, scale = 4)
+    private BigDecimal dailyVelocity;
+
+    @Column(name = "stock_quantity", nullable = false)
+    private Integer stockQuantity;
+
+    @Column(name = "days_of_cover", precision = 12, scale = 1)
+    private BigDecimal daysOfCover;
+
+    @Column(name = "suggested_quantity", nullable = false)
+    private Integer suggestedQuantity;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    // Getters
+    public Long getProductId() {
+        return productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public Long getSupplierId() {
+        return supplierId;
+    }
+
+    public String getSupplierName() {
+        return supplierName;
+    }
+
+    public Long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public BigDecimal getDailyVelocity() {
+        return dailyVelocity;
+    }
+
+    public Integer getStockQuantity() {
+        return stockQuantity;
+    }
+
+    public BigDecimal getDaysOfCover() {
+        return daysOfCover;
+    }
+
+    public Integer getSuggestedQuantity() {
+        return suggestedQuantity;
+    }
+
+    public LocalDateTime getComputedAt() {
+        return computedAt;
+    }
+}
@@ -221,21 +221,4 @@ public class SaleOrder extends BaseEntity {
         // In a real application, this would integrate with a payment gateway
         this.status = Status.PAID;
     }
-
-    // Business method to cancel order
-    public void cancel() {
-        if (this.status == Status.DELIVERED || this.status == Status.REFUNDED) {
-            throw new IllegalStateException("Cannot cancel an order that is already " + this.status);
-        }
-        
-        // Return items to stock if order was already processed
-        if (this.status == Status.PAID || this.status == Status.PROCESSING || this.status == Status.SHIPPED) {
-            this.items.forEach(item -> {
-                Product product = item.getProduct();
-                product.increaseStock(item.getQuantity());
-            });
-        }
-        
-        this.status = Status.CANCELLED;
-    }
 }
@@ -19,11 +19,16 @@ public class SaleOrderItem extends BaseEntity {
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
 
-    @Column(nullable = false, length = 200)
-    private String productName;
+    // Location the item's stock was reserved from
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "location_id", nullable = false)
+    private StockLocation location;
 
-    @Column(length = 1000)
-    private String productDescription;
+    // Name and description of the product as sold, shared by every item sold
+    // with the same content
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_version_id", nullable = false)
+    private ProductVersion productVersion;
 
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal unitPrice;
@@ -46,8 +51,6 @@ public class SaleOrderItem extends BaseEntity {
     public SaleOrderItem(SaleOrder order, Product product, Integer quantity, BigDecimal unitPrice) {
         this.order = order;
         this.product = product;
-        this.productName = product.getName();
-        this.productDescription = product.getDescription();
         this.quantity = quantity;
         this.unitPrice = unitPrice;
         calculateTotalAmount();
@@ -78,20 +81,28 @@ public class SaleOrderItem extends BaseEntity {
         this.product = product;
     }
 
-    public String getProductName() {
-        return productName;
+    public StockLocation getLocation() {
+        return location;
     }
 
-    public void setProductName(String productName) {
-        this.productName = productName;
+    public void setLocation(StockLocation location) {
+        this.location = location;
     }
 
-    public String getProductDescription() {
-        return productDescription;
+    public ProductVersion getProductVersion() {
+        return productVersion;
+    }
+
+    public void setProductVersion(ProductVersion productVersion) {
+        this.productVersion = productVersion;
+    }
+
+    public String getProductName() {
+        return productVersion != null ? productVersion.getName() : null;
     }
 
-    public void setProductDescription(String productDescription) {
-        this.productDescription = productDescription;
+    public String getProductDescription() {
+        return productVersion != null ? productVersion.getDescription() : null;
     }
 
     public BigDecimal getUnitPrice() {
@@ -181,24 +192,6 @@ public class SaleOrderItem extends BaseEntity {
         this.totalAmount = subtotal.subtract(this.discountAmount);
     }
 
-    // Business method to update product stock
-    public void updateProductStock() {
-        if (this.order == null || this.product == null) {
-            return;
-        }
-        
-        // Only update stock for certain order statuses
-        if (this.order.getStatus() == SaleOrder.Status.DRAFT || 
-            this.order.getStatus() == SaleOrder.Status.PENDING) {
-            // When order is in draft or pending, reserve the stock
-            this.product.decreaseStock(this.quantity);
-        } else if (this.order.getStatus() == SaleOrder.Status.CANCELLED) {
-            // When order is cancelled, return stock
-            this.product.increaseStock(this.quantity);
-        }
-        // For other statuses, stock was already updated when order was placed
-    }
-
     // Factory method to create an item from a product
     public static SaleOrderItem fromProduct(Product product, int quantity) {
         return new SaleOrderItem(null, product, quantity, product.getPrice());
@@ -221,7 +214,7 @@ public class SaleOrderItem extends BaseEntity {
     public String toString() {
         return "SaleOrderItem{" +
                 "id=" + id +
-                ", productName='" + productName + '\'' +
+                ", productVersionId=" + (productVersion != null ? productVersion.getId() : null) +
                 ", quantity=" + quantity +
                 ", unitPrice=" + unitPrice +
                 ", totalAmount=" + totalAmount +
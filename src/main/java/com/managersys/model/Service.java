@@ -15,6 +15,9 @@ public class Service extends BaseEntity {
     @Column(nullable = false, length = 100)
     private String name;
 
+    // Large TEXT columns are only loaded on first access (bytecode enhancement);
+    // list queries project around them
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String description;
 
@@ -37,9 +40,11 @@ public class Service extends BaseEntity {
     @Column(name = "max_participants")
     private Integer maxParticipants;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "preparation_instructions", columnDefinition = "TEXT")
     private String preparationInstructions;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "cancellation_policy", columnDefinition = "TEXT")
     private String cancellationPolicy;
 
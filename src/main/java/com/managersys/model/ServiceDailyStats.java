@@ -0,0 +1,110 @@
+package com.managersys.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Completed appointments, ratings and payments of one service on one day.
+ * Rows are incremented in the same transaction as the check-out or payment
+ * they count; analytics sum these rows instead of scanning schedules.
+ */
+@Entity
+@Immutable
+@Table(name = "service_daily_stats")
+public class ServiceDailyStats {
+
+    @EmbeddedId
+    private ServiceDayId id;
+
+    @Column(name = "completed_count", nullable = false)
+    private Integer completedCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum;
+
+    @Column(name = "rating_count", nullable = false)
+    private Integer ratingCount;
+
+    @Column(name = "paid_count", nullable = false)
+    private Integer paidCount;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Getters
+    public ServiceDayId getId() {
+        return id;
+    }
+
+    public Integer getCompletedCount() {
+        return completedCount;
+    }
+
+    public Long getRatingSum() {
+        return ratingSum;
+    }
+
+    public Integer getRatingCount() {
+        return ratingCount;
+    }
+
+    public Integer getPaidCount() {
+        return paidCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Embeddable
+    public static class ServiceDayId implements Serializable {
+
+        @Column(name = "service_id")
+        private Long serviceId;
+
+        @Column(name = "stats_date")
+        private LocalDate statsDate;
+
+        public ServiceDayId() {}
+
+        public ServiceDayId(Long serviceId, LocalDate statsDate) {
+            this.serviceId = serviceId;
+            this.statsDate = statsDate;
+        }
+
+        public Long getServiceId() {
+            return serviceId;
+        }
+
+        public LocalDate getStatsDate() {
+            return statsDate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ServiceDayId)) return false;
+            ServiceDayId that = (ServiceDayId) o;
+            return Objects.equals(serviceId, that.serviceId) &&
+                   Objects.equals(statsDate, that.statsDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(serviceId, statsDate);
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.managersys.model;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import java.util.ArrayList;
 import java.util.List;
 
 
 @Entity
 @Table(name = "suppliers")
+@BatchSize(size = 50)  // lazy supplier proxies of a product list are initialized together
 public class Supplier extends BaseEntity {
     
     @Id
@@ -26,6 +28,7 @@ public class Supplier extends BaseEntity {
     private String address;
     
     @OneToMany(mappedBy = "supplier", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     private List<Product> products = new ArrayList<>();
     
     // Helper method to manage bidirectional relationship
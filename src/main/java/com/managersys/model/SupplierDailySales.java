@@ -0,0 +1,103 @@
+package com.managersys.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Paid sales and stockouts of one supplier's products on one day. Days are
+ * recomputed with set-based statements when their orders or stock change;
+ * scorecards sum these rows instead of scanning order items.
+ */
+@Entity
+@Immutable
+@Table(name = "supplier_daily_sales")
+public class SupplierDailySales {
+
+    @EmbeddedId
+    private SupplierDayId id;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(name = "units_sold", nullable = false)
+    private Long unitsSold;
+
+    @Column(name = "order_count", nullable = false)
+    private Integer orderCount;
+
+    @Column(name = "stockout_count", nullable = false)
+    private Integer stockoutCount;
+
+    @Column(name = "refreshed_at")
+    private LocalDateTime refreshedAt;
+
+    // Getters
+    public SupplierDayId getId() {
+        return id;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public Long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public Integer getOrderCount() {
+        return orderCount;
+    }
+
+    public Integer getStockoutCount() {
+        return stockoutCount;
+    }
+
+    public LocalDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    @Embeddable
+    public static class SupplierDayId implements Serializable {
+
+        @Column(name = "supplier_id")
+        private Long supplierId;
+
+        @Column(name = "sales_date")
+        private LocalDate salesDate;
+
+        public SupplierDayId() {}
+
+        public SupplierDayId(Long supplierId, LocalDate salesDate) {
+            this.supplierId = supplierId;
+            this.salesDate = salesDate;
+        }
+
+        public Long getSupplierId() {
+            return supplierId;
+        }
+
+        public LocalDate getSalesDate() {
+            return salesDate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SupplierDayId)) return false;
+            SupplierDayId that = (SupplierDayId) o;
+            return Objects.equals(supplierId, that.supplierId) &&
+                   Objects.equals(salesDate, that.salesDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(supplierId, salesDate);
+        }
+    }
+}
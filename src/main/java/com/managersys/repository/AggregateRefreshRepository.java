@@ -0,0 +1,9 @@
+package com.managersys.repository;
+
+import com.managersys.model.AggregateRefresh;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AggregateRefreshRepository extends JpaRepository<AggregateRefresh, String> {
+}
@@ -4,6 +4,7 @@ import com.managersys.model.ServiceCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -70,4 +71,64 @@ public interface CategoryRepository extends JpaRepository<ServiceCategory, Long>
            "s.id IN (SELECT ss.service.id FROM ServiceSchedule ss WHERE " +
            "ss.startDateTime > CURRENT_TIMESTAMP))")
     List<ServiceCategory> findCategoriesWithUpcomingSchedules();
+    
+    // Closure table: one row per (ancestor, descendant) pair, depth 0 for the category itself
+    
+    @Modifying
+    @Query(value = "INSERT INTO service_category_closure (ancestor_id, descendant_id, depth) " +
+           "VALUES (:categoryId, :categoryId, 0)", nativeQuery = true)
+    int insertClosureSelf(@Param("categoryId") Long categoryId);
+    
+    // Links every ancestor of the parent (itself included) to every category of the subtree
+    @Modifying
+    @Query(value = "INSERT INTO service_category_closure (ancestor_id, descendant_id, depth) " +
+           "SELECT a.ancestor_id, d.descendant_id, a.depth + d.depth + 1 " +
+           "FROM service_category_closure a CROSS JOIN service_category_closure d " +
+           "WHERE a.descendant_id = :parentId AND d.ancestor_id = :categoryId", nativeQuery = true)
+    int attachClosureSubtree(@Param("categoryId") Long categoryId, @Param("parentId") Long parentId);
+    
+    // Drops the paths from the subtree's outside ancestors; paths inside the subtree stay
+    @Modifying
+    @Query(value = "DELETE FROM service_category_closure c " +
+           "WHERE c.descendant_id IN (SELECT descendant_id FROM service_category_closure WHERE ancestor_id = :categoryId) " +
+           "AND c.ancestor_id NOT IN (SELECT descendant_id FROM service_category_closure WHERE ancestor_id = :categoryId)",
+           nativeQuery = true)
+    int detachClosureSubtree(@Param("categoryId") Long categoryId);
+    
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM service_category_closure " +
+           "WHERE ancestor_id = :ancestorId AND descendant_id = :descendantId)", nativeQuery = true)
+    boolean isInSubtree(@Param("ancestorId") Long ancestorId, @Param("descendantId") Long descendantId);
+    
+    @Query(value = "SELECT COUNT(*) FROM service_category_closure cc " +
+           "JOIN services s ON s.category_id = cc.descendant_id " +
+           "WHERE cc.ancestor_id = :categoryId", nativeQuery = true)
+    long countServicesInSubtree(@Param("categoryId") Long categoryId);
+    
+    @Query(value = "SELECT c.* FROM service_categories c " +
+           "JOIN service_category_closure cc ON cc.ancestor_id = c.id " +
+           "WHERE cc.descendant_id = :categoryId ORDER BY cc.depth DESC", nativeQuery = true)
+    List<ServiceCategory> findPathTo(@Param("categoryId") Long categoryId);
+    
+    // Active categories without an inactive ancestor, as rows (id, name, description,
+    // display order, color, icon, parent id, active services in the visible subtree)
+    @Query(value = "WITH visible AS ( " +
+           "    SELECT c.* FROM service_categories c " +
+           "    WHERE NOT EXISTS ( " +
+           "        SELECT 1 FROM service_category_closure a " +
+           "        JOIN service_categories p ON p.id = a.ancestor_id " +
+           "        WHERE a.descendant_id = c.id AND p.is_active = false " +
+           "    ) " +
+           ") " +
+           "SELECT v.id, v.name, v.description, v.display_order, v.color, v.icon, " +
+           "       v.parent_category_id, COALESCE(sc.service_count, 0) " +
+           "FROM visible v " +
+           "LEFT JOIN ( " +
+           "    SELECT cc.ancestor_id, COUNT(*) AS service_count " +
+           "    FROM service_category_closure cc " +
+           "    JOIN visible d ON d.id = cc.descendant_id " +
+           "    JOIN services s ON s.category_id = cc.descendant_id AND s.is_active = true " +
+           "    GROUP BY cc.ancestor_id " +
+           ") sc ON sc.ancestor_id = v.id " +
+           "ORDER BY v.display_order NULLS LAST, v.name, v.id", nativeQuery = true)
+    List<Object[]> findActiveTreeRows();
 }
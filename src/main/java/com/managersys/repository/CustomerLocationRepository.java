@@ -0,0 +1,13 @@
+package com.managersys.repository;
+
+import com.managersys.model.CustomerLocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CustomerLocationRepository extends JpaRepository<CustomerLocation, String> {
+    
+    List<CustomerLocation> findAllByOrderByStateAscCityAsc();
+}
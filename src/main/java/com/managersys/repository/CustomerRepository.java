@@ -3,17 +3,25 @@ package com.managersys.repository;
 import com.managersys.model.Customer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, Long> {
+public interface CustomerRepository extends JpaRepository<Customer, Long>, CustomerRepositoryCustom {
     
     Optional<Customer> findByEmail(String email);
     
@@ -21,37 +29,163 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     
     boolean existsByEmail(String email);
     
-    boolean existsByTaxId(String taxId);
-    
-    @Query("SELECT c FROM Customer c WHERE " +
-           "LOWER(c.name) LIKE LOWER(concat('%', :query, '%')) OR " +
-           "LOWER(c.email) LIKE LOWER(concat('%', :query, '%')) OR " +
-           "c.phone LIKE %:query% OR " +
-           "c.taxId LIKE %:query%")
-    Page<Customer> searchCustomers(@Param("query") String query, Pageable pageable);
-    
-    @Query("SELECT c FROM Customer c WHERE " +
-           "(c.birthDate BETWEEN :startDate AND :endDate) AND " +
-           "(LOWER(c.name) LIKE LOWER(concat('%', :query, '%')) OR " +
-           "LOWER(c.email) LIKE LOWER(concat('%', :query, '%')))")
-    Page<Customer> findCustomersWithBirthdayBetween(
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate,
-            @Param("query") String query,
+    // Compares digits only, like the unique index on tax_id_digits
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM customers c WHERE c.tax_id_digits = :taxIdDigits)",
+           nativeQuery = true)
+    boolean existsByTaxIdDigits(@Param("taxIdDigits") String taxIdDigits);
+    
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "10000"))
+    @Query("SELECT c.email, c.taxId FROM Customer c")
+    Stream<Object[]> streamEmailsAndTaxIds();
+    
+    // Fields shingled by the duplicate detection
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "10000"))
+    @Query("SELECT c.id, c.name, c.phone, c.address.street, c.address.number, c.address.city FROM Customer c")
+    Stream<Object[]> streamDuplicateDetectionFields();
+    
+    @Query("SELECT c.id, c.name, c.phone, c.address.street, c.address.number, c.address.city " +
+           "FROM Customer c WHERE c.id IN :ids")
+    List<Object[]> findDuplicateDetectionFields(@Param("ids") Collection<Long> ids);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Customer c WHERE c.id IN :ids ORDER BY c.id")
+    List<Customer> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT c.email FROM Customer c WHERE c.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
+    // Compares digits only, like the unique index on tax_id_digits
+    @Query(value = "SELECT c.tax_id_digits FROM customers c WHERE c.tax_id_digits IN (:taxIdDigits)",
+           nativeQuery = true)
+    List<String> findExistingTaxIdDigits(@Param("taxIdDigits") Collection<String> taxIdDigits);
+    
+    // Name and email use the trigram indexes
+    @Query(value = "SELECT * FROM customers c WHERE " +
+            "LOWER(c.name) LIKE :pattern OR " +
+            "LOWER(c.email) LIKE :pattern",
+            countQuery = "SELECT COUNT(*) FROM customers c WHERE " +
+            "LOWER(c.name) LIKE :pattern OR " +
+            "LOWER(c.email) LIKE :pattern",
+            nativeQuery = true)
+    Page<Customer> searchCustomers(
+            @Param("pattern") String pattern,
+            Pageable pageable);
+    
+    // As searchCustomers, plus a prefix match on the digits-only phone and tax id
+    // columns for queries with enough digits. Kept apart so a missing prefix is
+    // never bound as an untyped null
+    @Query(value = "SELECT * FROM customers c WHERE " +
+            "LOWER(c.name) LIKE :pattern OR " +
+            "LOWER(c.email) LIKE :pattern OR " +
+            "c.phone_digits LIKE :digitsPrefix OR " +
+            "c.tax_id_digits LIKE :digitsPrefix",
+            countQuery = "SELECT COUNT(*) FROM customers c WHERE " +
+            "LOWER(c.name) LIKE :pattern OR " +
+            "LOWER(c.email) LIKE :pattern OR " +
+            "c.phone_digits LIKE :digitsPrefix OR " +
+            "c.tax_id_digits LIKE :digitsPrefix",
+            nativeQuery = true)
+    Page<Customer> searchCustomersWithDigits(
+            @Param("pattern") String pattern,
+            @Param("digitsPrefix") String digitsPrefix,
             Pageable pageable);
     
+    // Typeahead lookups: plain LIMIT, no count query, and no ORDER BY where it
+    // would force sorting every match. Name prefixes compare and sort under the
+    // "C" collation, so both are served by idx_customers_name_prefix_c and the
+    // scan stops after :limit rows
+    @Query(value = "SELECT * FROM customers c WHERE LOWER(c.name) COLLATE \"C\" LIKE :prefix " +
+            "ORDER BY LOWER(c.name) COLLATE \"C\" LIMIT :limit", nativeQuery = true)
+    List<Customer> findTopByNamePrefix(
+            @Param("prefix") String prefix,
+            @Param("limit") int limit);
+    
+    @Query(value = "SELECT * FROM customers c WHERE " +
+            "(LOWER(c.name) LIKE :pattern OR LOWER(c.email) LIKE :pattern) " +
+            "AND LOWER(c.name) NOT LIKE :prefix LIMIT :limit", nativeQuery = true)
+    List<Customer> findTopByNameOrEmailContaining(
+            @Param("pattern") String pattern,
+            @Param("prefix") String prefix,
+            @Param("limit") int limit);
+    
+    @Query(value = "SELECT * FROM customers c WHERE " +
+            "c.phone_digits LIKE :digitsPrefix OR c.tax_id_digits LIKE :digitsPrefix " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Customer> findTopByDigitsPrefix(
+            @Param("digitsPrefix") String digitsPrefix,
+            @Param("limit") int limit);
+    
+    // Birthday lookups run on the (birthday_key, id) index. A range that wraps
+    // the new year is passed as two key ranges; the second one is empty (1..0)
+    // otherwise. Results come in upcoming order from fromKey on.
+    @Query(value = "SELECT * FROM customers c WHERE " +
+            "(c.birthday_key BETWEEN :fromKey AND :toKey OR c.birthday_key BETWEEN :wrappedFromKey AND :wrappedToKey) " +
+            "ORDER BY CASE WHEN c.birthday_key >= :fromKey THEN 0 ELSE 1 END, c.birthday_key, c.id",
+            countQuery = "SELECT COUNT(*) FROM customers c WHERE " +
+            "(c.birthday_key BETWEEN :fromKey AND :toKey OR c.birthday_key BETWEEN :wrappedFromKey AND :wrappedToKey)",
+            nativeQuery = true)
+    Page<Customer> findByBirthdayKeyBetween(
+            @Param("fromKey") int fromKey,
+            @Param("toKey") int toKey,
+            @Param("wrappedFromKey") int wrappedFromKey,
+            @Param("wrappedToKey") int wrappedToKey,
+            Pageable pageable);
+    
+    @Query(value = "SELECT * FROM customers c WHERE " +
+            "(c.birthday_key BETWEEN :fromKey AND :toKey OR c.birthday_key BETWEEN :wrappedFromKey AND :wrappedToKey) " +
+            "AND (LOWER(c.name) LIKE :pattern OR LOWER(c.email) LIKE :pattern) " +
+            "ORDER BY CASE WHEN c.birthday_key >= :fromKey THEN 0 ELSE 1 END, c.birthday_key, c.id",
+            countQuery = "SELECT COUNT(*) FROM customers c WHERE " +
+            "(c.birthday_key BETWEEN :fromKey AND :toKey OR c.birthday_key BETWEEN :wrappedFromKey AND :wrappedToKey) " +
+            "AND (LOWER(c.name) LIKE :pattern OR LOWER(c.email) LIKE :pattern)",
+            nativeQuery = true)
+    Page<Customer> findByBirthdayKeyBetweenMatching(
+            @Param("fromKey") int fromKey,
+            @Param("toKey") int toKey,
+            @Param("wrappedFromKey") int wrappedFromKey,
+            @Param("wrappedToKey") int wrappedToKey,
+            @Param("pattern") String pattern,
+            Pageable pageable);
+    
+    // Batches for the birthday campaign, seeking on id within the key range.
+    // Each candidate is claimed for the year in birthday_greetings; the last
+    // column tells whether this call claimed it (false: another run already did)
+    @Transactional
+    @Query(value = "WITH candidates AS ( " +
+            "    SELECT c.id, c.name, c.email FROM customers c WHERE " +
+            "    (c.birthday_key BETWEEN :fromKey AND :toKey OR c.birthday_key BETWEEN :wrappedFromKey AND :wrappedToKey) " +
+            "    AND c.email IS NOT NULL AND c.id > :afterId ORDER BY c.id LIMIT :limit " +
+            "), " +
+            "claimed AS ( " +
+            "    INSERT INTO birthday_greetings (customer_id, greeting_year) " +
+            "    SELECT id, :year FROM candidates " +
+            "    ON CONFLICT (customer_id, greeting_year) DO NOTHING " +
+            "    RETURNING customer_id " +
+            ") " +
+            "SELECT c.id, c.name, c.email, (cl.customer_id IS NOT NULL) AS claimed " +
+            "FROM candidates c LEFT JOIN claimed cl ON cl.customer_id = c.id ORDER BY c.id", nativeQuery = true)
+    List<Object[]> claimBirthdayContactsAfterId(
+            @Param("fromKey") int fromKey,
+            @Param("toKey") int toKey,
+            @Param("wrappedFromKey") int wrappedFromKey,
+            @Param("wrappedToKey") int wrappedToKey,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit,
+            @Param("year") int year);
+    
     @Query("SELECT c FROM Customer c WHERE c.customerType = :customerType")
     Page<Customer> findByCustomerType(
             @Param("customerType") Customer.CustomerType customerType,
             Pageable pageable);
     
-    @Query("SELECT c FROM Customer c WHERE " +
-           "LOWER(c.address.city) = LOWER(:city) AND " +
-           "LOWER(c.address.state) = LOWER(:state)")
-    List<Customer> findByCityAndState(
+    // Seeks on the (location_key, id) index; the key is built with the same
+    // expression as the generated column so spelling variants match
+    @Query(value = "SELECT * FROM customers c " +
+            "WHERE c.location_key = LOWER(BTRIM(:state)) || '|' || LOWER(BTRIM(:city)) " +
+            "AND c.id > :afterId ORDER BY c.id LIMIT :limit", nativeQuery = true)
+    List<Customer> findByLocationAfterId(
             @Param("city") String city,
-            @Param("state") String state);
-    
-    @Query("SELECT DISTINCT c.address.city, c.address.state FROM Customer c WHERE c.address.city IS NOT NULL AND c.address.state IS NOT NULL")
-    List<Object[]> findDistinctCityAndState();
+            @Param("state") String state,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit);
 }
@@ -0,0 +1,15 @@
+package com.managersys.repository;
+
+import com.managersys.model.Customer;
+
+import java.util.List;
+
+public interface CustomerRepositoryCustom {
+
+    /**
+     * Inserts customers with multi-row INSERT statements, skipping rows that
+     * conflict with an existing email or tax ID. Inserted customers get
+     * their generated id; returns their positions in the given list.
+     */
+    List<Integer> insertIgnoringConflicts(List<Customer> customers);
+}
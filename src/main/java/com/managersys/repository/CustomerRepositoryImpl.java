@@ -0,0 +1,86 @@
+package com.managersys.repository;
+
+import com.managersys.model.Customer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.query.TypedParameterValue;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class CustomerRepositoryImpl implements CustomerRepositoryCustom {
+
+    // 16 bind parameters per row keeps each statement well below the JDBC parameter limit
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    // Ids are drawn up front so each inserted row can be traced back to its
+    // input position: RETURNING only sees the table's columns, and neither
+    // email nor tax ID is guaranteed to be present. The input CTE is read
+    // twice, so it is materialized and every row keeps the id it drew.
+    private static final String INSERT_SQL =
+            "WITH input AS ( " +
+            "    SELECT nextval(pg_get_serial_sequence('customers', 'id')) AS id, v.* " +
+            "    FROM (VALUES %s) AS v (ord, name, email, phone, birth_date, tax_id, customer_type, notes, " +
+            "        street, number, complement, neighborhood, city, state, country, postal_code) " +
+            "), " +
+            "inserted AS ( " +
+            "    INSERT INTO customers (id, name, email, phone, birth_date, tax_id, customer_type, notes, " +
+            "        street, number, complement, neighborhood, city, state, country, postal_code, " +
+            "        created_at, updated_at) " +
+            "    SELECT id, name, email, phone, birth_date, tax_id, customer_type, notes, " +
+            "        street, number, complement, neighborhood, city, state, country, postal_code, " +
+            "        CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+            "    FROM input " +
+            "    ON CONFLICT DO NOTHING " +
+            "    RETURNING id " +
+            ") " +
+            "SELECT input.ord, input.id FROM input JOIN inserted ON inserted.id = input.id";
+
+    private static final String VALUES_ROW =
+            "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Integer> insertIgnoringConflicts(List<Customer> customers) {
+        List<Integer> inserted = new ArrayList<>(customers.size());
+        for (int from = 0; from < customers.size(); from += INSERT_CHUNK_SIZE) {
+            List<Customer> chunk = customers.subList(from, Math.min(from + INSERT_CHUNK_SIZE, customers.size()));
+            String values = String.join(", ", Collections.nCopies(chunk.size(), VALUES_ROW));
+            Query query = entityManager.createNativeQuery(String.format(INSERT_SQL, values));
+
+            int position = 1;
+            for (int k = 0; k < chunk.size(); k++) {
+                Customer customer = chunk.get(k);
+                Customer.Address address = customer.getAddress() != null ? customer.getAddress() : new Customer.Address();
+                query.setParameter(position++, from + k);
+                query.setParameter(position++, customer.getName());
+                query.setParameter(position++, customer.getEmail());
+                query.setParameter(position++, new TypedParameterValue<>(StandardBasicTypes.STRING, customer.getPhone()));
+                query.setParameter(position++, new TypedParameterValue<>(StandardBasicTypes.LOCAL_DATE, customer.getBirthDate()));
+                query.setParameter(position++, new TypedParameterValue<>(StandardBasicTypes.STRING, customer.getTaxId()));
+                query.setParameter(position++, customer.getCustomerType().name());
+                query.setParameter(position++, new TypedParameterValue<>(StandardBasicTypes.STRING, customer.getNotes()));
+                query.setParameter(position++, new TypedParameterValue<>(StandardBasicTypes.STRING, address.getStreet()));
+                query.setParameter(position++, new TypedParameterValue<>(StandardBasicTypes.STRING, address.getNumber()));
+                query.setParameter(position++, new TypedParameterValue<>(StandardBasicTypes.STRING, address.getComplement()));
+                query.setParameter(position++, new TypedParameterValue<>(StandardBasicTypes.STRING, address.getNeighborhood()));
+                query.setParameter(position++, new TypedParameterValue<>(StandardBasicTypes.STRING, address.getCity()));
+                query.setParameter(position++, new TypedParameterValue<>(StandardBasicTypes.STRING, address.getState()));
+                query.setParameter(position++, new TypedParameterValue<>(StandardBasicTypes.STRING, address.getCountry()));
+                query.setParameter(position++, new TypedParameterValue<>(StandardBasicTypes.STRING, address.getPostalCode()));
+            }
+            for (Object[] row : (List<Object[]>) query.getResultList()) {
+                int index = ((Number) row[0]).intValue();
+                customers.get(index).setId(((Number) row[1]).longValue());
+                inserted.add(index);
+            }
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,121 @@
+package com.managersys.repository;
+
+import com.managersys.model.CustomerStats;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CustomerStatsRepository extends JpaRepository<CustomerStats, Long> {
+    
+    @Query(value = "SELECT s FROM CustomerStats s JOIN FETCH s.customer " +
+            "ORDER BY s.totalSpend DESC, s.customerId",
+            countQuery = "SELECT COUNT(s) FROM CustomerStats s")
+    Page<CustomerStats> findTopSpenders(Pageable pageable);
+    
+    @Query(value = "SELECT s FROM CustomerStats s JOIN FETCH s.customer " +
+            "WHERE s.lastOrderAt < :cutoff ORDER BY s.lastOrderAt DESC, s.customerId DESC",
+            countQuery = "SELECT COUNT(s) FROM CustomerStats s WHERE s.lastOrderAt < :cutoff")
+    Page<CustomerStats> findLapsedSince(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+    
+    @Query(value = "SELECT s FROM CustomerStats s JOIN FETCH s.customer " +
+            "WHERE s.segment = :segment ORDER BY s.totalSpend DESC",
+            countQuery = "SELECT COUNT(s) FROM CustomerStats s WHERE s.segment = :segment")
+    Page<CustomerStats> findBySegment(@Param("segment") CustomerStats.Segment segment, Pageable pageable);
+    
+    // An order starts counting (it was paid)
+    @Modifying
+    @Query(value = "INSERT INTO customer_stats " +
+            "(customer_id, order_count, total_spend, first_order_at, last_order_at, updated_at) " +
+            "VALUES (:customerId, 1, :amount, :orderDate, :orderDate, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (customer_id) DO UPDATE SET " +
+            "order_count = customer_stats.order_count + 1, " +
+            "total_spend = customer_stats.total_spend + EXCLUDED.total_spend, " +
+            "first_order_at = LEAST(customer_stats.first_order_at, EXCLUDED.first_order_at), " +
+            "last_order_at = GREATEST(customer_stats.last_order_at, EXCLUDED.last_order_at), " +
+            "updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int addOrder(
+            @Param("customerId") Long customerId,
+            @Param("amount") BigDecimal amount,
+            @Param("orderDate") LocalDateTime orderDate);
+    
+    // An order stops counting (cancelled or refunded). First/last order dates are
+    // re-read from the customer's other counted orders through their index.
+    @Modifying
+    @Query(value = "UPDATE customer_stats SET " +
+            "order_count = order_count - 1, " +
+            "total_spend = total_spend - :amount, " +
+            "first_order_at = (SELECT MIN(so.order_date) FROM sale_orders so " +
+            "    WHERE so.customer_id = :customerId AND so.id <> :orderId " +
+            "    AND so.status IN ('PAID', 'PROCESSING', 'SHIPPED', 'DELIVERED')), " +
+            "last_order_at = (SELECT MAX(so.order_date) FROM sale_orders so " +
+            "    WHERE so.customer_id = :customerId AND so.id <> :orderId " +
+            "    AND so.status IN ('PAID', 'PROCESSING', 'SHIPPED', 'DELIVERED')), " +
+            "updated_at = CURRENT_TIMESTAMP " +
+            "WHERE customer_id = :customerId", nativeQuery = true)
+    int removeOrder(
+            @Param("customerId") Long customerId,
+            @Param("orderId") Long orderId,
+            @Param("amount") BigDecimal amount);
+    
+    @Modifying
+    @Query(value = "DELETE FROM customer_stats WHERE customer_id = :customerId AND order_count <= 0",
+            nativeQuery = true)
+    int deleteIfEmpty(@Param("customerId") Long customerId);
+    
+    @Query("SELECT MIN(c.id), MAX(c.id) FROM Customer c")
+    List<Object[]> findCustomerIdRange();
+    
+    // Recomputes one slice of customer ids from sale_orders; slices are rebuilt in parallel
+    @Modifying
+    @Query(value = "INSERT INTO customer_stats " +
+            "(customer_id, order_count, total_spend, first_order_at, last_order_at, updated_at) " +
+            "SELECT so.customer_id, COUNT(*), COALESCE(SUM(so.final_amount), 0), " +
+            "MIN(so.order_date), MAX(so.order_date), CURRENT_TIMESTAMP " +
+            "FROM sale_orders so " +
+            "WHERE so.customer_id >= :fromId AND so.customer_id < :toId " +
+            "AND so.status IN ('PAID', 'PROCESSING', 'SHIPPED', 'DELIVERED') " +
+            "GROUP BY so.customer_id " +
+            "ON CONFLICT (customer_id) DO UPDATE SET " +
+            "order_count = EXCLUDED.order_count, " +
+            "total_spend = EXCLUDED.total_spend, " +
+            "first_order_at = EXCLUDED.first_order_at, " +
+            "last_order_at = EXCLUDED.last_order_at, " +
+            "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    int rebuildRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+    
+    @Modifying
+    @Query(value = "DELETE FROM customer_stats cs " +
+            "WHERE cs.customer_id >= :fromId AND cs.customer_id < :toId " +
+            "AND NOT EXISTS (SELECT 1 FROM sale_orders so WHERE so.customer_id = cs.customer_id " +
+            "    AND so.status IN ('PAID', 'PROCESSING', 'SHIPPED', 'DELIVERED'))", nativeQuery = true)
+    int deleteStaleInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+    
+    // Quintile scores over all customers with counted orders, and the segment they map to
+    @Modifying
+    @Query(value = "UPDATE customer_stats cs SET " +
+            "recency_score = s.r, frequency_score = s.f, monetary_score = s.m, " +
+            "segment = CASE " +
+            "    WHEN s.last_order_at < :lapsedBefore THEN 'LAPSED' " +
+            "    WHEN s.r >= 4 AND s.f >= 4 AND s.m >= 4 THEN 'CHAMPION' " +
+            "    WHEN s.r >= 3 AND s.f >= 4 THEN 'LOYAL' " +
+            "    WHEN s.r >= 4 AND s.order_count = 1 THEN 'NEW' " +
+            "    WHEN s.r <= 2 AND s.f >= 3 THEN 'AT_RISK' " +
+            "    ELSE 'REGULAR' END, " +
+            "scored_at = CURRENT_TIMESTAMP " +
+            "FROM (SELECT customer_id, last_order_at, order_count, " +
+            "        NTILE(5) OVER (ORDER BY last_order_at) AS r, " +
+            "        NTILE(5) OVER (ORDER BY order_count) AS f, " +
+            "        NTILE(5) OVER (ORDER BY total_spend) AS m " +
+            "      FROM customer_stats) s " +
+            "WHERE cs.customer_id = s.customer_id", nativeQuery = true)
+    int refreshSegments(@Param("lapsedBefore") LocalDateTime lapsedBefore);
+}
@@ -2,12 +2,22 @@ package com.managersys.repository;
 
 import com.managersys.model.Employee;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     Optional<Employee> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // Rows of id, token version, enabled
+    @Query("SELECT e.id, e.tokenVersion, e.enabled FROM Employee e")
+    List<Object[]> findTokenVersions();
+
+    @Query("SELECT e.id, e.tokenVersion, e.enabled FROM Employee e WHERE e.id = :id")
+    List<Object[]> findTokenVersionById(@Param("id") Long id);
 }
@@ -0,0 +1,33 @@
+package com.managersys.repository;
+
+import com.managersys.model.MergeCandidate;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface MergeCandidateRepository extends JpaRepository<MergeCandidate, Long>, MergeCandidateRepositoryCustom {
+    
+    @Query(value = "SELECT m FROM MergeCandidate m WHERE m.status = 'PENDING' ORDER BY m.score DESC, m.id",
+            countQuery = "SELECT COUNT(m) FROM MergeCandidate m WHERE m.status = 'PENDING'")
+    Page<MergeCandidate> findPending(Pageable pageable);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM MergeCandidate m WHERE m.id = :id")
+    Optional<MergeCandidate> findByIdForUpdate(@Param("id") Long id);
+    
+    // Pairs that still point at a customer that no longer exists on its own
+    @Modifying
+    @Query("UPDATE MergeCandidate m SET m.status = 'OBSOLETE', m.resolvedAt = :now " +
+           "WHERE m.status = 'PENDING' AND (m.customerId = :customerId OR m.duplicateId = :customerId)")
+    int markObsoleteInvolving(@Param("customerId") Long customerId, @Param("now") LocalDateTime now);
+}
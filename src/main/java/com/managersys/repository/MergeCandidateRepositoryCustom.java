@@ -0,0 +1,14 @@
+package com.managersys.repository;
+
+import com.managersys.model.MergeCandidate;
+
+import java.util.List;
+
+public interface MergeCandidateRepositoryCustom {
+
+    /**
+     * Inserts new pairs and refreshes the score of pairs still pending;
+     * dismissed and resolved pairs are left as they are.
+     */
+    int upsertCandidates(List<MergeCandidate> candidates);
+}
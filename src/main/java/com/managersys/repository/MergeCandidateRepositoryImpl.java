@@ -0,0 +1,49 @@
+package com.managersys.repository;
+
+import com.managersys.model.MergeCandidate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+
+public class MergeCandidateRepositoryImpl implements MergeCandidateRepositoryCustom {
+
+    // 3 bind parameters per pair keeps each statement well below the JDBC parameter limit
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO merge_candidates (customer_id, duplicate_id, score, status, detected_at) " +
+            "SELECT v.customer_id, v.duplicate_id, v.score, 'PENDING', CURRENT_TIMESTAMP " +
+            "FROM (VALUES %s) v (customer_id, duplicate_id, score) " +
+            "ON CONFLICT (customer_id, duplicate_id) DO UPDATE " +
+            "SET score = EXCLUDED.score, detected_at = EXCLUDED.detected_at " +
+            "WHERE merge_candidates.status = 'PENDING'";
+
+    private static final String VALUES_ROW = "(CAST(? AS bigint), CAST(? AS bigint), CAST(? AS numeric))";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int upsertCandidates(List<MergeCandidate> candidates) {
+        int written = 0;
+        for (int from = 0; from < candidates.size(); from += INSERT_CHUNK_SIZE) {
+            List<MergeCandidate> chunk = candidates.subList(from, Math.min(from + INSERT_CHUNK_SIZE, candidates.size()));
+            String values = String.join(", ", Collections.nCopies(chunk.size(), VALUES_ROW));
+            Query query = entityManager.createNativeQuery(String.format(UPSERT_SQL, values));
+
+            int position = 1;
+            for (MergeCandidate candidate : chunk) {
+                query.setParameter(position++, candidate.getCustomerId());
+                query.setParameter(position++, candidate.getDuplicateId());
+                query.setParameter(position++, candidate.getScore());
+            }
+            written += query.executeUpdate();
+        }
+        return written;
+    }
+}
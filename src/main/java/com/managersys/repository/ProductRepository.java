@@ -1,27 +1,70 @@
 package com.managersys.repository;
 
+import com.managersys.dto.ProductListDTO;
 import com.managersys.model.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
     
     Optional<Product> findBySku(String sku);
     
     boolean existsBySku(String sku);
     
+    // Rows of sku, product id
+    @Query("SELECT p.sku, p.id FROM Product p WHERE p.sku IN :skus")
+    List<Object[]> findIdsBySkuIn(@Param("skus") Collection<String> skus);
+    
     List<Product> findByStockQuantityLessThanEqual(int quantity);
     
+    @Query(value = "SELECT new com.managersys.dto.ProductListDTO(p.id, p.name, p.sku, p.price, p.stockQuantity, s.id, s.name) " +
+           "FROM Product p LEFT JOIN p.supplier s",
+           countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<ProductListDTO> findAllListItems(Pageable pageable);
+    
     @Query("SELECT p FROM Product p WHERE LOWER(p.name) LIKE LOWER(concat('%', :query, '%')) " +
            "OR LOWER(p.description) LIKE LOWER(concat('%', :query, '%'))")
     List<Product> searchProducts(@Param("query") String query);
     
+    // Rows of supplier id, product id: at most :limit products per supplier, lowest
+    // ids first, each read from the front of the (supplier_id, id) index
+    @Query(value = "SELECT s.id, p.id FROM suppliers s " +
+           "CROSS JOIN LATERAL ( " +
+           "    SELECT pr.id FROM products pr WHERE pr.supplier_id = s.id ORDER BY pr.id LIMIT :limit " +
+           ") p " +
+           "WHERE s.id IN (:supplierIds) ORDER BY s.id, p.id", nativeQuery = true)
+    List<Object[]> findFirstProductIdsBySupplierIds(
+            @Param("supplierIds") Collection<Long> supplierIds,
+            @Param("limit") int limit);
+    
+    // Rows of supplier id, product count
+    @Query("SELECT p.supplier.id, COUNT(p) FROM Product p WHERE p.supplier.id IN :supplierIds GROUP BY p.supplier.id")
+    List<Object[]> countBySupplierIds(@Param("supplierIds") Collection<Long> supplierIds);
+    
     @Query("SELECT p FROM Product p WHERE p.supplier.id = :supplierId")
     List<Product> findBySupplierId(@Param("supplierId") Long supplierId);
+    
+    long countByIdIn(Collection<Long> ids);
+    
+    // Bulk supplier reassignment; both clear the persistence context afterwards so
+    // no loaded Product or Supplier.products keeps the old supplier
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE products SET supplier_id = NULL, updated_at = CURRENT_TIMESTAMP " +
+           "WHERE supplier_id = :supplierId", nativeQuery = true)
+    int detachFromSupplier(@Param("supplierId") Long supplierId);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE products SET supplier_id = :supplierId, updated_at = CURRENT_TIMESTAMP " +
+           "WHERE id IN (:productIds)", nativeQuery = true)
+    int attachToSupplier(@Param("supplierId") Long supplierId, @Param("productIds") Collection<Long> productIds);
 }
@@ -0,0 +1,21 @@
+package com.managersys.repository;
+
+import com.managersys.dto.StockAdjustmentDTO;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ProductRepositoryCustom {
+
+    /**
+     * Applies a chunk of stock adjustments in a single set-based UPDATE of product_stock.
+     * Lines without a location apply to defaultLocationId. Lines listed in
+     * duplicateLines (numbered across the whole request) are not applied.
+     * Rows are returned ordered by line as
+     * [line, productId, sku, locationId, previousQuantity, newQuantity, duplicate];
+     * locationId is null when the location is unknown and newQuantity is null
+     * when the line was not applied.
+     */
+    List<Object[]> bulkAdjustStock(List<StockAdjustmentDTO> adjustments, int firstLine, Long defaultLocationId,
+                                   Set<Integer> duplicateLines);
+}
@@ -0,0 +1,73 @@
+package com.managersys.repository;
+
+import com.managersys.dto.StockAdjustmentDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.query.TypedParameterValue;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    // Insufficient stock is evaluated against the locked row inside the UPDATE,
+    // so concurrent adjustments of the same product never drive it negative.
+    // Lines the caller found hitting the same product and location twice in the
+    // request are left out and reported. The products.stock_quantity total follows
+    // through the trigger.
+    private static final String BULK_ADJUST_SQL =
+            "WITH input (line_no, product_id, sku, location_id, delta, absolute_quantity, duplicate) AS (VALUES %s), " +
+            "resolved AS ( " +
+            "    SELECT i.line_no, p.id AS product_id, COALESCE(p.sku, i.sku) AS sku, ps.location_id, " +
+            "           i.delta, i.absolute_quantity, ps.quantity AS previous_quantity, i.duplicate " +
+            "    FROM input i " +
+            "    LEFT JOIN products p ON p.id = i.product_id " +
+            "                         OR (i.product_id IS NULL AND p.sku = i.sku) " +
+            "    LEFT JOIN product_stock ps ON ps.product_id = p.id AND ps.location_id = i.location_id " +
+            "), " +
+            "updated AS ( " +
+            "    UPDATE product_stock ps " +
+            "    SET quantity = COALESCE(r.absolute_quantity, ps.quantity + r.delta), " +
+            "        updated_at = CURRENT_TIMESTAMP " +
+            "    FROM resolved r " +
+            "    WHERE ps.product_id = r.product_id AND ps.location_id = r.location_id " +
+            "      AND NOT r.duplicate " +
+            "      AND COALESCE(r.absolute_quantity, ps.quantity + r.delta) >= 0 " +
+            "    RETURNING ps.product_id, ps.location_id, ps.quantity " +
+            ") " +
+            "SELECT r.line_no, r.product_id, r.sku, r.location_id, r.previous_quantity, u.quantity, r.duplicate " +
+            "FROM resolved r " +
+            "LEFT JOIN updated u ON u.product_id = r.product_id AND u.location_id = r.location_id " +
+            "ORDER BY r.line_no";
+
+    private static final String VALUES_ROW =
+            "(CAST(? AS integer), CAST(? AS bigint), CAST(? AS varchar), CAST(? AS bigint), CAST(? AS integer), CAST(? AS integer), CAST(? AS boolean))";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Object[]> bulkAdjustStock(List<StockAdjustmentDTO> adjustments, int firstLine, Long defaultLocationId,
+                                          Set<Integer> duplicateLines) {
+        String values = String.join(", ", Collections.nCopies(adjustments.size(), VALUES_ROW));
+        Query query = entityManager.createNativeQuery(String.format(BULK_ADJUST_SQL, values));
+
+        int position = 1;
+        for (int i = 0; i < adjustments.size(); i++) {
+            StockAdjustmentDTO adjustment = adjustments.get(i);
+            query.setParameter(position++, firstLine + i);
+            query.setParameter(position++, new TypedParameterValue<>(StandardBasicTypes.LONG, adjustment.getProductId()));
+            query.setParameter(position++, new TypedParameterValue<>(StandardBasicTypes.STRING, adjustment.getSku()));
+            query.setParameter(position++, adjustment.getLocationId() != null ? adjustment.getLocationId() : defaultLocationId);
+            query.setParameter(position++, new TypedParameterValue<>(StandardBasicTypes.INTEGER, adjustment.getDelta()));
+            query.setParameter(position++, new TypedParameterValue<>(StandardBasicTypes.INTEGER, adjustment.getAbsoluteQuantity()));
+            query.setParameter(position++, duplicateLines.contains(firstLine + i));
+        }
+
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.managersys.repository;
+
+import com.managersys.model.ProductStock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Every product has a row for every location, so stock changes are plain
+ * conditional updates. A trigger on product_stock applies each change to
+ * products.stock_quantity, keeping the total current without aggregating on read.
+ */
+@Repository
+public interface ProductStockRepository extends JpaRepository<ProductStock, ProductStock.ProductStockId> {
+
+    @Query("SELECT ps FROM ProductStock ps JOIN FETCH ps.location l " +
+           "WHERE ps.id.productId = :productId ORDER BY l.priority, l.id")
+    List<ProductStock> findByProductId(@Param("productId") Long productId);
+
+    @Modifying
+    @Query(value = "INSERT INTO product_stock (product_id, location_id, quantity) " +
+            "SELECT :productId, l.id, CASE WHEN l.id = :locationId THEN :quantity ELSE 0 END " +
+            "FROM stock_locations l " +
+            "ON CONFLICT (product_id, location_id) DO NOTHING", nativeQuery = true)
+    int createForProduct(
+            @Param("productId") Long productId,
+            @Param("locationId") Long locationId,
+            @Param("quantity") int quantity);
+
+    @Modifying
+    @Query(value = "INSERT INTO product_stock (product_id, location_id, quantity) " +
+            "SELECT p.id, :locationId, 0 FROM products p " +
+            "ON CONFLICT (product_id, location_id) DO NOTHING", nativeQuery = true)
+    int createForLocation(@Param("locationId") Long locationId);
+
+    @Modifying
+    @Query(value = "UPDATE product_stock SET quantity = :quantity, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE product_id = :productId AND location_id = :locationId", nativeQuery = true)
+    int setQuantity(
+            @Param("productId") Long productId,
+            @Param("locationId") Long locationId,
+            @Param("quantity") int quantity);
+
+    // Checked against the locked row, so concurrent changes can never drive a location negative
+    @Modifying
+    @Query(value = "UPDATE product_stock SET quantity = quantity + :delta, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE product_id = :productId AND location_id = :locationId AND quantity + :delta >= 0", nativeQuery = true)
+    int adjustQuantity(
+            @Param("productId") Long productId,
+            @Param("locationId") Long locationId,
+            @Param("delta") int delta);
+
+    // Takes the quantity from the highest-priority location that can cover it on
+    // its own and returns that location's id. Comes back empty when no location
+    // qualifies, or when the picked row was drained while we waited for its lock.
+    @Query(value = "UPDATE product_stock ps " +
+            "SET quantity = ps.quantity - :quantity, updated_at = CURRENT_TIMESTAMP " +
+            "FROM ( " +
+            "    SELECT s.location_id FROM product_stock s " +
+            "    JOIN stock_locations l ON l.id = s.location_id " +
+            "    WHERE s.product_id = :productId AND s.quantity >= :quantity " +
+            "    ORDER BY l.priority, s.quantity DESC, l.id " +
+            "    LIMIT 1 FOR UPDATE OF s " +
+            ") pick " +
+            "WHERE ps.product_id = :productId AND ps.location_id = pick.location_id " +
+            "  AND ps.quantity >= :quantity " +
+            "RETURNING ps.location_id", nativeQuery = true)
+    List<Long> reserveFromFirstAvailable(
+            @Param("productId") Long productId,
+            @Param("quantity") int quantity);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM product_stock " +
+            "WHERE product_id = :productId AND quantity >= :quantity)", nativeQuery = true)
+    boolean existsLocationWithQuantity(
+            @Param("productId") Long productId,
+            @Param("quantity") int quantity);
+}
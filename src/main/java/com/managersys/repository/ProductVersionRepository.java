@@ -0,0 +1,31 @@
+package com.managersys.repository;
+
+import com.managersys.model.ProductVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ProductVersionRepository extends JpaRepository<ProductVersion, Long> {
+
+    @Query("SELECT v FROM ProductVersion v WHERE v.product.id = :productId AND v.contentHash = :contentHash")
+    Optional<ProductVersion> findByProductIdAndContentHash(
+            @Param("productId") Long productId,
+            @Param("contentHash") byte[] contentHash);
+
+    // A concurrent sale of the same content may insert it first; either way the
+    // row exists afterwards
+    @Modifying
+    @Query(value = "INSERT INTO product_versions (product_id, content_hash, name, description) " +
+            "VALUES (:productId, :contentHash, :name, :description) " +
+            "ON CONFLICT (product_id, content_hash) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(
+            @Param("productId") Long productId,
+            @Param("contentHash") byte[] contentHash,
+            @Param("name") String name,
+            @Param("description") String description);
+}
@@ -0,0 +1,36 @@
+package com.managersys.repository;
+
+import com.managersys.model.ReplenishmentSuggestion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReplenishmentSuggestionRepository extends JpaRepository<ReplenishmentSuggestion, Long>, ReplenishmentSuggestionRepositoryCustom {
+
+    // Products without a supplier form their own group, listed last
+    @Query(value = "SELECT r.supplierId, r.supplierName, COUNT(r), SUM(r.suggestedQuantity) " +
+           "FROM ReplenishmentSuggestion r " +
+           "WHERE r.suggestedQuantity > 0 " +
+           "GROUP BY r.supplierId, r.supplierName " +
+           "ORDER BY r.supplierName NULLS LAST, r.supplierId",
+           countQuery = "SELECT COUNT(DISTINCT COALESCE(r.supplierId, 0)) FROM ReplenishmentSuggestion r " +
+           "WHERE r.suggestedQuantity > 0")
+    Page<Object[]> findSupplierTotals(Pageable pageable);
+
+    @Query("SELECT r FROM ReplenishmentSuggestion r " +
+           "WHERE r.suggestedQuantity > 0 AND r.supplierId IN :supplierIds " +
+           "ORDER BY r.daysOfCover, r.productId")
+    List<ReplenishmentSuggestion> findSuggestionsBySupplierIds(@Param("supplierIds") Collection<Long> supplierIds);
+
+    @Query("SELECT r FROM ReplenishmentSuggestion r " +
+           "WHERE r.suggestedQuantity > 0 AND r.supplierId IS NULL " +
+           "ORDER BY r.daysOfCover, r.productId")
+    List<ReplenishmentSuggestion> findUnassignedSuggestions();
+}
@@ -0,0 +1,15 @@
+package com.managersys.repository;
+
+import java.util.Map;
+
+public interface ReplenishmentSuggestionRepositoryCustom {
+
+    /**
+     * Replaces all suggestions in one transaction, so readers see either the
+     * previous run or the new one. unitsSold maps product id to units sold in
+     * the window; velocity, days of cover and the suggested quantity (enough
+     * stock for coverDays at the current velocity) are derived in SQL against
+     * the current product stock. Returns the number of rows written.
+     */
+    int replaceSuggestions(Map<Long, Long> unitsSold, int windowDays, int coverDays);
+}
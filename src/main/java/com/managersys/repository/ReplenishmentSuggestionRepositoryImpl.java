@@ -0,0 +1,60 @@
+package com.managersys.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class ReplenishmentSuggestionRepositoryImpl implements ReplenishmentSuggestionRepositoryCustom {
+
+    // 2 bind parameters per product keeps each statement well below the JDBC parameter limit
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO replenishment_suggestions (product_id, product_name, sku, supplier_id, supplier_name, " +
+            "    units_sold, daily_velocity, stock_quantity, days_of_cover, suggested_quantity, computed_at) " +
+            "SELECT p.id, p.name, p.sku, s.id, s.name, f.units_sold, f.velocity, p.stock_quantity, " +
+            "       ROUND(p.stock_quantity / f.velocity, 1), " +
+            "       GREATEST(0, CEIL(f.velocity * ?) - p.stock_quantity), " +
+            "       CURRENT_TIMESTAMP " +
+            "FROM ( " +
+            "    SELECT v.product_id, v.units_sold, v.units_sold / CAST(? AS numeric) AS velocity " +
+            "    FROM (VALUES %s) v (product_id, units_sold) " +
+            ") f " +
+            "JOIN products p ON p.id = f.product_id " +
+            "LEFT JOIN suppliers s ON s.id = p.supplier_id";
+
+    private static final String VALUES_ROW = "(CAST(? AS bigint), CAST(? AS bigint))";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int replaceSuggestions(Map<Long, Long> unitsSold, int windowDays, int coverDays) {
+        entityManager.createNativeQuery("DELETE FROM replenishment_suggestions").executeUpdate();
+
+        List<Map.Entry<Long, Long>> rows = new ArrayList<>(unitsSold.entrySet());
+        int written = 0;
+        for (int from = 0; from < rows.size(); from += INSERT_CHUNK_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = rows.subList(from, Math.min(from + INSERT_CHUNK_SIZE, rows.size()));
+            String values = String.join(", ", Collections.nCopies(chunk.size(), VALUES_ROW));
+            Query query = entityManager.createNativeQuery(String.format(INSERT_SQL, values));
+
+            int position = 1;
+            query.setParameter(position++, coverDays);
+            query.setParameter(position++, windowDays);
+            for (Map.Entry<Long, Long> row : chunk) {
+                query.setParameter(position++, row.getKey());
+                query.setParameter(position++, row.getValue());
+            }
+            written += query.executeUpdate();
+        }
+        return written;
+    }
+}
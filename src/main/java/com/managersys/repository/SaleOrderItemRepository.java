@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -41,8 +42,22 @@ public interface SaleOrderItemRepository extends JpaRepository<SaleOrderItem, Lo
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
     
+    // Units sold per product for one slice of order ids; slices are aggregated in parallel
+    @Query(value = "SELECT soi.product_id, SUM(soi.quantity) " +
+            "FROM sale_orders so " +
+            "JOIN sale_order_items soi ON soi.order_id = so.id " +
+            "WHERE so.id >= :fromId AND so.id < :toId " +
+            "AND so.order_date >= :since " +
+            "AND so.status IN ('PAID', 'PROCESSING', 'SHIPPED', 'DELIVERED') " +
+            "GROUP BY soi.product_id", nativeQuery = true)
+    List<Object[]> sumSoldQuantityByProductForOrderRange(
+            @Param("fromId") Long fromId,
+            @Param("toId") Long toId,
+            @Param("since") LocalDateTime since);
+    
     @Query("SELECT soi FROM SaleOrderItem soi " +
            "JOIN FETCH soi.product " +
+           "JOIN FETCH soi.productVersion " +
            "JOIN FETCH soi.order so " +
            "WHERE so.id = :orderId")
     List<SaleOrderItem> findItemsWithProductByOrderId(@Param("orderId") Long orderId);
@@ -1,28 +1,89 @@
 package com.managersys.repository;
 
+import com.managersys.dto.SaleOrderListDTO;
 import com.managersys.model.SaleOrder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SaleOrderRepository extends JpaRepository<SaleOrder, Long> {
 
-    Page<SaleOrder> findByCustomerId(Long customerId, Pageable pageable);
+    // List rows with the customer name; items are left to the order detail
+    String LIST_ITEM_SELECT = "SELECT new com.managersys.dto.SaleOrderListDTO(so.id, so.orderNumber, " +
+            "c.id, c.name, so.status, so.orderDate, so.finalAmount) " +
+            "FROM SaleOrder so LEFT JOIN so.customer c ";
+
+    @Query(value = LIST_ITEM_SELECT,
+           countQuery = "SELECT COUNT(so) FROM SaleOrder so")
+    Page<SaleOrderListDTO> findAllListItems(Pageable pageable);
+
+    @Query(value = LIST_ITEM_SELECT + "WHERE c.id = :customerId",
+           countQuery = "SELECT COUNT(so) FROM SaleOrder so WHERE so.customer.id = :customerId")
+    Page<SaleOrderListDTO> findListItemsByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+    
+    @Query(LIST_ITEM_SELECT + "WHERE c.id = :customerId ORDER BY so.orderDate DESC")
+    List<SaleOrderListDTO> findRecentListItemsByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+    
+    @Query("SELECT COUNT(so), COALESCE(SUM(so.finalAmount), 0) FROM SaleOrder so " +
+           "WHERE so.customer.id = :customerId AND so.status IN :statuses")
+    List<Object[]> sumSpendByCustomerId(
+            @Param("customerId") Long customerId,
+            @Param("statuses") List<SaleOrder.Status> statuses);
+    
+    // Timeline rows (id, orderDate, status, orderNumber, finalAmount), newest first
+    @Query("SELECT so.id, so.orderDate, so.status, so.orderNumber, so.finalAmount FROM SaleOrder so " +
+           "WHERE so.customer.id = :customerId ORDER BY so.orderDate DESC, so.id DESC")
+    List<Object[]> findTimelineByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
     
-    @Query("SELECT so FROM SaleOrder so WHERE DATE(so.orderDate) BETWEEN :startDate AND :endDate")
-    Page<SaleOrder> findByOrderDateBetween(
+    // Same rows strictly after the (beforeAt, beforeId) seek position. The redundant
+    // upper bound lets the (customer_id, order_date, id) index start at the seek
+    // position instead of filtering the newer rows
+    @Query("SELECT so.id, so.orderDate, so.status, so.orderNumber, so.finalAmount FROM SaleOrder so " +
+           "WHERE so.customer.id = :customerId AND " +
+           "so.orderDate <= :beforeAt AND (so.orderDate < :beforeAt OR (so.orderDate = :beforeAt AND so.id < :beforeId)) " +
+           "ORDER BY so.orderDate DESC, so.id DESC")
+    List<Object[]> findTimelineByCustomerIdBefore(
+            @Param("customerId") Long customerId,
+            @Param("beforeAt") LocalDateTime beforeAt,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable);
+    
+    @Modifying
+    @Query(value = "UPDATE sale_orders SET customer_id = :toCustomerId, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE customer_id = :fromCustomerId", nativeQuery = true)
+    int reassignCustomer(
+            @Param("fromCustomerId") Long fromCustomerId,
+            @Param("toCustomerId") Long toCustomerId);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT so FROM SaleOrder so WHERE so.id = :id")
+    Optional<SaleOrder> findByIdForUpdate(@Param("id") Long id);
+    
+    @Query(value = LIST_ITEM_SELECT + "WHERE DATE(so.orderDate) BETWEEN :startDate AND :endDate",
+           countQuery = "SELECT COUNT(so) FROM SaleOrder so WHERE DATE(so.orderDate) BETWEEN :startDate AND :endDate")
+    Page<SaleOrderListDTO> findListItemsByOrderDateBetween(
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
             Pageable pageable);
     
-    Page<SaleOrder> findByStatus(SaleOrder.Status status, Pageable pageable);
+    @Query(value = LIST_ITEM_SELECT + "WHERE so.status = :status",
+           countQuery = "SELECT COUNT(so) FROM SaleOrder so WHERE so.status = :status")
+    Page<SaleOrderListDTO> findListItemsByStatus(@Param("status") SaleOrder.Status status, Pageable pageable);
+    
+    @Query("SELECT MIN(so.id), MAX(so.id) FROM SaleOrder so WHERE so.orderDate >= :since")
+    List<Object[]> findIdRangeSince(@Param("since") LocalDateTime since);
     
     @Query("SELECT so FROM SaleOrder so WHERE so.status IN :statuses")
     Page<SaleOrder> findByStatusIn(@Param("statuses") List<SaleOrder.Status> statuses, Pageable pageable);
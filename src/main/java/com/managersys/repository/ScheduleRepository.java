@@ -1,9 +1,12 @@
 package com.managersys.repository;
 
 import com.managersys.model.ServiceSchedule;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,10 +14,16 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ScheduleRepository extends JpaRepository<ServiceSchedule, Long> {
 
+    // Serializes state changes that also bump the daily service counters
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ss FROM ServiceSchedule ss WHERE ss.id = :id")
+    Optional<ServiceSchedule> findByIdForUpdate(@Param("id") Long id);
+
     @Query("SELECT ss FROM ServiceSchedule ss WHERE " +
            "ss.service.id = :serviceId AND " +
            "ss.status = 'SCHEDULED' AND " +
@@ -66,6 +75,54 @@ public interface ScheduleRepository extends JpaRepository<ServiceSchedule, Long>
     @Query("SELECT ss FROM ServiceSchedule ss WHERE ss.customer.id = :customerId")
     Page<ServiceSchedule> findByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
 
+    @Modifying
+    @Query(value = "UPDATE service_schedules SET customer_id = :toCustomerId, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE customer_id = :fromCustomerId", nativeQuery = true)
+    int reassignCustomer(
+            @Param("fromCustomerId") Long fromCustomerId,
+            @Param("toCustomerId") Long toCustomerId);
+
+    @Query("SELECT ss FROM ServiceSchedule ss WHERE " +
+           "ss.customer.id = :customerId AND " +
+           "ss.status IN ('SCHEDULED', 'CONFIRMED') AND " +
+           "ss.startDateTime >= :from " +
+           "ORDER BY ss.startDateTime")
+    List<ServiceSchedule> findUpcomingByCustomerId(
+            @Param("customerId") Long customerId,
+            @Param("from") LocalDateTime from,
+            Pageable pageable);
+
+    // Timeline rows (id, startDateTime, status, service name, service price), newest first
+    @Query("SELECT ss.id, ss.startDateTime, ss.status, s.name, s.price FROM ServiceSchedule ss JOIN ss.service s " +
+           "WHERE ss.customer.id = :customerId ORDER BY ss.startDateTime DESC, ss.id DESC")
+    List<Object[]> findTimelineByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+
+    @Query("SELECT ss.id, ss.startDateTime, ss.status, s.name, s.price FROM ServiceSchedule ss JOIN ss.service s " +
+           "WHERE ss.customer.id = :customerId AND " +
+           "ss.startDateTime <= :beforeAt AND (ss.startDateTime < :beforeAt OR (ss.startDateTime = :beforeAt AND ss.id < :beforeId)) " +
+           "ORDER BY ss.startDateTime DESC, ss.id DESC")
+    List<Object[]> findTimelineByCustomerIdBefore(
+            @Param("customerId") Long customerId,
+            @Param("beforeAt") LocalDateTime beforeAt,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable);
+
+    // Cancellation rows (id, cancelledAt, status, service name, cancellation reason), newest first
+    @Query("SELECT ss.id, ss.cancelledAt, ss.status, s.name, ss.cancellationReason FROM ServiceSchedule ss JOIN ss.service s " +
+           "WHERE ss.customer.id = :customerId AND ss.cancelledAt IS NOT NULL " +
+           "ORDER BY ss.cancelledAt DESC, ss.id DESC")
+    List<Object[]> findCancellationTimelineByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+
+    @Query("SELECT ss.id, ss.cancelledAt, ss.status, s.name, ss.cancellationReason FROM ServiceSchedule ss JOIN ss.service s " +
+           "WHERE ss.customer.id = :customerId AND ss.cancelledAt IS NOT NULL AND " +
+           "ss.cancelledAt <= :beforeAt AND (ss.cancelledAt < :beforeAt OR (ss.cancelledAt = :beforeAt AND ss.id < :beforeId)) " +
+           "ORDER BY ss.cancelledAt DESC, ss.id DESC")
+    List<Object[]> findCancellationTimelineByCustomerIdBefore(
+            @Param("customerId") Long customerId,
+            @Param("beforeAt") LocalDateTime beforeAt,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable);
+
     @Query("SELECT ss FROM ServiceSchedule ss WHERE ss.service.id = :serviceId")
     Page<ServiceSchedule> findByServiceId(@Param("serviceId") Long serviceId, Pageable pageable);
 
@@ -0,0 +1,71 @@
+package com.managersys.repository;
+
+import com.managersys.model.ServiceDailyStats;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Repository
+public interface ServiceDailyStatsRepository
+        extends JpaRepository<ServiceDailyStats, ServiceDailyStats.ServiceDayId> {
+
+    @Modifying
+    @Query(value = "INSERT INTO service_daily_stats (service_id, stats_date, completed_count, rating_sum, rating_count) " +
+            "VALUES (:serviceId, :day, 1, COALESCE(CAST(:rating AS integer), 0), " +
+            "        CASE WHEN CAST(:rating AS integer) IS NULL THEN 0 ELSE 1 END) " +
+            "ON CONFLICT (service_id, stats_date) DO UPDATE SET " +
+            "    completed_count = service_daily_stats.completed_count + 1, " +
+            "    rating_sum = service_daily_stats.rating_sum + EXCLUDED.rating_sum, " +
+            "    rating_count = service_daily_stats.rating_count + EXCLUDED.rating_count, " +
+            "    updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int addCompletion(
+            @Param("serviceId") Long serviceId,
+            @Param("day") LocalDate day,
+            @Param("rating") Integer rating);
+
+    @Modifying
+    @Query(value = "INSERT INTO service_daily_stats (service_id, stats_date, paid_count, revenue) " +
+            "VALUES (:serviceId, :day, 1, :amount) " +
+            "ON CONFLICT (service_id, stats_date) DO UPDATE SET " +
+            "    paid_count = service_daily_stats.paid_count + 1, " +
+            "    revenue = service_daily_stats.revenue + EXCLUDED.revenue, " +
+            "    updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int addPayment(
+            @Param("serviceId") Long serviceId,
+            @Param("day") LocalDate day,
+            @Param("amount") BigDecimal amount);
+
+    // Ranked rows (rank, service id, name, completed, paid, revenue, average rating)
+    // over a window of days. Services without rated appointments rank last by rating.
+    @Query(value = "SELECT RANK() OVER (ORDER BY CASE :metric " +
+            "           WHEN 'COMPLETED' THEN t.completed_count " +
+            "           WHEN 'RATING' THEN COALESCE(t.average_rating, -1) " +
+            "           ELSE t.revenue END DESC), " +
+            "       t.service_id, t.service_name, t.completed_count, t.paid_count, t.revenue, t.average_rating " +
+            "FROM ( " +
+            "    SELECT s.id AS service_id, s.name AS service_name, " +
+            "           CAST(SUM(d.completed_count) AS numeric) AS completed_count, SUM(d.paid_count) AS paid_count, " +
+            "           SUM(d.revenue) AS revenue, " +
+            "           ROUND(SUM(d.rating_sum) / NULLIF(SUM(d.rating_count), 0), 2) AS average_rating " +
+            "    FROM service_daily_stats d " +
+            "    JOIN services s ON s.id = d.service_id " +
+            "    WHERE d.stats_date BETWEEN :from AND :to " +
+            "    GROUP BY s.id, s.name " +
+            ") t " +
+            "ORDER BY 1, t.service_id",
+            countQuery = "SELECT COUNT(DISTINCT d.service_id) FROM service_daily_stats d " +
+                    "WHERE d.stats_date BETWEEN :from AND :to",
+            nativeQuery = true)
+    Page<Object[]> findServiceStats(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("metric") String metric,
+            Pageable pageable);
+}
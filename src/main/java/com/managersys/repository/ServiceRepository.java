@@ -1,5 +1,6 @@
 package com.managersys.repository;
 
+import com.managersys.dto.ServiceListDTO;
 import com.managersys.model.Service;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,56 +16,86 @@ import java.util.Optional;
 @Repository
 public interface ServiceRepository extends JpaRepository<Service, Long> {
 
-    @Query("SELECT s FROM Service s WHERE " +
+    // List rows with the category name, leaving out the lazy TEXT columns
+    String LIST_ITEM_SELECT = "SELECT new com.managersys.dto.ServiceListDTO(s.id, s.name, s.price, " +
+           "s.durationMinutes, s.active, s.onlineBookingAvailable, c.id, c.name) " +
+           "FROM Service s LEFT JOIN s.category c ";
+
+    @Query(value = LIST_ITEM_SELECT,
+           countQuery = "SELECT COUNT(s) FROM Service s")
+    Page<ServiceListDTO> findAllListItems(Pageable pageable);
+    
+    @Query(value = LIST_ITEM_SELECT + "WHERE " +
+           "LOWER(s.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
+           "LOWER(s.description) LIKE LOWER(CONCAT('%', :query, '%'))",
+           countQuery = "SELECT COUNT(s) FROM Service s WHERE " +
            "LOWER(s.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
            "LOWER(s.description) LIKE LOWER(CONCAT('%', :query, '%'))")
-    Page<Service> search(@Param("query") String query, Pageable pageable);
+    Page<ServiceListDTO> searchListItems(@Param("query") String query, Pageable pageable);
     
-    Page<Service> findByCategoryId(Long categoryId, Pageable pageable);
+    @Query(value = LIST_ITEM_SELECT + "WHERE c.id = :categoryId",
+           countQuery = "SELECT COUNT(s) FROM Service s WHERE s.category.id = :categoryId")
+    Page<ServiceListDTO> findListItemsByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
     
     Page<Service> findByActiveTrue(Pageable pageable);
     
     List<Service> findByCategoryIdAndActiveTrue(Long categoryId);
     
-    @Query("SELECT s FROM Service s WHERE " +
+    @Query(value = LIST_ITEM_SELECT + "WHERE " +
+           "s.onlineBookingAvailable = true AND s.active = true AND " +
+           "(c IS NULL OR c.active = true)",
+           countQuery = "SELECT COUNT(s) FROM Service s LEFT JOIN s.category c WHERE " +
            "s.onlineBookingAvailable = true AND s.active = true AND " +
-           "(s.category IS NULL OR s.category.active = true)")
-    Page<Service> findAvailableForOnlineBooking(Pageable pageable);
+           "(c IS NULL OR c.active = true)")
+    Page<ServiceListDTO> findListItemsAvailableForOnlineBooking(Pageable pageable);
     
-    @Query("SELECT s FROM Service s WHERE " +
+    @Query(value = LIST_ITEM_SELECT + "WHERE " +
            "s.onlineBookingAvailable = true AND s.active = true AND " +
-           "s.category.id = :categoryId AND (s.category IS NULL OR s.category.active = true)")
-    Page<Service> findAvailableForOnlineBookingByCategory(
+           "c.id = :categoryId AND c.active = true",
+           countQuery = "SELECT COUNT(s) FROM Service s JOIN s.category c WHERE " +
+           "s.onlineBookingAvailable = true AND s.active = true AND " +
+           "c.id = :categoryId AND c.active = true")
+    Page<ServiceListDTO> findListItemsAvailableForOnlineBookingByCategory(
             @Param("categoryId") Long categoryId, Pageable pageable);
     
-    @Query("SELECT s FROM Service s WHERE " +
+    // Booking catalog rows (service id, name, price, duration, deposit required, deposit
+    // amount, category id, category name), skipping the TEXT columns; uncategorized
+    // services are included. Like the category tree, a category is only shown when
+    // neither it nor any of its ancestors is inactive (the closure includes the
+    // category itself at depth 0)
+    @Query(value = "SELECT s.id, s.name, s.price, s.duration_minutes, s.deposit_required, s.deposit_amount, " +
+           "       c.id, c.name " +
+           "FROM services s LEFT JOIN service_categories c ON c.id = s.category_id " +
+           "WHERE s.is_online_booking_available = true AND s.is_active = true " +
+           "AND NOT EXISTS ( " +
+           "    SELECT 1 FROM service_category_closure a " +
+           "    JOIN service_categories p ON p.id = a.ancestor_id " +
+           "    WHERE a.descendant_id = s.category_id AND p.is_active = false " +
+           ") " +
+           "ORDER BY c.display_order NULLS LAST, c.name, s.name, s.id", nativeQuery = true)
+    List<Object[]> findOnlineBookingCatalogRows();
+    
+    @Query(value = LIST_ITEM_SELECT + "WHERE " +
+           "s.id IN (SELECT DISTINCT ss.service.id FROM ServiceSchedule ss WHERE ss.employee.id = :employeeId)",
+           countQuery = "SELECT COUNT(s) FROM Service s WHERE " +
            "s.id IN (SELECT DISTINCT ss.service.id FROM ServiceSchedule ss WHERE ss.employee.id = :employeeId)")
-    Page<Service> findByEmployeeId(@Param("employeeId") Long employeeId, Pageable pageable);
+    Page<ServiceListDTO> findListItemsByEmployeeId(@Param("employeeId") Long employeeId, Pageable pageable);
     
-    @Query("SELECT s FROM Service s WHERE " +
+    @Query(value = LIST_ITEM_SELECT + "WHERE " +
+           "s.id IN (SELECT DISTINCT ss.service.id FROM ServiceSchedule ss WHERE ss.customer.id = :customerId)",
+           countQuery = "SELECT COUNT(s) FROM Service s WHERE " +
            "s.id IN (SELECT DISTINCT ss.service.id FROM ServiceSchedule ss WHERE ss.customer.id = :customerId)")
-    Page<Service> findByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+    Page<ServiceListDTO> findListItemsByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
     
-    @Query("SELECT s FROM Service s WHERE " +
-           "s.price BETWEEN :minPrice AND :maxPrice AND " +
-           "s.active = true")
-    Page<Service> findByPriceRange(
-            @Param("minPrice") BigDecimal minPrice,
-            @Param("maxPrice") BigDecimal maxPrice,
-            Pageable pageable);
+    // Rows of the in-memory price index (ServicePriceIndex)
+    @Query(LIST_ITEM_SELECT + "WHERE s.active = true ORDER BY s.price, s.id")
+    List<ServiceListDTO> findActiveListItemsOrderByPrice();
     
-    @Query("SELECT s FROM Service s WHERE " +
+    @Query(value = LIST_ITEM_SELECT + "WHERE " +
+           "s.id IN (SELECT ss.service.id FROM ServiceSchedule ss WHERE " +
+           "ss.startDateTime >= CURRENT_DATE AND ss.status = 'SCHEDULED')",
+           countQuery = "SELECT COUNT(s) FROM Service s WHERE " +
            "s.id IN (SELECT ss.service.id FROM ServiceSchedule ss WHERE " +
            "ss.startDateTime >= CURRENT_DATE AND ss.status = 'SCHEDULED')")
-    Page<Service> findWithUpcomingAppointments(Pageable pageable);
-    
-    @Query("SELECT s, COUNT(ss) as appointmentCount FROM Service s " +
-           "LEFT JOIN s.schedules ss " +
-           "WHERE ss.startDateTime BETWEEN :startDate AND :endDate " +
-           "GROUP BY s " +
-           "ORDER BY appointmentCount DESC")
-    Page<Object[]> findMostPopularServices(
-            @Param("startDate") java.time.LocalDateTime startDate,
-            @Param("endDate") java.time.LocalDateTime endDate,
-            Pageable pageable);
+    Page<ServiceListDTO> findListItemsWithUpcomingAppointments(Pageable pageable);
 }
@@ -0,0 +1,64 @@
+package com.managersys.repository;
+
+import com.managersys.model.StockHold;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StockHoldRepository extends JpaRepository<StockHold, Long> {
+
+    @Modifying
+    @Query("DELETE FROM StockHold h WHERE h.order.id = :orderId")
+    int deleteByOrderId(@Param("orderId") Long orderId);
+
+    @Query("SELECT h.order.id, MIN(h.expiresAt) FROM StockHold h GROUP BY h.order.id")
+    List<Object[]> findOutstandingOrderExpirations();
+
+    @Query("SELECT DISTINCT h.order.id FROM StockHold h WHERE h.expiresAt <= :now")
+    List<Long> findOrderIdsWithExpiredHolds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // Locks the still-DRAFT orders first (same order as SaleService status changes),
+    // then drops their expired holds, puts the stock back at the locations it was
+    // taken from and cancels the orders, all in one statement. Leftover holds of
+    // orders that already moved on are dropped without restocking. Returns the ids
+    // of the orders that were cancelled.
+    @Query(value = "WITH expired_orders AS ( " +
+            "    SELECT so.id FROM sale_orders so " +
+            "    WHERE so.id IN (:orderIds) AND so.status = 'DRAFT' " +
+            "    ORDER BY so.id FOR UPDATE " +
+            "), " +
+            "released AS ( " +
+            "    DELETE FROM stock_holds h USING expired_orders o " +
+            "    WHERE h.order_id = o.id AND h.expires_at <= :now " +
+            "    RETURNING h.order_id, h.product_id, h.location_id, h.quantity " +
+            "), " +
+            "stale AS ( " +
+            "    DELETE FROM stock_holds h USING sale_orders so " +
+            "    WHERE h.order_id = so.id AND so.id IN (:orderIds) " +
+            "      AND so.status <> 'DRAFT' AND h.expires_at <= :now " +
+            "), " +
+            "restocked AS ( " +
+            "    UPDATE product_stock ps " +
+            "    SET quantity = ps.quantity + r.quantity, updated_at = CURRENT_TIMESTAMP " +
+            "    FROM (SELECT product_id, location_id, SUM(quantity) AS quantity " +
+            "          FROM released GROUP BY product_id, location_id) r " +
+            "    WHERE ps.product_id = r.product_id AND ps.location_id = r.location_id " +
+            "), " +
+            "cancelled AS ( " +
+            "    UPDATE sale_orders so SET status = 'CANCELLED', updated_at = CURRENT_TIMESTAMP " +
+            "    WHERE so.id IN (SELECT order_id FROM released) " +
+            "    RETURNING so.id " +
+            ") " +
+            "SELECT id FROM cancelled", nativeQuery = true)
+    List<Long> releaseExpiredHolds(
+            @Param("orderIds") Collection<Long> orderIds,
+            @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,18 @@
+package com.managersys.repository;
+
+import com.managersys.model.StockLocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StockLocationRepository extends JpaRepository<StockLocation, Long> {
+    
+    Optional<StockLocation> findByCode(String code);
+    
+    boolean existsByCode(String code);
+    
+    List<StockLocation> findAllByOrderByPriorityAscIdAsc();
+}
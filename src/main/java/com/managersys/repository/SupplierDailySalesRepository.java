@@ -0,0 +1,48 @@
+package com.managersys.repository;
+
+import com.managersys.model.SupplierDailySales;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface SupplierDailySalesRepository
+        extends JpaRepository<SupplierDailySales, SupplierDailySales.SupplierDayId>, SupplierDailySalesRepositoryCustom {
+
+    // Scorecard rows (rank, supplier id, name, revenue, units sold, orders, stockouts,
+    // units on hand, sell-through) over a window of days, ranked by the chosen metric.
+    // On-hand stock is read per ranked supplier through the products.supplier_id index.
+    @Query(value = "SELECT RANK() OVER (ORDER BY CASE :metric " +
+            "           WHEN 'UNITS_SOLD' THEN t.units_sold " +
+            "           WHEN 'SELL_THROUGH' THEN COALESCE(t.units_sold / NULLIF(t.units_sold + oh.on_hand, 0), 0) " +
+            "           WHEN 'STOCKOUTS' THEN t.stockout_count " +
+            "           ELSE t.revenue END DESC), " +
+            "       t.supplier_id, t.supplier_name, t.revenue, t.units_sold, t.order_count, t.stockout_count, " +
+            "       oh.on_hand, ROUND(COALESCE(t.units_sold / NULLIF(t.units_sold + oh.on_hand, 0), 0), 4) " +
+            "FROM ( " +
+            "    SELECT s.id AS supplier_id, s.name AS supplier_name, SUM(d.revenue) AS revenue, " +
+            "           CAST(SUM(d.units_sold) AS numeric) AS units_sold, SUM(d.order_count) AS order_count, " +
+            "           SUM(d.stockout_count) AS stockout_count " +
+            "    FROM supplier_daily_sales d " +
+            "    JOIN suppliers s ON s.id = d.supplier_id " +
+            "    WHERE d.sales_date BETWEEN :from AND :to " +
+            "    GROUP BY s.id, s.name " +
+            ") t " +
+            "CROSS JOIN LATERAL ( " +
+            "    SELECT COALESCE(SUM(p.stock_quantity), 0) AS on_hand FROM products p WHERE p.supplier_id = t.supplier_id " +
+            ") oh " +
+            "ORDER BY 1, t.supplier_id",
+            countQuery = "SELECT COUNT(DISTINCT d.supplier_id) FROM supplier_daily_sales d " +
+                    "WHERE d.sales_date BETWEEN :from AND :to",
+            nativeQuery = true)
+    Page<Object[]> findScorecards(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("metric") String metric,
+            Pageable pageable);
+}
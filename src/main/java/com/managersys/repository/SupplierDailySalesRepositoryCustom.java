@@ -0,0 +1,10 @@
+package com.managersys.repository;
+
+import java.time.LocalDateTime;
+
+public interface SupplierDailySalesRepositoryCustom {
+
+    int refreshDaysChangedSince(LocalDateTime since);
+
+    int rebuildAll();
+}
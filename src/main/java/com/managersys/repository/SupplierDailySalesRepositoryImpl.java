@@ -0,0 +1,86 @@
+package com.managersys.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public class SupplierDailySalesRepositoryImpl implements SupplierDailySalesRepositoryCustom {
+
+    // Days with an order changed or deleted or a stockout recorded after :since
+    private static final String CHANGED_DAYS =
+            "SELECT CAST(so.order_date AS DATE) AS day FROM sale_orders so WHERE so.updated_at > :since " +
+            "UNION " +
+            "SELECT CAST(d.order_date AS DATE) FROM sale_order_deletions d WHERE d.deleted_at > :since " +
+            "UNION " +
+            "SELECT CAST(o.occurred_at AS DATE) FROM product_stockouts o WHERE o.occurred_at > :since";
+
+    private static final String ALL_DAYS =
+            "SELECT CAST(so.order_date AS DATE) AS day FROM sale_orders so " +
+            "UNION " +
+            "SELECT CAST(o.occurred_at AS DATE) FROM product_stockouts o";
+
+    private static final String DELETE_SQL =
+            "WITH dirty AS (%s) " +
+            "DELETE FROM supplier_daily_sales d USING dirty WHERE d.sales_date = dirty.day";
+
+    // Each day is read through a range on the order_date / occurred_at indexes
+    private static final String INSERT_SQL =
+            "WITH dirty AS (%s) " +
+            "INSERT INTO supplier_daily_sales " +
+            "    (supplier_id, sales_date, revenue, units_sold, order_count, stockout_count, refreshed_at) " +
+            "SELECT t.supplier_id, t.sales_date, SUM(t.revenue), SUM(t.units_sold), " +
+            "       SUM(t.order_count), SUM(t.stockout_count), CURRENT_TIMESTAMP " +
+            "FROM ( " +
+            "    SELECT p.supplier_id, dirty.day AS sales_date, SUM(i.total_amount) AS revenue, " +
+            "           SUM(i.quantity) AS units_sold, COUNT(DISTINCT so.id) AS order_count, 0 AS stockout_count " +
+            "    FROM dirty " +
+            "    JOIN sale_orders so ON so.order_date >= dirty.day AND so.order_date < dirty.day + 1 " +
+            "    JOIN sale_order_items i ON i.order_id = so.id " +
+            "    JOIN products p ON p.id = i.product_id " +
+            "    WHERE p.supplier_id IS NOT NULL " +
+            "      AND so.status IN ('PAID', 'PROCESSING', 'SHIPPED', 'DELIVERED') " +
+            "    GROUP BY p.supplier_id, dirty.day " +
+            "    UNION ALL " +
+            "    SELECT p.supplier_id, dirty.day, 0, 0, 0, COUNT(*) " +
+            "    FROM dirty " +
+            "    JOIN product_stockouts o ON o.occurred_at >= dirty.day AND o.occurred_at < dirty.day + 1 " +
+            "    JOIN products p ON p.id = o.product_id " +
+            "    WHERE p.supplier_id IS NOT NULL " +
+            "    GROUP BY p.supplier_id, dirty.day " +
+            ") t " +
+            "GROUP BY t.supplier_id, t.sales_date " +
+            // Days that became dirty between the delete and this insert may still have a row
+            "ON CONFLICT (supplier_id, sales_date) DO UPDATE SET " +
+            "revenue = EXCLUDED.revenue, units_sold = EXCLUDED.units_sold, " +
+            "order_count = EXCLUDED.order_count, stockout_count = EXCLUDED.stockout_count, " +
+            "refreshed_at = EXCLUDED.refreshed_at";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int refreshDaysChangedSince(LocalDateTime since) {
+        entityManager.createNativeQuery(String.format(DELETE_SQL, CHANGED_DAYS))
+                .setParameter("since", since)
+                .executeUpdate();
+        int rows = entityManager.createNativeQuery(String.format(INSERT_SQL, CHANGED_DAYS))
+                .setParameter("since", since)
+                .executeUpdate();
+        // Later refreshes start from a later :since and never read these again
+        entityManager.createNativeQuery("DELETE FROM sale_order_deletions WHERE deleted_at <= :since")
+                .setParameter("since", since)
+                .executeUpdate();
+        return rows;
+    }
+
+    @Override
+    @Transactional
+    public int rebuildAll() {
+        // Also drops days whose orders no longer exist at all
+        entityManager.createNativeQuery("DELETE FROM supplier_daily_sales").executeUpdate();
+        return entityManager.createNativeQuery(String.format(INSERT_SQL, ALL_DAYS)).executeUpdate();
+    }
+}
@@ -1,11 +1,14 @@
 package com.managersys.repository;
 
 import com.managersys.model.Supplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +23,15 @@ public interface SupplierRepository extends JpaRepository<Supplier, Long> {
            "OR LOWER(s.contactPerson) LIKE LOWER(concat('%', :query, '%')) " +
            "OR LOWER(s.email) LIKE LOWER(concat('%', :query, '%'))")
     List<Supplier> searchSuppliers(@Param("query") String query);
+    
+    @Query("SELECT DISTINCT s FROM Supplier s JOIN FETCH s.products ORDER BY s.id")
+    List<Supplier> findAllWithProducts();
+    
+    // First phase of the paged listing: a plain id page, so the database does the
+    // paging instead of Hibernate paging a collection fetch in memory. Ordered by
+    // id so no supplier repeats or goes missing between pages
+    @Query(value = "SELECT s.id FROM Supplier s WHERE EXISTS (SELECT 1 FROM Product p WHERE p.supplier = s) " +
+                   "ORDER BY s.id",
+           countQuery = "SELECT COUNT(s) FROM Supplier s WHERE EXISTS (SELECT 1 FROM Product p WHERE p.supplier = s)")
+    Page<Long> findIdsWithProducts(Pageable pageable);
 }
@@ -1,38 +1,73 @@
 package com.managersys.security;
 
+import com.managersys.model.Employee;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
-
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
-
-    @Value("${jwt.refresh-expiration}")
-    private long refreshExpiration;
+    // Access-token claims that let a request be authenticated without loading the employee
+    private static final String EMPLOYEE_ID_CLAIM = "eid";
+    private static final String AUTHORITIES_CLAIM = "auth";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private final long jwtExpiration;
+    private final long refreshExpiration;
+
+    // Decoded once; the parser is immutable and thread-safe
+    private final Key signInKey;
+    private final JwtParser parser;
+
+    // Claims of recently verified tokens, keyed by the token's SHA-256 so raw
+    // tokens are not kept in memory. Entries are dropped once the token expires.
+    private final Map<TokenDigest, Claims> verifiedClaims;
+
+    public JwtService(@Value("${jwt.secret}") String secretKey,
+                      @Value("${jwt.expiration}") long jwtExpiration,
+                      @Value("${jwt.refresh-expiration}") long refreshExpiration,
+                      @Value("${jwt.claims-cache-size}") int claimsCacheSize) {
+        this.jwtExpiration = jwtExpiration;
+        this.refreshExpiration = refreshExpiration;
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parserBuilder().setSigningKey(signInKey).build();
+        this.verifiedClaims = new LinkedHashMap<>(claimsCacheSize * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TokenDigest, Claims> eldest) {
+                return size() > claimsCacheSize;
+            }
+        };
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseVerifiedClaims(token);
         return claimsResolver.apply(claims);
     }
 
@@ -47,6 +82,20 @@ public class JwtService {
         return buildToken(extraClaims, userDetails, jwtExpiration);
     }
 
+    /**
+     * Access token carrying the employee's id, authorities and current token
+     * version alongside the subject.
+     */
+    public String generateAccessToken(Employee employee) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(EMPLOYEE_ID_CLAIM, employee.getId());
+        claims.put(AUTHORITIES_CLAIM, employee.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        claims.put(TOKEN_VERSION_CLAIM, employee.getTokenVersion());
+        return generateToken(claims, employee);
+    }
+
     public String generateRefreshToken(
             UserDetails userDetails
     ) {
@@ -64,34 +113,107 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(parseVerifiedClaims(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isExpired(claims);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    /**
+     * Employee id of an access token, or null for tokens without one
+     * (refresh tokens and tokens issued before access tokens carried it).
+     */
+    public Long extractEmployeeId(Claims claims) {
+        Number employeeId = claims.get(EMPLOYEE_ID_CLAIM, Number.class);
+        return employeeId == null ? null : employeeId.longValue();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public Integer extractTokenVersion(Claims claims) {
+        Number version = claims.get(TOKEN_VERSION_CLAIM, Number.class);
+        return version == null ? null : version.intValue();
+    }
+
+    public List<GrantedAuthority> extractAuthorities(Claims claims) {
+        List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+        if (authorities == null) {
+            return List.of();
+        }
+        List<GrantedAuthority> granted = new ArrayList<>(authorities.size());
+        for (Object authority : authorities) {
+            granted.add(new SimpleGrantedAuthority(authority.toString()));
+        }
+        return granted;
+    }
+
+    /**
+     * Claims of a token whose signature has been verified, parsing it only
+     * when it is not among the recently verified ones.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, forged or expired
+     */
+    public Claims parseVerifiedClaims(String token) {
+        TokenDigest digest = TokenDigest.of(token);
+        Claims claims;
+        synchronized (verifiedClaims) {
+            claims = verifiedClaims.get(digest);
+        }
+        if (claims != null) {
+            if (!isExpired(claims)) {
+                return claims;
+            }
+            synchronized (verifiedClaims) {
+                verifiedClaims.remove(digest);
+            }
+            throw new ExpiredJwtException(null, claims, "JWT expired at " + claims.getExpiration());
+        }
+
+        claims = parser.parseClaimsJws(token).getBody();
+        synchronized (verifiedClaims) {
+            verifiedClaims.put(digest, claims);
+        }
+        return claims;
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static final class TokenDigest {
+
+        private final byte[] hash;
+        private final int hashCode;
+
+        private TokenDigest(byte[] hash) {
+            this.hash = hash;
+            this.hashCode = Arrays.hashCode(hash);
+        }
+
+        private static TokenDigest of(String token) {
+            try {
+                return new TokenDigest(MessageDigest.getInstance("SHA-256")
+                        .digest(token.getBytes(StandardCharsets.US_ASCII)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TokenDigest)) return false;
+            return Arrays.equals(hash, ((TokenDigest) o).hash);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
     }
 }
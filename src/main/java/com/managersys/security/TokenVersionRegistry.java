@@ -0,0 +1,91 @@
+package com.managersys.security;
+
+import com.managersys.repository.EmployeeRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Current token version and enabled flag of every employee, so access tokens
+ * can be checked for revocation without a query per request.
+ *
+ * The table is loaded in full at startup and again on a fixed delay. Local
+ * changes are applied when their transaction commits and changes made on
+ * other nodes arrive as broadcast events; both only ever move an employee to
+ * a newer version. An employee missing from the table is looked up once.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private final EmployeeRepository employeeRepository;
+
+    private final ConcurrentMap<Long, TokenState> versions = new ConcurrentHashMap<>();
+
+    public TokenVersionRegistry(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    /**
+     * Whether a token issued with the given version is still accepted: the
+     * employee exists, is enabled and has not revoked their tokens since.
+     */
+    public boolean isCurrent(Long employeeId, int tokenVersion) {
+        TokenState state = versions.get(employeeId);
+        if (state == null) {
+            state = load(employeeId);
+        }
+        return state.enabled && state.version == tokenVersion;
+    }
+
+    public void apply(Long employeeId, int tokenVersion, boolean enabled) {
+        versions.merge(employeeId, new TokenState(tokenVersion, enabled), TokenState::newer);
+    }
+
+    /**
+     * Replaces the table with the stored versions, keeping newer ones that
+     * were applied while it loaded. Returns the number of employees.
+     */
+    @Transactional(readOnly = true)
+    public int reload() {
+        Map<Long, TokenState> loaded = new HashMap<>();
+        for (Object[] row : employeeRepository.findTokenVersions()) {
+            loaded.put((Long) row[0], toState(row));
+        }
+        versions.keySet().retainAll(loaded.keySet());
+        loaded.forEach((employeeId, state) -> versions.merge(employeeId, state, TokenState::newer));
+        return loaded.size();
+    }
+
+    private TokenState load(Long employeeId) {
+        List<Object[]> rows = employeeRepository.findTokenVersionById(employeeId);
+        TokenState state = rows.isEmpty() ? TokenState.UNKNOWN : toState(rows.get(0));
+        return versions.merge(employeeId, state, TokenState::newer);
+    }
+
+    private static TokenState toState(Object[] row) {
+        return new TokenState(((Number) row[1]).intValue(), (Boolean) row[2]);
+    }
+
+    private static final class TokenState {
+
+        // Employees that do not exist accept no token; any stored version replaces this
+        private static final TokenState UNKNOWN = new TokenState(-1, false);
+
+        private final int version;
+        private final boolean enabled;
+
+        private TokenState(int version, boolean enabled) {
+            this.version = version;
+            this.enabled = enabled;
+        }
+
+        private static TokenState newer(TokenState current, TokenState candidate) {
+            return candidate.version >= current.version ? candidate : current;
+        }
+    }
+}
@@ -2,26 +2,79 @@ package com.managersys.security;
 
 import com.managersys.model.Employee;
 import com.managersys.repository.EmployeeRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Loads employees by email through a small LRU cache. Entries expire after a
+ * short TTL and are dropped as soon as an employee is enabled or their role or
+ * password changes, on this node and (through the employee change broadcast)
+ * on every other one. Hits and misses are counted under user.details.cache.
+ */
 @Service
-@RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final EmployeeRepository employeeRepository;
+    private final long ttlMillis;
+
+    private final Map<String, CachedDetails> cache;
+
+    // Bumped by every eviction, so a load that read the employee before the
+    // change does not cache it after; guarded by cache, one entry per employee
+    // ever evicted
+    private final Map<String, Long> generations = new HashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public UserDetailsServiceImpl(EmployeeRepository employeeRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${security.user-details.cache-size}") int cacheSize,
+                                  @Value("${security.user-details.cache-ttl-millis}") long ttlMillis) {
+        this.employeeRepository = employeeRepository;
+        this.ttlMillis = ttlMillis;
+        this.cache = new LinkedHashMap<>(cacheSize * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedDetails> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.hits = Counter.builder("user.details.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("user.details.cache").tag("result", "miss").register(meterRegistry);
+        meterRegistry.gaugeMapSize("user.details.cache.size", Tags.empty(), cache);
+    }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        CachedDetails cached;
+        long generation;
+        synchronized (cache) {
+            cached = cache.get(email);
+            generation = generations.getOrDefault(email, 0L);
+        }
+        if (cached != null && System.currentTimeMillis() - cached.loadedAt < ttlMillis) {
+            hits.increment();
+            return copyOf(cached.details);
+        }
+        misses.increment();
+
         Employee employee = employeeRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
         
-        return new org.springframework.security.core.userdetails.User(
+        UserDetails details = new User(
                 employee.getEmail(),
                 employee.getPassword(),
                 employee.isEnabled(),
@@ -30,5 +83,35 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 true,
                 employee.getAuthorities()
         );
+        synchronized (cache) {
+            if (generations.getOrDefault(email, 0L) == generation) {
+                cache.put(email, new CachedDetails(details, System.currentTimeMillis()));
+            }
+        }
+        return copyOf(details);
+    }
+
+    public void evict(String email) {
+        synchronized (cache) {
+            generations.merge(email, 1L, Long::sum);
+            cache.remove(email);
+        }
+    }
+
+    // Authentication erases the password of the returned user, so callers never
+    // get the cached instance itself
+    private static UserDetails copyOf(UserDetails details) {
+        return User.withUserDetails(details).build();
+    }
+
+    private static final class CachedDetails {
+
+        private final UserDetails details;
+        private final long loadedAt;
+
+        private CachedDetails(UserDetails details, long loadedAt) {
+            this.details = details;
+            this.loadedAt = loadedAt;
+        }
     }
 }
@@ -3,6 +3,8 @@ package com.managersys.service;
 import com.managersys.dto.LoginRequestDTO;
 import com.managersys.dto.LoginResponseDTO;
 import com.managersys.dto.RegistrationRequestDTO;
+import com.managersys.event.EmployeeTokenEventPublisher;
+import com.managersys.exception.ResourceNotFoundException;
 import com.managersys.model.ConfirmationToken;
 import com.managersys.model.Employee;
 import com.managersys.model.Role;
@@ -28,16 +30,19 @@ public class AuthService {
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
     private final RabbitTemplate rabbitTemplate;
+    private final EmployeeTokenEventPublisher employeeTokenEventPublisher;
 
     public AuthService(EmployeeRepository employeeRepository, ConfirmationTokenRepository confirmationTokenRepository,
                        PasswordEncoder passwordEncoder, JwtService jwtService,
-                       AuthenticationManager authenticationManager, RabbitTemplate rabbitTemplate) {
+                       AuthenticationManager authenticationManager, RabbitTemplate rabbitTemplate,
+                       EmployeeTokenEventPublisher employeeTokenEventPublisher) {
         this.employeeRepository = employeeRepository;
         this.confirmationTokenRepository = confirmationTokenRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
         this.authenticationManager = authenticationManager;
         this.rabbitTemplate = rabbitTemplate;
+        this.employeeTokenEventPublisher = employeeTokenEventPublisher;
     }
 
     @Transactional
@@ -93,7 +98,7 @@ public class AuthService {
         }
 
         // Generate tokens
-        String accessToken = jwtService.generateToken(employee);
+        String accessToken = jwtService.generateAccessToken(employee);
         String refreshToken = jwtService.generateRefreshToken(employee);
 
         return LoginResponseDTO.builder()
@@ -122,7 +127,9 @@ public class AuthService {
         // Enable user
         Employee employee = confirmationToken.getEmployee();
         employee.setEnabled(true);
+        employee.incrementTokenVersion();
         employeeRepository.save(employee);
+        employeeTokenEventPublisher.publishAfterCommit(employee);
 
         // Update confirmation token
         confirmationToken.setConfirmedAt(LocalDateTime.now());
@@ -131,6 +138,32 @@ public class AuthService {
         return "Email confirmed successfully";
     }
 
+    /**
+     * Revokes every access token issued to the employee so far, on all nodes.
+     */
+    @Transactional
+    public void revokeTokens(Long employeeId) {
+        Employee employee = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", employeeId));
+        employee.incrementTokenVersion();
+        employeeRepository.save(employee);
+        employeeTokenEventPublisher.publishAfterCommit(employee);
+    }
+
+    /**
+     * Changes the employee's role. Tokens carrying the old authorities are
+     * revoked and cached user details dropped, on all nodes.
+     */
+    @Transactional
+    public void changeRole(Long employeeId, String role) {
+        Employee employee = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", employeeId));
+        employee.setRole(Role.valueOf(role.toUpperCase()));
+        employee.incrementTokenVersion();
+        employeeRepository.save(employee);
+        employeeTokenEventPublisher.publishAfterCommit(employee);
+    }
+
     private void sendConfirmationEmail(String email, String token) {
         String confirmationLink = "http://localhost:8080/api/auth/confirm?token=" + token;
         String message = String.format(
@@ -0,0 +1,8 @@
+package com.managersys.service;
+
+import java.time.LocalDate;
+
+public interface BirthdayCampaignService {
+
+    int queueGreetings(LocalDate birthday);
+}
@@ -0,0 +1,168 @@
+package com.managersys.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.managersys.dto.BookingCatalogDTO;
+import com.managersys.dto.BookingCatalogDTO.CategoryEntryDTO;
+import com.managersys.dto.BookingCatalogDTO.ServiceEntryDTO;
+import com.managersys.repository.ServiceRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the online booking catalog, already serialized.
+ *
+ * Anonymous visitors hit the catalog far more often than it changes, so it is
+ * rebuilt as a whole after every committed service or category write (and
+ * periodically, for writes made on other nodes) and published with a single
+ * volatile write. Reads only dereference that field: no locks, no queries and
+ * no serialization per request.
+ */
+@Component
+public class BookingCatalog {
+
+    private final ServiceRepository serviceRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile Snapshot snapshot;
+
+    public BookingCatalog(ServiceRepository serviceRepository, ObjectMapper objectMapper,
+                          PlatformTransactionManager transactionManager) {
+        this.serviceRepository = serviceRepository;
+        this.objectMapper = objectMapper;
+        // Also used from afterCommit callbacks, where the finished transaction is still bound
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * The whole catalog.
+     */
+    public Entry getCatalog() {
+        return current().catalog;
+    }
+
+    /**
+     * One category of the catalog, or null if it has no bookable services.
+     */
+    public Entry getCategory(Long categoryId) {
+        return current().categories.get(categoryId);
+    }
+
+    /**
+     * Reads the catalog and publishes a new snapshot; returns the number of services in it.
+     */
+    public synchronized int rebuild() {
+        List<Object[]> rows = readOnlyTransaction.execute(status -> serviceRepository.findOnlineBookingCatalogRows());
+
+        // Rows arrive grouped by category in display order
+        Map<Long, CategoryEntryDTO> categories = new LinkedHashMap<>();
+        List<ServiceEntryDTO> uncategorized = new ArrayList<>();
+        for (Object[] row : rows) {
+            ServiceEntryDTO service = new ServiceEntryDTO(
+                    (Long) row[0],
+                    (String) row[1],
+                    (BigDecimal) row[2],
+                    (Integer) row[3],
+                    Boolean.TRUE.equals(row[4]),
+                    (BigDecimal) row[5]);
+            if (row[6] == null) {
+                uncategorized.add(service);
+            } else {
+                categories.computeIfAbsent((Long) row[6],
+                        id -> new CategoryEntryDTO(id, (String) row[7], new ArrayList<>()))
+                        .getServices().add(service);
+            }
+        }
+
+        Map<Long, Entry> categoryEntries = new HashMap<>(categories.size() * 2);
+        for (CategoryEntryDTO category : categories.values()) {
+            categoryEntries.put(category.getId(), serialize(category));
+        }
+        Entry catalog = serialize(new BookingCatalogDTO(new ArrayList<>(categories.values()), uncategorized));
+
+        snapshot = new Snapshot(catalog, Collections.unmodifiableMap(categoryEntries));
+        return rows.size();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        // Only before the first build has finished
+        synchronized (this) {
+            if (snapshot == null) {
+                rebuild();
+            }
+            return snapshot;
+        }
+    }
+
+    private Entry serialize(Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            return new Entry(json, etagOf(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize the booking catalog", e);
+        }
+    }
+
+    private static String etagOf(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Serialized JSON with its strong ETag. The bytes are shared between
+     * requests and must not be modified.
+     */
+    public static final class Entry {
+
+        private final byte[] json;
+        private final String etag;
+
+        private Entry(byte[] json, String etag) {
+            this.json = json;
+            this.etag = etag;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final Entry catalog;
+        private final Map<Long, Entry> categories;
+
+        private Snapshot(Entry catalog, Map<Long, Entry> categories) {
+            this.catalog = catalog;
+            this.categories = categories;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.managersys.service;
 
+import com.managersys.dto.CategoryTreeNodeDTO;
 import com.managersys.dto.ServiceCategoryDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -32,6 +33,8 @@ public interface CategoryService {
     
     List<ServiceCategoryDTO> getCategoryTree();
     
+    List<CategoryTreeNodeDTO> getActiveCategoryTree();
+    
     void moveCategory(Long categoryId, Long newParentId);
     
     List<ServiceCategoryDTO> getBreadcrumbs(Long categoryId);
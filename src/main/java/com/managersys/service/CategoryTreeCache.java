@@ -0,0 +1,100 @@
+package com.managersys.service;
+
+import com.managersys.dto.CategoryTreeNodeDTO;
+import com.managersys.repository.CategoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cached copy of the active service category tree with subtree service counts.
+ *
+ * The tree is assembled from a single query over the category closure table.
+ * It is dropped after any local category or service write and otherwise
+ * expires after a TTL, which bounds how long changes made on other nodes stay
+ * invisible. The returned nodes are shared and must not be modified.
+ */
+@Component
+public class CategoryTreeCache {
+
+    private final CategoryRepository categoryRepository;
+    private final long ttlMillis;
+
+    private volatile Snapshot snapshot;
+
+    public CategoryTreeCache(CategoryRepository categoryRepository,
+                             @Value("${catalog.categories.tree-ttl-millis}") long ttlMillis) {
+        this.categoryRepository = categoryRepository;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Transactional(readOnly = true)
+    public List<CategoryTreeNodeDTO> getTree() {
+        Snapshot cached = snapshot;
+        if (cached != null && !cached.isExpired(ttlMillis)) {
+            return cached.roots;
+        }
+        synchronized (this) {
+            cached = snapshot;
+            if (cached == null || cached.isExpired(ttlMillis)) {
+                cached = new Snapshot(buildTree(categoryRepository.findActiveTreeRows()), System.currentTimeMillis());
+                snapshot = cached;
+            }
+            return cached.roots;
+        }
+    }
+
+    // The next read reloads from the database
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    // Rows arrive in display order, so appending keeps every level sorted
+    private static List<CategoryTreeNodeDTO> buildTree(List<Object[]> rows) {
+        Map<Long, CategoryTreeNodeDTO> nodes = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            CategoryTreeNodeDTO node = new CategoryTreeNodeDTO(
+                    ((Number) row[0]).longValue(),
+                    (String) row[1],
+                    (String) row[2],
+                    row[3] != null ? ((Number) row[3]).intValue() : null,
+                    (String) row[4],
+                    (String) row[5],
+                    ((Number) row[7]).longValue());
+            nodes.put(node.getId(), node);
+        }
+
+        List<CategoryTreeNodeDTO> roots = new ArrayList<>();
+        for (Object[] row : rows) {
+            CategoryTreeNodeDTO node = nodes.get(((Number) row[0]).longValue());
+            CategoryTreeNodeDTO parent = row[6] != null ? nodes.get(((Number) row[6]).longValue()) : null;
+            if (parent != null) {
+                parent.getChildren().add(node);
+            } else {
+                roots.add(node);
+            }
+        }
+        return Collections.unmodifiableList(roots);
+    }
+
+    private static final class Snapshot {
+
+        private final List<CategoryTreeNodeDTO> roots;
+        private final long loadedAt;
+
+        private Snapshot(List<CategoryTreeNodeDTO> roots, long loadedAt) {
+            this.roots = roots;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - loadedAt >= ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.managersys.service;
+
+import com.managersys.dto.CustomerKeysEventDTO;
+import com.managersys.event.CustomerKeysEventPublisher;
+import com.managersys.model.Customer;
+import com.managersys.repository.CustomerRepository;
+import com.managersys.util.AfterCommit;
+import com.managersys.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filters over customer emails and tax IDs.
+ *
+ * A negative answer means the value is definitely not stored, so callers can
+ * skip the database; a positive answer still has to be confirmed there.
+ * Filters are rebuilt from the table at startup and periodically (to drop
+ * deleted values, resize, and catch up on any missed broadcast). New values
+ * are added once the creating transaction commits and broadcast to the other
+ * nodes, so a customer created elsewhere is only reported absent until the
+ * broadcast arrives. Until the first build completes every lookup answers
+ * "maybe".
+ */
+@Component
+public class CustomerExistenceIndex {
+
+    private static final long MIN_CAPACITY = 100_000;
+
+    private final CustomerRepository customerRepository;
+    private final CustomerKeysEventPublisher customerKeysEventPublisher;
+    private final double falsePositiveProbability;
+
+    private volatile Filters current;
+    // Receives committed writes while a rebuild is scanning the table
+    private volatile Filters building;
+
+    public CustomerExistenceIndex(CustomerRepository customerRepository,
+                                  CustomerKeysEventPublisher customerKeysEventPublisher,
+                                  @Value("${customers.existence-filter.false-positive-probability}") double falsePositiveProbability) {
+        this.customerRepository = customerRepository;
+        this.customerKeysEventPublisher = customerKeysEventPublisher;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    public boolean mightContainEmail(String email) {
+        String key = normalizeEmail(email);
+        if (key == null) {
+            return false;
+        }
+        Filters filters = current;
+        return filters == null || filters.emails.mightContain(key);
+    }
+
+    public boolean mightContainTaxId(String taxId) {
+        String key = normalizeTaxId(taxId);
+        if (key == null) {
+            return false;
+        }
+        Filters filters = current;
+        return filters == null || filters.taxIds.mightContain(key);
+    }
+
+    /**
+     * Adds the customers' email and tax ID once the write commits, here and
+     * on every other node.
+     */
+    public void recordAfterCommit(Collection<Customer> customers) {
+        List<String> emails = new ArrayList<>(customers.size());
+        List<String> taxIds = new ArrayList<>(customers.size());
+        for (Customer customer : customers) {
+            String email = normalizeEmail(customer.getEmail());
+            if (email != null) {
+                emails.add(email);
+            }
+            String taxId = normalizeTaxId(customer.getTaxId());
+            if (taxId != null) {
+                taxIds.add(taxId);
+            }
+        }
+        if (emails.isEmpty() && taxIds.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            recordKeys(emails, taxIds);
+            customerKeysEventPublisher.publish(new CustomerKeysEventDTO(emails, taxIds));
+        });
+    }
+
+    /**
+     * Adds keys committed on this or another node.
+     */
+    public void recordKeys(Collection<String> emails, Collection<String> taxIds) {
+        emails.forEach(email -> record(email, null));
+        taxIds.forEach(taxId -> record(null, taxId));
+    }
+
+    @Transactional(readOnly = true)
+    public synchronized int rebuild() {
+        // Twice the current size leaves room for growth until the next rebuild
+        long capacity = Math.max(MIN_CAPACITY, customerRepository.count() * 2);
+        Filters next = new Filters(capacity, falsePositiveProbability);
+
+        // Writes committed after the scan starts are recorded into the new filters as well
+        building = next;
+        try {
+            AtomicInteger loaded = new AtomicInteger();
+            try (Stream<Object[]> rows = customerRepository.streamEmailsAndTaxIds()) {
+                rows.forEach(row -> {
+                    next.put((String) row[0], (String) row[1]);
+                    loaded.incrementAndGet();
+                });
+            }
+            current = next;
+            return loaded.get();
+        } finally {
+            building = null;
+        }
+    }
+
+    private void record(String email, String taxId) {
+        // Read building first: once it is cleared, current already holds the rebuilt filters
+        Filters pending = building;
+        if (pending != null) {
+            pending.put(email, taxId);
+        }
+        Filters filters = current;
+        if (filters != null) {
+            filters.put(email, taxId);
+        }
+    }
+
+    // Keys are null for missing or blank values, which never identify a customer
+
+    public static String normalizeEmail(String email) {
+        if (email == null) {
+            return null;
+        }
+        String key = email.trim().toLowerCase(Locale.ROOT);
+        return key.isEmpty() ? null : key;
+    }
+
+    public static String normalizeTaxId(String taxId) {
+        if (taxId == null) {
+            return null;
+        }
+        String key = taxId.replaceAll("[^0-9]", "");
+        return key.isEmpty() ? null : key;
+    }
+
+    private static final class Filters {
+
+        private final BloomFilter emails;
+        private final BloomFilter taxIds;
+
+        private Filters(long capacity, double falsePositiveProbability) {
+            this.emails = new BloomFilter(capacity, falsePositiveProbability);
+            this.taxIds = new BloomFilter(capacity, falsePositiveProbability);
+        }
+
+        private void put(String email, String taxId) {
+            String emailKey = normalizeEmail(email);
+            if (emailKey != null) {
+                emails.put(emailKey);
+            }
+            String taxIdKey = normalizeTaxId(taxId);
+            if (taxIdKey != null) {
+                taxIds.put(taxIdKey);
+            }
+        }
+    }
+}
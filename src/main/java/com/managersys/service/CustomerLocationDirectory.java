@@ -0,0 +1,79 @@
+package com.managersys.service;
+
+import com.managersys.dto.CustomerLocationDTO;
+import com.managersys.repository.CustomerLocationRepository;
+import com.managersys.util.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Cached copy of the customer_locations dictionary.
+ *
+ * The table itself is kept current by a trigger on customers, so reloading
+ * it is a small scan. The cached list is dropped after any local customer
+ * write that can move a location count and otherwise expires after a TTL,
+ * which bounds how long changes made on other nodes stay invisible.
+ */
+@Component
+public class CustomerLocationDirectory {
+
+    private final CustomerLocationRepository customerLocationRepository;
+    private final long ttlMillis;
+
+    private volatile Snapshot snapshot;
+
+    public CustomerLocationDirectory(CustomerLocationRepository customerLocationRepository,
+                                     @Value("${customers.locations.cache-ttl-millis}") long ttlMillis) {
+        this.customerLocationRepository = customerLocationRepository;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Transactional(readOnly = true)
+    public List<CustomerLocationDTO> getLocations() {
+        Snapshot cached = snapshot;
+        if (cached != null && !cached.isExpired(ttlMillis)) {
+            return cached.locations;
+        }
+        synchronized (this) {
+            cached = snapshot;
+            if (cached == null || cached.isExpired(ttlMillis)) {
+                List<CustomerLocationDTO> locations = customerLocationRepository.findAllByOrderByStateAscCityAsc().stream()
+                        .map(CustomerLocationDTO::fromEntity)
+                        .collect(Collectors.toUnmodifiableList());
+                cached = new Snapshot(locations, System.currentTimeMillis());
+                snapshot = cached;
+            }
+            return cached.locations;
+        }
+    }
+
+    /**
+     * Drops the cached list once the write commits.
+     */
+    public void invalidateAfterCommit() {
+        AfterCommit.run(this::invalidate);
+    }
+
+    private synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    private static final class Snapshot {
+
+        private final List<CustomerLocationDTO> locations;
+        private final long loadedAt;
+
+        private Snapshot(List<CustomerLocationDTO> locations, long loadedAt) {
+            this.locations = locations;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - loadedAt >= ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.managersys.service;
+
+import com.managersys.dto.CustomerOverviewDTO;
+
+public interface CustomerOverviewService {
+
+    CustomerOverviewDTO getCustomerOverview(Long customerId);
+}
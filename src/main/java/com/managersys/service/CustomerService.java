@@ -1,24 +1,31 @@
 package com.managersys.service;
 
 import com.managersys.dto.CustomerDTO;
+import com.managersys.dto.CustomerImportResultDTO;
+import com.managersys.dto.CustomerLocationDTO;
+import com.managersys.dto.CustomerSuggestionDTO;
+import com.managersys.dto.KeysetPageDTO;
 import com.managersys.model.Customer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 
 public interface CustomerService {
     
     CustomerDTO createCustomer(CustomerDTO customerDTO);
     
+    CustomerImportResultDTO importCustomers(List<CustomerDTO> customers);
+    
     CustomerDTO getCustomerById(Long id);
     
     Page<CustomerDTO> getAllCustomers(Pageable pageable);
     
     Page<CustomerDTO> searchCustomers(String query, Pageable pageable);
     
+    List<CustomerSuggestionDTO> typeahead(String query);
+    
     Page<CustomerDTO> findCustomersWithBirthdayBetween(
             LocalDate startDate, 
             LocalDate endDate, 
@@ -27,9 +34,9 @@ public interface CustomerService {
     
     Page<CustomerDTO> findByCustomerType(Customer.CustomerType customerType, Pageable pageable);
     
-    List<Map<String, String>> findCitiesWithStates();
+    List<CustomerLocationDTO> findCitiesWithStates();
     
-    List<CustomerDTO> findByCityAndState(String city, String state);
+    KeysetPageDTO<CustomerDTO> findByCityAndState(String city, String state, Long afterId, int size);
     
     CustomerDTO updateCustomer(Long id, CustomerDTO customerDTO);
     
@@ -0,0 +1,22 @@
+package com.managersys.service;
+
+import com.managersys.dto.CustomerStatsDTO;
+import com.managersys.model.CustomerStats;
+import com.managersys.model.SaleOrder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface CustomerStatsService {
+
+    void recordStatusChange(SaleOrder order, SaleOrder.Status from, SaleOrder.Status to);
+
+    int rebuildStats();
+
+    int refreshSegments();
+
+    Page<CustomerStatsDTO> getTopSpenders(Pageable pageable);
+
+    Page<CustomerStatsDTO> getLapsedCustomers(int days, Pageable pageable);
+
+    Page<CustomerStatsDTO> getCustomersBySegment(CustomerStats.Segment segment, Pageable pageable);
+}
@@ -0,0 +1,8 @@
+package com.managersys.service;
+
+import com.managersys.dto.CustomerTimelineDTO;
+
+public interface CustomerTimelineService {
+
+    CustomerTimelineDTO getTimeline(Long customerId, String cursor, int size);
+}
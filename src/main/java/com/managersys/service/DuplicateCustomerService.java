@@ -0,0 +1,17 @@
+package com.managersys.service;
+
+import com.managersys.dto.CustomerDTO;
+import com.managersys.dto.MergeCandidateDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface DuplicateCustomerService {
+
+    int detectDuplicates();
+
+    Page<MergeCandidateDTO> getPendingCandidates(Pageable pageable);
+
+    CustomerDTO mergeCandidate(Long candidateId, Long survivorId);
+
+    void dismissCandidate(Long candidateId);
+}
@@ -0,0 +1,28 @@
+package com.managersys.service;
+
+import com.managersys.dto.ProductStockDTO;
+import com.managersys.dto.StockLocationDTO;
+import com.managersys.model.StockLocation;
+
+import java.util.List;
+
+public interface InventoryService {
+
+    List<StockLocationDTO> getAllLocations();
+
+    StockLocationDTO createLocation(StockLocationDTO locationDTO);
+
+    List<ProductStockDTO> getProductStock(Long productId);
+
+    ProductStockDTO setStock(Long productId, Long locationId, int quantity);
+
+    void initializeStock(Long productId, int quantity);
+
+    void adjustStock(Long productId, Long locationId, int delta);
+
+    StockLocation reserve(Long productId, Long locationId, int quantity);
+
+    void release(Long productId, Long locationId, int quantity);
+
+    StockLocation getDefaultLocation();
+}
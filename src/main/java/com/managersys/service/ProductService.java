@@ -1,6 +1,9 @@
 package com.managersys.service;
 
 import com.managersys.dto.ProductDTO;
+import com.managersys.dto.ProductListDTO;
+import com.managersys.dto.StockAdjustmentDTO;
+import com.managersys.dto.StockAdjustmentResultDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,7 +15,7 @@ public interface ProductService {
     
     ProductDTO getProductById(Long id);
     
-    Page<ProductDTO> getAllProducts(Pageable pageable);
+    Page<ProductListDTO> getAllProducts(Pageable pageable);
     
     List<ProductDTO> getLowStockProducts(int threshold);
     
@@ -23,4 +26,6 @@ public interface ProductService {
     void deleteProduct(Long id);
     
     void updateStock(Long productId, int quantity);
+    
+    List<StockAdjustmentResultDTO> bulkAdjustStock(List<StockAdjustmentDTO> adjustments);
 }
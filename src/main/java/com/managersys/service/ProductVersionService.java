@@ -0,0 +1,9 @@
+package com.managersys.service;
+
+import com.managersys.model.Product;
+import com.managersys.model.ProductVersion;
+
+public interface ProductVersionService {
+
+    ProductVersion currentVersion(Product product);
+}
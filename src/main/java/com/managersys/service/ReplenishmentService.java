@@ -0,0 +1,12 @@
+package com.managersys.service;
+
+import com.managersys.dto.SupplierReplenishmentDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface ReplenishmentService {
+
+    int recomputeSuggestions();
+
+    Page<SupplierReplenishmentDTO> getSuggestionsBySupplier(Pageable pageable);
+}
@@ -1,6 +1,7 @@
 package com.managersys.service;
 
 import com.managersys.dto.SaleOrderDTO;
+import com.managersys.dto.SaleOrderListDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -13,13 +14,13 @@ public interface SaleService {
     
     SaleOrderDTO getSaleOrderById(Long id);
     
-    Page<SaleOrderDTO> getAllSaleOrders(Pageable pageable);
+    Page<SaleOrderListDTO> getAllSaleOrders(Pageable pageable);
     
-    Page<SaleOrderDTO> getSaleOrdersByCustomer(Long customerId, Pageable pageable);
+    Page<SaleOrderListDTO> getSaleOrdersByCustomer(Long customerId, Pageable pageable);
     
-    Page<SaleOrderDTO> getSaleOrdersByDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable);
+    Page<SaleOrderListDTO> getSaleOrdersByDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable);
     
-    Page<SaleOrderDTO> getSaleOrdersByStatus(String status, Pageable pageable);
+    Page<SaleOrderListDTO> getSaleOrdersByStatus(String status, Pageable pageable);
     
     SaleOrderDTO updateSaleOrderStatus(Long orderId, String status);
     
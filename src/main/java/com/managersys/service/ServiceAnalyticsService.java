@@ -0,0 +1,21 @@
+package com.managersys.service;
+
+import com.managersys.dto.ServiceStatsDTO;
+import com.managersys.model.ServiceSchedule;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ServiceAnalyticsService {
+
+    void recordCompletion(ServiceSchedule schedule);
+
+    void recordPayment(ServiceSchedule schedule);
+
+    Page<ServiceStatsDTO> getServiceStats(LocalDate from, LocalDate to,
+                                          ServiceStatsDTO.Metric metric, Pageable pageable);
+
+    List<ServiceStatsDTO> getTopServices(LocalDate from, LocalDate to, ServiceStatsDTO.Metric metric, int limit);
+}
@@ -0,0 +1,37 @@
+package com.managersys.service;
+
+import com.managersys.util.AfterCommit;
+import org.springframework.stereotype.Component;
+
+/**
+ * The in-memory views built from services and categories: the category tree,
+ * the online booking catalog and the price index. Every service or category
+ * write refreshes all of them through {@link #refreshAfterCommit()}.
+ */
+@Component
+public class ServiceCatalogCaches {
+
+    private final CategoryTreeCache categoryTreeCache;
+    private final BookingCatalog bookingCatalog;
+    private final ServicePriceIndex servicePriceIndex;
+
+    public ServiceCatalogCaches(CategoryTreeCache categoryTreeCache,
+                                BookingCatalog bookingCatalog,
+                                ServicePriceIndex servicePriceIndex) {
+        this.categoryTreeCache = categoryTreeCache;
+        this.bookingCatalog = bookingCatalog;
+        this.servicePriceIndex = servicePriceIndex;
+    }
+
+    /**
+     * Drops the tree and the price index (reloaded on next use) and rebuilds
+     * the booking catalog once the write commits.
+     */
+    public void refreshAfterCommit() {
+        AfterCommit.run(() -> {
+            categoryTreeCache.invalidate();
+            servicePriceIndex.invalidate();
+            bookingCatalog.rebuild();
+        });
+    }
+}
@@ -0,0 +1,191 @@
+package com.managersys.service;
+
+import com.managersys.dto.ServiceListDTO;
+import com.managersys.repository.ServiceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Active services sorted by price (then id), overall and per category, held
+ * as primitive price arrays next to the matching list rows. Price-range
+ * counts and pages are two binary searches and a sub-list, with no query.
+ *
+ * Like the category tree, the index is dropped after any local service or
+ * category write and otherwise expires after a TTL. The returned rows are
+ * shared and must not be modified.
+ */
+@Component
+public class ServicePriceIndex {
+
+    private final ServiceRepository serviceRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long ttlMillis;
+
+    private volatile Snapshot snapshot;
+
+    public ServicePriceIndex(ServiceRepository serviceRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${catalog.services.price-index-ttl-millis}") long ttlMillis) {
+        this.serviceRepository = serviceRepository;
+        // Only a (re)load touches the database; lookups run without a transaction
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * Number of active services priced within [minPrice, maxPrice], optionally within one category.
+     */
+    public long count(Long categoryId, BigDecimal minPrice, BigDecimal maxPrice) {
+        PriceRange range = current().rangeOf(categoryId);
+        return Math.max(0, range.upperBound(upperCents(maxPrice)) - range.lowerBound(lowerCents(minPrice)));
+    }
+
+    /**
+     * Page of active services priced within [minPrice, maxPrice], cheapest first;
+     * the requested sort is ignored.
+     */
+    public Page<ServiceListDTO> find(Long categoryId, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
+        PriceRange range = current().rangeOf(categoryId);
+        int from = range.lowerBound(lowerCents(minPrice));
+        int to = range.upperBound(upperCents(maxPrice));
+        int total = Math.max(0, to - from);
+
+        long offset = pageable.getOffset();
+        if (offset >= total) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+        int start = from + (int) offset;
+        int end = Math.min(to, start + pageable.getPageSize());
+        return new PageImpl<>(range.services.subList(start, end), pageable, total);
+    }
+
+    // The next read reloads from the database
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        Snapshot cached = snapshot;
+        if (cached != null && !cached.isExpired(ttlMillis)) {
+            return cached;
+        }
+        synchronized (this) {
+            cached = snapshot;
+            if (cached == null || cached.isExpired(ttlMillis)) {
+                List<ServiceListDTO> rows = readOnlyTransaction.execute(
+                        status -> serviceRepository.findActiveListItemsOrderByPrice());
+                cached = build(rows);
+                snapshot = cached;
+            }
+            return cached;
+        }
+    }
+
+    // Rows arrive sorted by price and id, so every per-category slice stays sorted
+    private static Snapshot build(List<ServiceListDTO> rows) {
+        Map<Long, List<ServiceListDTO>> byCategory = new LinkedHashMap<>();
+        for (ServiceListDTO row : rows) {
+            if (row.getCategoryId() != null) {
+                byCategory.computeIfAbsent(row.getCategoryId(), id -> new ArrayList<>()).add(row);
+            }
+        }
+        Map<Long, PriceRange> categories = new HashMap<>(byCategory.size() * 2);
+        byCategory.forEach((id, services) -> categories.put(id, PriceRange.of(services)));
+        return new Snapshot(PriceRange.of(rows), categories, System.currentTimeMillis());
+    }
+
+    // Bounds are rounded inwards to whole cents, the scale prices are stored with
+    private static long lowerCents(BigDecimal price) {
+        return price.movePointRight(2).setScale(0, RoundingMode.CEILING).longValueExact();
+    }
+
+    private static long upperCents(BigDecimal price) {
+        return price.movePointRight(2).setScale(0, RoundingMode.FLOOR).longValueExact();
+    }
+
+    private static final class PriceRange {
+
+        private static final PriceRange EMPTY = new PriceRange(new long[0], List.of());
+
+        private final long[] cents;
+        private final List<ServiceListDTO> services;
+
+        private PriceRange(long[] cents, List<ServiceListDTO> services) {
+            this.cents = cents;
+            this.services = services;
+        }
+
+        private static PriceRange of(List<ServiceListDTO> services) {
+            long[] cents = new long[services.size()];
+            for (int i = 0; i < cents.length; i++) {
+                cents[i] = services.get(i).getPrice().movePointRight(2).longValue();
+            }
+            return new PriceRange(cents, List.copyOf(services));
+        }
+
+        // First position whose price is >= the given one
+        private int lowerBound(long price) {
+            int lo = 0;
+            int hi = cents.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (cents[mid] < price) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        // First position whose price is > the given one
+        private int upperBound(long price) {
+            int lo = 0;
+            int hi = cents.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (cents[mid] <= price) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final PriceRange all;
+        private final Map<Long, PriceRange> categories;
+        private final long loadedAt;
+
+        private Snapshot(PriceRange all, Map<Long, PriceRange> categories, long loadedAt) {
+            this.all = all;
+            this.categories = categories;
+            this.loadedAt = loadedAt;
+        }
+
+        private PriceRange rangeOf(Long categoryId) {
+            return categoryId == null ? all : categories.getOrDefault(categoryId, PriceRange.EMPTY);
+        }
+
+        private boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - loadedAt >= ttlMillis;
+        }
+    }
+}
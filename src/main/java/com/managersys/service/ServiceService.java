@@ -1,10 +1,13 @@
 package com.managersys.service;
 
 import com.managersys.dto.ServiceDTO;
+import com.managersys.dto.ServiceListDTO;
+import com.managersys.dto.ServiceStatsDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ServiceService {
@@ -13,15 +16,15 @@ public interface ServiceService {
     
     ServiceDTO getServiceById(Long id);
     
-    Page<ServiceDTO> getAllServices(Pageable pageable);
+    Page<ServiceListDTO> getAllServices(Pageable pageable);
     
-    Page<ServiceDTO> searchServices(String query, Pageable pageable);
+    Page<ServiceListDTO> searchServices(String query, Pageable pageable);
     
-    Page<ServiceDTO> getServicesByCategory(Long categoryId, Pageable pageable);
+    Page<ServiceListDTO> getServicesByCategory(Long categoryId, Pageable pageable);
     
-    Page<ServiceDTO> getAvailableForOnlineBooking(Pageable pageable);
+    Page<ServiceListDTO> getAvailableForOnlineBooking(Pageable pageable);
     
-    Page<ServiceDTO> getAvailableForOnlineBookingByCategory(Long categoryId, Pageable pageable);
+    Page<ServiceListDTO> getAvailableForOnlineBookingByCategory(Long categoryId, Pageable pageable);
     
     ServiceDTO updateService(Long id, ServiceDTO serviceDTO);
     
@@ -29,15 +32,21 @@ public interface ServiceService {
     
     void toggleServiceStatus(Long id, boolean active);
     
-    Page<ServiceDTO> getServicesByEmployee(Long employeeId, Pageable pageable);
+    Page<ServiceListDTO> getServicesByEmployee(Long employeeId, Pageable pageable);
     
-    Page<ServiceDTO> getServicesByCustomer(Long customerId, Pageable pageable);
+    Page<ServiceListDTO> getServicesByCustomer(Long customerId, Pageable pageable);
     
-    Page<ServiceDTO> getServicesByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
+    Page<ServiceListDTO> getServicesByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
     
-    Page<ServiceDTO> getServicesWithUpcomingAppointments(Pageable pageable);
+    Page<ServiceListDTO> getServicesByPriceRange(Long categoryId, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
     
-    List<Object[]> getServiceUtilization(LocalDateTime startDate, LocalDateTime endDate);
+    long countServicesByPriceRange(Long categoryId, BigDecimal minPrice, BigDecimal maxPrice);
     
-    List<Object[]> getServiceRevenue(LocalDateTime startDate, LocalDateTime endDate);
+    Page<ServiceListDTO> getServicesWithUpcomingAppointments(Pageable pageable);
+    
+    // Top services by completed appointments over the days of the range
+    List<ServiceStatsDTO> getServiceUtilization(LocalDateTime startDate, LocalDateTime endDate);
+    
+    // Top services by payments received over the days of the range
+    List<ServiceStatsDTO> getServiceRevenue(LocalDateTime startDate, LocalDateTime endDate);
 }
@@ -0,0 +1,21 @@
+package com.managersys.service;
+
+import com.managersys.model.SaleOrder;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface StockHoldService {
+
+    void placeHolds(SaleOrder order);
+
+    void clearHolds(Long orderId);
+
+    List<Long> pollExpiredOrders();
+
+    List<Long> findOrdersWithExpiredHolds(int limit);
+
+    int releaseExpiredHolds(Collection<Long> orderIds);
+
+    int scheduleOutstandingHolds();
+}
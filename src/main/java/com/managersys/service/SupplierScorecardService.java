@@ -0,0 +1,17 @@
+package com.managersys.service;
+
+import com.managersys.dto.SupplierScorecardDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+
+public interface SupplierScorecardService {
+
+    int refreshScorecards();
+
+    int rebuildScorecards();
+
+    Page<SupplierScorecardDTO> getScorecards(LocalDate from, LocalDate to,
+                                             SupplierScorecardDTO.Metric metric, Pageable pageable);
+}
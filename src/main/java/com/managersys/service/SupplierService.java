@@ -21,4 +21,6 @@ public interface SupplierService {
     void deleteSupplier(Long id);
     
     List<SupplierDTO> getSuppliersWithProducts();
+    
+    Page<SupplierDTO> getSuppliersWithProducts(Pageable pageable);
 }
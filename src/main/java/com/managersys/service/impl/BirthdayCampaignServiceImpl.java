@@ -0,0 +1,77 @@
+package com.managersys.service.impl;
+
+import com.managersys.dto.EmailMessageDTO;
+import com.managersys.repository.CustomerRepository;
+import com.managersys.service.BirthdayCampaignService;
+import com.managersys.util.BirthdayRange;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Service
+public class BirthdayCampaignServiceImpl implements BirthdayCampaignService {
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("MMMM d");
+
+    private final CustomerRepository customerRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final String emailExchange;
+    private final String emailRoutingKey;
+    private final int batchSize;
+
+    public BirthdayCampaignServiceImpl(CustomerRepository customerRepository,
+                                       RabbitTemplate rabbitTemplate,
+                                       @Value("${rabbitmq.exchange.email}") String emailExchange,
+                                       @Value("${rabbitmq.routing-key.email}") String emailRoutingKey,
+                                       @Value("${customers.birthdays.batch-size}") int batchSize) {
+        this.customerRepository = customerRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.emailExchange = emailExchange;
+        this.emailRoutingKey = emailRoutingKey;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int queueGreetings(LocalDate birthday) {
+        BirthdayRange range = BirthdayRange.onDay(birthday);
+        String subject = "Happy birthday from Manager Sys!";
+
+        // Each batch is a short transaction of its own; nothing holds the whole list in memory
+        int queued = 0;
+        long afterId = 0;
+        List<Object[]> batch;
+        do {
+            // Claimed before sending: a failed send loses a greeting rather than
+            // another node (or a rerun) sending it twice
+            batch = customerRepository.claimBirthdayContactsAfterId(range.getFromKey(), range.getToKey(),
+                    range.getWrappedFromKey(), range.getWrappedToKey(), afterId, batchSize, birthday.getYear());
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            // One channel for the whole batch instead of one per message
+            List<Object[]> rows = batch.stream().filter(row -> (Boolean) row[3]).toList();
+            rabbitTemplate.invoke(operations -> {
+                for (Object[] row : rows) {
+                    operations.convertAndSend(emailExchange, emailRoutingKey,
+                            new EmailMessageDTO((String) row[2], subject, greeting((String) row[1], birthday)));
+                }
+                return null;
+            });
+
+            queued += rows.size();
+            afterId = ((Number) batch.get(batch.size() - 1)[0]).longValue();
+        } while (batch.size() == batchSize);
+
+        return queued;
+    }
+
+    private static String greeting(String name, LocalDate birthday) {
+        return String.format("Hi %s, your birthday is coming up on %s. Stop by and celebrate with us!",
+                name, birthday.format(DAY_FORMAT));
+    }
+}
@@ -1,16 +1,23 @@
 package com.managersys.service.impl;
 
+import com.managersys.dto.CategoryTreeNodeDTO;
 import com.managersys.dto.ServiceCategoryDTO;
 import com.managersys.exception.ResourceExistsException;
+import com.managersys.exception.ResourceNotFoundException;
 import com.managersys.model.ServiceCategory;
 import com.managersys.repository.CategoryRepository;
 import com.managersys.repository.ServiceRepository;
 import com.managersys.service.CategoryService;
+import com.managersys.service.CategoryTreeCache;
+import com.managersys.service.ServiceCatalogCaches;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -19,10 +26,16 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final ServiceRepository serviceRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final ServiceCatalogCaches serviceCatalogCaches;
 
-    public CategoryServiceImpl(CategoryRepository categoryRepository, ServiceRepository serviceRepository) {
+    public CategoryServiceImpl(CategoryRepository categoryRepository, ServiceRepository serviceRepository,
+                               CategoryTreeCache categoryTreeCache,
+                               ServiceCatalogCaches serviceCatalogCaches) {
         this.categoryRepository = categoryRepository;
         this.serviceRepository = serviceRepository;
+        this.categoryTreeCache = categoryTreeCache;
+        this.serviceCatalogCaches = serviceCatalogCaches;
     }
 
     @Override
@@ -37,7 +50,19 @@ public class CategoryServiceImpl implements CategoryService {
         category.setName(categoryDTO.getName());
         category.setDescription(categoryDTO.getDescription());
 
+        ServiceCategory parent = null;
+        if (categoryDTO.getParentCategoryId() != null) {
+            parent = categoryRepository.findById(categoryDTO.getParentCategoryId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Category", "id", categoryDTO.getParentCategoryId()));
+            category.setParentCategory(parent);
+        }
+
         ServiceCategory savedCategory = categoryRepository.save(category);
+        categoryRepository.insertClosureSelf(savedCategory.getId());
+        if (parent != null) {
+            categoryRepository.attachClosureSubtree(savedCategory.getId(), parent.getId());
+        }
+        serviceCatalogCaches.refreshAfterCommit();
         return convertToDTO(savedCategory);
     }
 
@@ -45,7 +70,7 @@ public class CategoryServiceImpl implements CategoryService {
     @Transactional(readOnly = true)
     public ServiceCategoryDTO getCategoryById(Long id) {
         ServiceCategory category = categoryRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Category", "id", id));
         return convertToDTO(category);
     }
 
@@ -68,7 +93,7 @@ public class CategoryServiceImpl implements CategoryService {
     @Transactional
     public ServiceCategoryDTO updateCategory(Long id, ServiceCategoryDTO categoryDTO) {
         ServiceCategory category = categoryRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Category", "id", id));
 
         // Check if new name already exists (excluding current category)
         if (!Objects.equals(category.getName(), categoryDTO.getName()) &&
@@ -80,6 +105,7 @@ public class CategoryServiceImpl implements CategoryService {
         category.setDescription(categoryDTO.getDescription());
 
         ServiceCategory updatedCategory = categoryRepository.save(category);
+        serviceCatalogCaches.refreshAfterCommit();
         return convertToDTO(updatedCategory);
     }
 
@@ -87,14 +113,84 @@ public class CategoryServiceImpl implements CategoryService {
     @Transactional
     public void deleteCategory(Long id) {
         ServiceCategory category = categoryRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Category", "id", id));
 
-        // Check if category has associated services
-        if (serviceRepository.existsByCategoryId(id)) {
+        // Subcategories are deleted with the category, so their services count too
+        if (categoryRepository.countServicesInSubtree(id) > 0) {
             throw new IllegalStateException("Cannot delete category with associated services");
         }
 
+        // Closure rows of the whole subtree go with it (ON DELETE CASCADE)
         categoryRepository.delete(category);
+        serviceCatalogCaches.refreshAfterCommit();
+    }
+
+    @Override
+    @Transactional
+    public void moveCategory(Long categoryId, Long newParentId) {
+        ServiceCategory category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("Category", "id", categoryId));
+
+        ServiceCategory newParent = null;
+        if (newParentId != null) {
+            newParent = categoryRepository.findById(newParentId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Category", "id", newParentId));
+            if (categoryRepository.isInSubtree(categoryId, newParentId)) {
+                throw new IllegalArgumentException("Cannot move a category under itself or one of its subcategories");
+            }
+        }
+
+        // Re-link the subtree as a whole: paths inside it stay, paths from its old
+        // ancestors are replaced by paths from the new ones
+        categoryRepository.detachClosureSubtree(categoryId);
+        category.setParentCategory(newParent);
+        categoryRepository.save(category);
+        if (newParent != null) {
+            categoryRepository.attachClosureSubtree(categoryId, newParentId);
+        }
+        serviceCatalogCaches.refreshAfterCommit();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ServiceCategoryDTO> getBreadcrumbs(Long categoryId) {
+        List<ServiceCategory> path = categoryRepository.findPathTo(categoryId);
+        if (path.isEmpty()) {
+            throw new ResourceNotFoundException("Category", "id", categoryId);
+        }
+        return path.stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ServiceCategoryDTO> getCategoryTree() {
+        // One query for all categories, assembled by parent id in memory
+        List<ServiceCategory> categories = categoryRepository.findAll();
+        Map<Long, ServiceCategoryDTO> dtos = new HashMap<>();
+        for (ServiceCategory category : categories) {
+            ServiceCategoryDTO dto = convertToDTO(category);
+            dto.setSubcategories(new ArrayList<>());
+            dtos.put(category.getId(), dto);
+        }
+
+        List<ServiceCategoryDTO> roots = new ArrayList<>();
+        for (ServiceCategory category : categories) {
+            ServiceCategory parent = category.getParentCategory();
+            ServiceCategoryDTO parentDTO = parent != null ? dtos.get(parent.getId()) : null;
+            if (parentDTO != null) {
+                parentDTO.getSubcategories().add(dtos.get(category.getId()));
+            } else {
+                roots.add(dtos.get(category.getId()));
+            }
+        }
+        return roots;
+    }
+
+    @Override
+    public List<CategoryTreeNodeDTO> getActiveCategoryTree() {
+        return categoryTreeCache.getTree();
     }
 
     private ServiceCategoryDTO convertToDTO(ServiceCategory category) {
@@ -0,0 +1,181 @@
+package com.managersys.service.impl;
+
+import com.managersys.dto.CustomerDTO;
+import com.managersys.dto.CustomerOverviewDTO;
+import com.managersys.dto.SaleOrderListDTO;
+import com.managersys.dto.ServiceListDTO;
+import com.managersys.dto.ServiceScheduleDTO;
+import com.managersys.exception.ResourceNotFoundException;
+import com.managersys.model.SaleOrder;
+import com.managersys.repository.CustomerRepository;
+import com.managersys.repository.SaleOrderRepository;
+import com.managersys.repository.ScheduleRepository;
+import com.managersys.repository.ServiceRepository;
+import com.managersys.service.CustomerOverviewService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Service
+public class CustomerOverviewServiceImpl implements CustomerOverviewService {
+
+    private static final int RECENT_ORDERS = 5;
+    private static final int UPCOMING_SCHEDULES = 5;
+    private static final int SERVICES_USED = 20;
+    private static final List<SaleOrder.Status> SPEND_STATUSES = List.of(
+            SaleOrder.Status.PAID, SaleOrder.Status.PROCESSING,
+            SaleOrder.Status.SHIPPED, SaleOrder.Status.DELIVERED);
+
+    private final CustomerRepository customerRepository;
+    private final SaleOrderRepository saleOrderRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ServiceRepository serviceRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final long timeoutMillis;
+
+    // Bounded: when every worker is busy and the queue is full, the request
+    // thread runs the branch itself instead of queueing without limit
+    private final ThreadPoolExecutor executor;
+
+    public CustomerOverviewServiceImpl(CustomerRepository customerRepository,
+                                       SaleOrderRepository saleOrderRepository,
+                                       ScheduleRepository scheduleRepository,
+                                       ServiceRepository serviceRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${customers.overview.pool-size}") int poolSize,
+                                       @Value("${customers.overview.queue-capacity}") int queueCapacity,
+                                       @Value("${customers.overview.timeout-millis}") long timeoutMillis) {
+        this.customerRepository = customerRepository;
+        this.saleOrderRepository = saleOrderRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.serviceRepository = serviceRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Applied as a statement timeout to the branch queries, so a cancelled
+        // branch does not keep its query running on the database
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, (timeoutMillis + 999) / 1000));
+        this.meterRegistry = meterRegistry;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new OverviewThreadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public CustomerOverviewDTO getCustomerOverview(Long customerId) {
+        Timer.Sample total = Timer.start(meterRegistry);
+
+        Future<CustomerDTO> customer = branch("customer", () ->
+                customerRepository.findById(customerId)
+                        .map(CustomerDTO::fromEntity)
+                        .orElse(null));
+        Future<List<SaleOrderListDTO>> recentOrders = branch("recent-orders", () ->
+                saleOrderRepository.findRecentListItemsByCustomerId(customerId, PageRequest.of(0, RECENT_ORDERS)));
+        Future<List<ServiceScheduleDTO>> upcomingSchedules = branch("upcoming-schedules", () ->
+                scheduleRepository.findUpcomingByCustomerId(customerId, LocalDateTime.now(),
+                                PageRequest.of(0, UPCOMING_SCHEDULES)).stream()
+                        .map(ServiceScheduleDTO::fromEntity)
+                        .collect(Collectors.toList()));
+        Future<Object[]> spend = branch("lifetime-spend", () ->
+                saleOrderRepository.sumSpendByCustomerId(customerId, SPEND_STATUSES).get(0));
+        Future<List<ServiceListDTO>> servicesUsed = branch("services-used", () ->
+                serviceRepository.findListItemsByCustomerId(customerId, PageRequest.of(0, SERVICES_USED)).getContent());
+
+        List<Future<?>> branches = List.of(customer, recentOrders, upcomingSchedules, spend, servicesUsed);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            for (Future<?> branch : branches) {
+                branch.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Customer overview timed out after " + timeoutMillis + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading the customer overview", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to load the customer overview", e.getCause());
+        } finally {
+            // Branches still running after a timeout or failure would keep holding
+            // pool threads and connections; completed ones ignore this
+            branches.forEach(branch -> branch.cancel(true));
+            total.stop(meterRegistry.timer("customer.overview"));
+        }
+
+        if (resultOf(customer) == null) {
+            throw new ResourceNotFoundException("Customer", "id", customerId);
+        }
+        Object[] totals = resultOf(spend);
+        return new CustomerOverviewDTO(
+                resultOf(customer),
+                resultOf(recentOrders),
+                resultOf(upcomingSchedules),
+                ((Number) totals[0]).longValue(),
+                (BigDecimal) totals[1],
+                resultOf(servicesUsed));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // Each branch reads in its own short transaction (entities are mapped to DTOs
+    // before it ends) and records its latency under customer.overview.branch
+    private <T> Future<T> branch(String name, Supplier<T> query) {
+        Timer timer = Timer.builder("customer.overview.branch")
+                .tag("branch", name)
+                .register(meterRegistry);
+        // A plain executor future: unlike CompletableFuture, cancel(true) interrupts
+        // the worker running the branch
+        return executor.submit(() -> timer.record(() -> readOnlyTransaction.execute(status -> query.get())));
+    }
+
+    // Only called once every branch has completed successfully
+    private static <T> T resultOf(Future<T> branch) {
+        try {
+            return branch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading the customer overview", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to load the customer overview", e.getCause());
+        }
+    }
+
+    private static final class OverviewThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "customer-overview-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
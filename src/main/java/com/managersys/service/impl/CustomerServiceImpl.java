@@ -1,47 +1,168 @@
 package com.managersys.service.impl;
 
 import com.managersys.dto.CustomerDTO;
+import com.managersys.dto.CustomerImportResultDTO;
+import com.managersys.dto.CustomerLocationDTO;
+import com.managersys.dto.CustomerSuggestionDTO;
+import com.managersys.dto.KeysetPageDTO;
 import com.managersys.exception.ResourceNotFoundException;
 import com.managersys.model.Customer;
 import com.managersys.repository.CustomerRepository;
+import com.managersys.service.CustomerExistenceIndex;
+import com.managersys.service.CustomerLocationDirectory;
 import com.managersys.service.CustomerService;
+import com.managersys.util.BirthdayRange;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class CustomerServiceImpl implements CustomerService {
 
+    private static final int TYPEAHEAD_LIMIT = 10;
+    // Shorter inputs match too much of the table to be useful
+    private static final int TYPEAHEAD_MIN_LENGTH = 2;
+    // A substring needs a whole trigram to use the pg_trgm index; anything shorter
+    // would scan the table on every keystroke
+    private static final int TYPEAHEAD_SUBSTRING_MIN_LENGTH = 3;
+    private static final int MIN_DIGITS_PREFIX = 3;
+
+    // Bounds the IN lists used to confirm possible duplicates during an import
+    private static final int IMPORT_LOOKUP_CHUNK_SIZE = 1000;
+
     private final CustomerRepository customerRepository;
+    private final CustomerExistenceIndex customerExistenceIndex;
+    private final CustomerLocationDirectory customerLocationDirectory;
 
-    public CustomerServiceImpl(CustomerRepository customerRepository) {
+    public CustomerServiceImpl(CustomerRepository customerRepository,
+                               CustomerExistenceIndex customerExistenceIndex,
+                               CustomerLocationDirectory customerLocationDirectory) {
         this.customerRepository = customerRepository;
+        this.customerExistenceIndex = customerExistenceIndex;
+        this.customerLocationDirectory = customerLocationDirectory;
     }
 
     @Override
     @Transactional
     public CustomerDTO createCustomer(CustomerDTO customerDTO) {
         // Check if email already exists
-        if (customerRepository.existsByEmail(customerDTO.getEmail())) {
+        if (existsByEmail(customerDTO.getEmail())) {
             throw new ResourceAlreadyExistsException("Customer", "email", customerDTO.getEmail());
         }
 
         // Check if tax ID already exists
-        if (customerRepository.existsByTaxId(customerDTO.getTaxId())) {
+        if (existsByTaxId(customerDTO.getTaxId())) {
             throw new ResourceAlreadyExistsException("Customer", "taxId", customerDTO.getTaxId());
         }
 
         Customer customer = customerDTO.toEntity();
         Customer savedCustomer = customerRepository.save(customer);
+        customerExistenceIndex.recordAfterCommit(List.of(savedCustomer));
+        if (locationOf(savedCustomer) != null) {
+            customerLocationDirectory.invalidateAfterCommit();
+        }
         return CustomerDTO.fromEntity(savedCustomer);
     }
 
+    @Override
+    @Transactional
+    public CustomerImportResultDTO importCustomers(List<CustomerDTO> customers) {
+        List<CustomerImportResultDTO.SkippedLine> skipped = new ArrayList<>();
+        List<Integer> candidates = new ArrayList<>();
+        List<Integer> toConfirm = new ArrayList<>();
+
+        // Drop repeats within the request, then split the rest by what the filters can rule out
+        Set<String> seenEmails = new HashSet<>();
+        Set<String> seenTaxIds = new HashSet<>();
+        for (int i = 0; i < customers.size(); i++) {
+            CustomerDTO customer = customers.get(i);
+            String email = CustomerExistenceIndex.normalizeEmail(customer.getEmail());
+            String taxId = CustomerExistenceIndex.normalizeTaxId(customer.getTaxId());
+            // A missing or blank value is no key: it neither repeats nor gets looked up
+            if ((email != null && seenEmails.contains(email)) || (taxId != null && seenTaxIds.contains(taxId))) {
+                skipped.add(new CustomerImportResultDTO.SkippedLine(i, customer.getEmail(), customer.getTaxId(),
+                        CustomerImportResultDTO.Reason.DUPLICATE_IN_REQUEST));
+                continue;
+            }
+            if (email != null) {
+                seenEmails.add(email);
+            }
+            if (taxId != null) {
+                seenTaxIds.add(taxId);
+            }
+
+            if (customerExistenceIndex.mightContainEmail(customer.getEmail())
+                    || customerExistenceIndex.mightContainTaxId(customer.getTaxId())) {
+                toConfirm.add(i);
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        // Only possible duplicates are looked up, a chunk at a time
+        for (int from = 0; from < toConfirm.size(); from += IMPORT_LOOKUP_CHUNK_SIZE) {
+            List<Integer> chunk = toConfirm.subList(from, Math.min(from + IMPORT_LOOKUP_CHUNK_SIZE, toConfirm.size()));
+            List<String> emails = chunk.stream()
+                    .filter(i -> customerExistenceIndex.mightContainEmail(customers.get(i).getEmail()))
+                    .map(i -> customers.get(i).getEmail())
+                    .collect(Collectors.toList());
+            List<String> taxIds = chunk.stream()
+                    .filter(i -> customerExistenceIndex.mightContainTaxId(customers.get(i).getTaxId()))
+                    .map(i -> CustomerExistenceIndex.normalizeTaxId(customers.get(i).getTaxId()))
+                    .collect(Collectors.toList());
+            Set<String> existingEmails = emails.isEmpty()
+                    ? Set.of() : new HashSet<>(customerRepository.findExistingEmails(emails));
+            Set<String> existingTaxIds = taxIds.isEmpty()
+                    ? Set.of() : new HashSet<>(customerRepository.findExistingTaxIdDigits(taxIds));
+            for (Integer i : chunk) {
+                CustomerDTO customer = customers.get(i);
+                String taxId = CustomerExistenceIndex.normalizeTaxId(customer.getTaxId());
+                if ((customer.getEmail() != null && existingEmails.contains(customer.getEmail()))
+                        || (taxId != null && existingTaxIds.contains(taxId))) {
+                    skipped.add(new CustomerImportResultDTO.SkippedLine(i, customer.getEmail(), customer.getTaxId(),
+                            CustomerImportResultDTO.Reason.ALREADY_EXISTS));
+                } else {
+                    candidates.add(i);
+                }
+            }
+        }
+        Collections.sort(candidates);
+
+        List<Customer> entities = candidates.stream()
+                .map(i -> customers.get(i).toEntity())
+                .collect(Collectors.toList());
+        Set<Integer> inserted = new HashSet<>(customerRepository.insertIgnoringConflicts(entities));
+
+        // Rows missing from the result collided with a customer created concurrently
+        List<Customer> imported = new ArrayList<>(entities.size());
+        for (int k = 0; k < entities.size(); k++) {
+            Customer customer = entities.get(k);
+            if (inserted.contains(k)) {
+                imported.add(customer);
+            } else {
+                skipped.add(new CustomerImportResultDTO.SkippedLine(candidates.get(k), customer.getEmail(),
+                        customer.getTaxId(), CustomerImportResultDTO.Reason.ALREADY_EXISTS));
+            }
+        }
+        customerExistenceIndex.recordAfterCommit(imported);
+        if (!imported.isEmpty()) {
+            customerLocationDirectory.invalidateAfterCommit();
+        }
+
+        skipped.sort(Comparator.comparingInt(CustomerImportResultDTO.SkippedLine::getLine));
+        return new CustomerImportResultDTO(customers.size(), imported.size(), skipped);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public CustomerDTO getCustomerById(Long id) {
@@ -60,17 +181,57 @@ public class CustomerServiceImpl implements CustomerService {
     @Override
     @Transactional(readOnly = true)
     public Page<CustomerDTO> searchCustomers(String query, Pageable pageable) {
-        return customerRepository.searchCustomers(query, pageable)
-                .map(CustomerDTO::fromEntity);
+        String term = query.trim().toLowerCase();
+        String pattern = "%" + escapeLike(term) + "%";
+        String digits = digitsPrefix(term);
+        Page<Customer> customers = digits != null
+                ? customerRepository.searchCustomersWithDigits(pattern, digits, pageable)
+                : customerRepository.searchCustomers(pattern, pageable);
+        return customers.map(CustomerDTO::fromEntity);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CustomerSuggestionDTO> typeahead(String query) {
+        String term = query == null ? "" : query.trim().toLowerCase();
+        if (term.length() < TYPEAHEAD_MIN_LENGTH) {
+            return List.of();
+        }
+
+        List<Customer> matches;
+        if (term.matches("[0-9 ().+/-]+")) {
+            // Looks like a phone number or tax id
+            String digits = digitsPrefix(term);
+            matches = digits != null
+                    ? customerRepository.findTopByDigitsPrefix(digits, TYPEAHEAD_LIMIT)
+                    : List.of();
+        } else {
+            // Name prefix matches first, then substring matches on name or email
+            String escaped = escapeLike(term);
+            matches = new ArrayList<>(customerRepository.findTopByNamePrefix(escaped + "%", TYPEAHEAD_LIMIT));
+            if (matches.size() < TYPEAHEAD_LIMIT && term.length() >= TYPEAHEAD_SUBSTRING_MIN_LENGTH) {
+                matches.addAll(customerRepository.findTopByNameOrEmailContaining(
+                        "%" + escaped + "%", escaped + "%", TYPEAHEAD_LIMIT - matches.size()));
+            }
+        }
+
+        return matches.stream()
+                .map(CustomerSuggestionDTO::fromEntity)
+                .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<CustomerDTO> findCustomersWithBirthdayBetween(
             LocalDate startDate, LocalDate endDate, String query, Pageable pageable) {
-        return customerRepository.findCustomersWithBirthdayBetween(
-                        startDate, endDate, query, pageable)
-                .map(CustomerDTO::fromEntity);
+        BirthdayRange range = BirthdayRange.of(startDate, endDate);
+        String term = query == null ? "" : query.trim().toLowerCase();
+        Page<Customer> customers = term.isEmpty()
+                ? customerRepository.findByBirthdayKeyBetween(range.getFromKey(), range.getToKey(),
+                        range.getWrappedFromKey(), range.getWrappedToKey(), pageable)
+                : customerRepository.findByBirthdayKeyBetweenMatching(range.getFromKey(), range.getToKey(),
+                        range.getWrappedFromKey(), range.getWrappedToKey(), "%" + escapeLike(term) + "%", pageable);
+        return customers.map(CustomerDTO::fromEntity);
     }
 
     @Override
@@ -82,21 +243,24 @@ public class CustomerServiceImpl implements CustomerService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Map<String, String>> findCitiesWithStates() {
-        return customerRepository.findDistinctCityAndState().stream()
-                .map(tuple -> Map.of(
-                        "city", (String) tuple[0],
-                        "state", (String) tuple[1]
-                ))
-                .collect(Collectors.toList());
+    public List<CustomerLocationDTO> findCitiesWithStates() {
+        return customerLocationDirectory.getLocations();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<CustomerDTO> findByCityAndState(String city, String state) {
-        return customerRepository.findByCityAndState(city, state).stream()
+    public KeysetPageDTO<CustomerDTO> findByCityAndState(String city, String state, Long afterId, int size) {
+        // One extra row tells whether another page follows without a count query
+        List<Customer> customers = customerRepository.findByLocationAfterId(
+                city, state, afterId != null ? afterId : 0L, size + 1);
+        Long nextAfterId = null;
+        if (customers.size() > size) {
+            customers = customers.subList(0, size);
+            nextAfterId = customers.get(size - 1).getId();
+        }
+        return new KeysetPageDTO<>(customers.stream()
                 .map(CustomerDTO::fromEntity)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()), nextAfterId);
     }
 
     @Override
@@ -107,16 +271,20 @@ public class CustomerServiceImpl implements CustomerService {
 
         // Check if email is being changed and if the new email already exists
         if (!Objects.equals(existingCustomer.getEmail(), customerDTO.getEmail()) && 
-            customerRepository.existsByEmail(customerDTO.getEmail())) {
+            existsByEmail(customerDTO.getEmail())) {
             throw new ResourceAlreadyExistsException("Customer", "email", customerDTO.getEmail());
         }
 
-        // Check if tax ID is being changed and if the new tax ID already exists
-        if (!Objects.equals(existingCustomer.getTaxId(), customerDTO.getTaxId()) && 
-            customerRepository.existsByTaxId(customerDTO.getTaxId())) {
+        // Check if tax ID is being changed and if the new tax ID already exists;
+        // only the digits count, so reformatting the same tax ID is no change
+        if (!Objects.equals(CustomerExistenceIndex.normalizeTaxId(existingCustomer.getTaxId()),
+                CustomerExistenceIndex.normalizeTaxId(customerDTO.getTaxId())) && 
+            existsByTaxId(customerDTO.getTaxId())) {
             throw new ResourceAlreadyExistsException("Customer", "taxId", customerDTO.getTaxId());
         }
 
+        String previousLocation = locationOf(existingCustomer);
+
         // Update fields
         existingCustomer.setName(customerDTO.getName());
         existingCustomer.setEmail(customerDTO.getEmail());
@@ -144,6 +312,10 @@ public class CustomerServiceImpl implements CustomerService {
         }
 
         Customer updatedCustomer = customerRepository.save(existingCustomer);
+        customerExistenceIndex.recordAfterCommit(List.of(updatedCustomer));
+        if (!Objects.equals(previousLocation, locationOf(updatedCustomer))) {
+            customerLocationDirectory.invalidateAfterCommit();
+        }
         return CustomerDTO.fromEntity(updatedCustomer);
     }
 
@@ -153,17 +325,43 @@ public class CustomerServiceImpl implements CustomerService {
         Customer customer = customerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Customer", "id", id));
         customerRepository.delete(customer);
+        if (locationOf(customer) != null) {
+            customerLocationDirectory.invalidateAfterCommit();
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
-        return customerRepository.existsByEmail(email);
+        // A filter miss is a definite "no" and never reaches the database
+        return customerExistenceIndex.mightContainEmail(email) && customerRepository.existsByEmail(email);
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean existsByTaxId(String taxId) {
-        return customerRepository.existsByTaxId(taxId);
+        // Same key as the filter and the unique index: the digits of the tax ID
+        String taxIdDigits = CustomerExistenceIndex.normalizeTaxId(taxId);
+        return taxIdDigits != null && customerExistenceIndex.mightContainTaxId(taxId)
+                && customerRepository.existsByTaxIdDigits(taxIdDigits);
+    }
+
+    // Helper Methods
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static String digitsPrefix(String value) {
+        String digits = value.replaceAll("[^0-9]", "");
+        return digits.length() >= MIN_DIGITS_PREFIX ? digits + "%" : null;
+    }
+
+    private static String locationOf(Customer customer) {
+        Customer.Address address = customer.getAddress();
+        if (address == null || address.getCity() == null || address.getState() == null) {
+            return null;
+        }
+        return address.getState() + "|" + address.getCity();
     }
 }
@@ -0,0 +1,163 @@
+package com.managersys.service.impl;
+
+import com.managersys.dto.CustomerStatsDTO;
+import com.managersys.model.CustomerStats;
+import com.managersys.model.SaleOrder;
+import com.managersys.repository.CustomerStatsRepository;
+import com.managersys.service.CustomerStatsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+@Service
+public class CustomerStatsServiceImpl implements CustomerStatsService {
+
+    // Orders count toward a customer's totals from payment until cancellation or refund
+    private static final Set<SaleOrder.Status> COUNTED_STATUSES = EnumSet.of(
+            SaleOrder.Status.PAID, SaleOrder.Status.PROCESSING,
+            SaleOrder.Status.SHIPPED, SaleOrder.Status.DELIVERED);
+    private static final int MAX_RANGE_ATTEMPTS = 3;
+
+    private final CustomerStatsRepository customerStatsRepository;
+    private final TransactionTemplate rangeTransaction;
+    private final int lapsedDays;
+    private final long chunkSize;
+    private final int parallelism;
+
+    public CustomerStatsServiceImpl(CustomerStatsRepository customerStatsRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${customers.stats.lapsed-days}") int lapsedDays,
+                                    @Value("${customers.stats.chunk-size}") long chunkSize,
+                                    @Value("${customers.stats.parallelism}") int parallelism) {
+        this.customerStatsRepository = customerStatsRepository;
+        // A slice is recomputed from one snapshot; an order paid or cancelled meanwhile
+        // makes the slice fail with a serialization error instead of being overwritten
+        this.rangeTransaction = new TransactionTemplate(transactionManager);
+        this.rangeTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.lapsedDays = lapsedDays;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    @Transactional
+    public void recordStatusChange(SaleOrder order, SaleOrder.Status from, SaleOrder.Status to) {
+        if (order.getCustomer() == null) {
+            return;
+        }
+        boolean wasCounted = from != null && COUNTED_STATUSES.contains(from);
+        boolean isCounted = to != null && COUNTED_STATUSES.contains(to);
+        if (wasCounted == isCounted) {
+            return;
+        }
+
+        Long customerId = order.getCustomer().getId();
+        BigDecimal amount = order.getFinalAmount() != null ? order.getFinalAmount() : BigDecimal.ZERO;
+        if (isCounted) {
+            customerStatsRepository.addOrder(customerId, amount, order.getOrderDate());
+        } else {
+            customerStatsRepository.removeOrder(customerId, order.getId(), amount);
+            customerStatsRepository.deleteIfEmpty(customerId);
+        }
+    }
+
+    @Override
+    public int rebuildStats() {
+        List<Object[]> range = customerStatsRepository.findCustomerIdRange();
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            return 0;
+        }
+        long firstId = ((Number) range.get(0)[0]).longValue();
+        long lastId = ((Number) range.get(0)[1]).longValue();
+
+        // Parallelism should stay below the connection pool size
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new RebuildTask(firstId, lastId + 1));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Override
+    @Transactional
+    public int refreshSegments() {
+        return customerStatsRepository.refreshSegments(LocalDateTime.now().minusDays(lapsedDays));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CustomerStatsDTO> getTopSpenders(Pageable pageable) {
+        return customerStatsRepository.findTopSpenders(pageable)
+                .map(CustomerStatsDTO::fromEntity);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CustomerStatsDTO> getLapsedCustomers(int days, Pageable pageable) {
+        return customerStatsRepository.findLapsedSince(LocalDateTime.now().minusDays(days), pageable)
+                .map(CustomerStatsDTO::fromEntity);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CustomerStatsDTO> getCustomersBySegment(CustomerStats.Segment segment, Pageable pageable) {
+        return customerStatsRepository.findBySegment(segment, pageable)
+                .map(CustomerStatsDTO::fromEntity);
+    }
+
+    private int rebuildRange(long fromId, long toId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Integer rows = rangeTransaction.execute(status -> {
+                    customerStatsRepository.deleteStaleInRange(fromId, toId);
+                    return customerStatsRepository.rebuildRange(fromId, toId);
+                });
+                return rows != null ? rows : 0;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= MAX_RANGE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // Splits a customer id range in halves until slices are at most chunkSize ids wide
+    private class RebuildTask extends RecursiveTask<Integer> {
+
+        private final long fromId;
+        private final long toId;
+
+        private RebuildTask(long fromId, long toId) {
+            this.fromId = fromId;
+            this.toId = toId;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (toId - fromId <= chunkSize) {
+                return rebuildRange(fromId, toId);
+            }
+
+            long middle = fromId + (toId - fromId) / 2;
+            RebuildTask left = new RebuildTask(fromId, middle);
+            left.fork();
+            int right = new RebuildTask(middle, toId).compute();
+            return left.join() + right;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.managersys.service.impl;
+
+import com.managersys.dto.CustomerTimelineDTO;
+import com.managersys.dto.CustomerTimelineEventDTO;
+import com.managersys.dto.CustomerTimelineEventDTO.Type;
+import com.managersys.exception.ResourceNotFoundException;
+import com.managersys.repository.CustomerRepository;
+import com.managersys.repository.SaleOrderRepository;
+import com.managersys.repository.ScheduleRepository;
+import com.managersys.service.CustomerTimelineService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Merges a customer's orders, appointments and appointment cancellations into
+ * one feed, newest first. Events are ordered by (occurredAt, type, id), so the
+ * last event of a page is a complete position in every source: each source
+ * seeks past it with its own index and returns at most one page, and the pages
+ * are combined with a k-way merge.
+ */
+@Service
+public class CustomerTimelineServiceImpl implements CustomerTimelineService {
+
+    private static final Comparator<CustomerTimelineEventDTO> NEWEST_FIRST = Comparator
+            .comparing(CustomerTimelineEventDTO::getOccurredAt)
+            .thenComparing(CustomerTimelineEventDTO::getType)
+            .thenComparing(CustomerTimelineEventDTO::getReferenceId)
+            .reversed();
+
+    private final CustomerRepository customerRepository;
+    private final SaleOrderRepository saleOrderRepository;
+    private final ScheduleRepository scheduleRepository;
+
+    public CustomerTimelineServiceImpl(CustomerRepository customerRepository,
+                                       SaleOrderRepository saleOrderRepository,
+                                       ScheduleRepository scheduleRepository) {
+        this.customerRepository = customerRepository;
+        this.saleOrderRepository = saleOrderRepository;
+        this.scheduleRepository = scheduleRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerTimelineDTO getTimeline(Long customerId, String cursor, int size) {
+        if (!customerRepository.existsById(customerId)) {
+            throw new ResourceNotFoundException("Customer", "id", customerId);
+        }
+        Position after = cursor != null && !cursor.isBlank() ? Position.decode(cursor) : null;
+
+        // One extra row per source tells whether anything is left after this page
+        Pageable page = PageRequest.of(0, size + 1);
+        List<List<CustomerTimelineEventDTO>> sources = new ArrayList<>();
+        for (Type type : Type.values()) {
+            sources.add(fetch(type, customerId, after, page));
+        }
+
+        // Heads of the sources, newest first; each entry is {source, index}
+        PriorityQueue<int[]> heads = new PriorityQueue<>(
+                (a, b) -> NEWEST_FIRST.compare(sources.get(a[0]).get(a[1]), sources.get(b[0]).get(b[1])));
+        for (int source = 0; source < sources.size(); source++) {
+            if (!sources.get(source).isEmpty()) {
+                heads.add(new int[]{source, 0});
+            }
+        }
+
+        List<CustomerTimelineEventDTO> events = new ArrayList<>(size);
+        while (events.size() < size && !heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<CustomerTimelineEventDTO> source = sources.get(head[0]);
+            events.add(source.get(head[1]));
+            if (head[1] + 1 < source.size()) {
+                heads.add(new int[]{head[0], head[1] + 1});
+            }
+        }
+
+        String nextCursor = heads.isEmpty() ? null : Position.of(events.get(events.size() - 1)).encode();
+        return new CustomerTimelineDTO(events, nextCursor);
+    }
+
+    // Helper Methods
+
+    private List<CustomerTimelineEventDTO> fetch(Type type, Long customerId, Position after, Pageable page) {
+        LocalDateTime beforeAt = after != null ? after.occurredAt : null;
+        Long beforeId = after != null ? after.boundFor(type) : null;
+
+        List<Object[]> rows;
+        switch (type) {
+            case ORDER:
+                rows = after == null
+                        ? saleOrderRepository.findTimelineByCustomerId(customerId, page)
+                        : saleOrderRepository.findTimelineByCustomerIdBefore(customerId, beforeAt, beforeId, page);
+                break;
+            case APPOINTMENT:
+                rows = after == null
+                        ? scheduleRepository.findTimelineByCustomerId(customerId, page)
+                        : scheduleRepository.findTimelineByCustomerIdBefore(customerId, beforeAt, beforeId, page);
+                break;
+            default:
+                rows = after == null
+                        ? scheduleRepository.findCancellationTimelineByCustomerId(customerId, page)
+                        : scheduleRepository.findCancellationTimelineByCustomerIdBefore(customerId, beforeAt, beforeId, page);
+                break;
+        }
+
+        List<CustomerTimelineEventDTO> events = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            events.add(toEvent(type, row));
+        }
+        return events;
+    }
+
+    private static CustomerTimelineEventDTO toEvent(Type type, Object[] row) {
+        Long id = (Long) row[0];
+        LocalDateTime occurredAt = (LocalDateTime) row[1];
+        String status = String.valueOf(row[2]);
+        switch (type) {
+            case ORDER:
+                return new CustomerTimelineEventDTO(type, id, occurredAt, status,
+                        "Order " + row[3], null, (BigDecimal) row[4]);
+            case APPOINTMENT:
+                return new CustomerTimelineEventDTO(type, id, occurredAt, status,
+                        (String) row[3], null, (BigDecimal) row[4]);
+            default:
+                return new CustomerTimelineEventDTO(type, id, occurredAt, status,
+                        (String) row[3], (String) row[4], null);
+        }
+    }
+
+    // Last event returned, encoded into an opaque URL-safe cursor
+    private static final class Position {
+
+        private final LocalDateTime occurredAt;
+        private final Type type;
+        private final long id;
+
+        private Position(LocalDateTime occurredAt, Type type, long id) {
+            this.occurredAt = occurredAt;
+            this.type = type;
+            this.id = id;
+        }
+
+        private static Position of(CustomerTimelineEventDTO event) {
+            return new Position(event.getOccurredAt(), event.getType(), event.getReferenceId());
+        }
+
+        /**
+         * Upper id bound for a source's rows at exactly {@code occurredAt}:
+         * types that sort before the cursor's type keep all of them, types
+         * after it keep none, and the cursor's own type seeks past its id.
+         */
+        private long boundFor(Type source) {
+            int order = source.compareTo(type);
+            if (order < 0) {
+                return Long.MAX_VALUE;
+            }
+            return order == 0 ? id : 0;
+        }
+
+        private String encode() {
+            String raw = occurredAt + "|" + type.name() + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static Position decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|");
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("Invalid timeline cursor");
+                }
+                return new Position(LocalDateTime.parse(parts[0]), Type.valueOf(parts[1]), Long.parseLong(parts[2]));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid timeline cursor");
+            }
+        }
+    }
+}
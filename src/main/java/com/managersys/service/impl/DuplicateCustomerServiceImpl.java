@@ -0,0 +1,407 @@
+package com.managersys.service.impl;
+
+import com.managersys.dto.CustomerDTO;
+import com.managersys.dto.CustomerSuggestionDTO;
+import com.managersys.dto.MergeCandidateDTO;
+import com.managersys.exception.ResourceNotFoundException;
+import com.managersys.model.Customer;
+import com.managersys.model.MergeCandidate;
+import com.managersys.repository.CustomerRepository;
+import com.managersys.repository.CustomerStatsRepository;
+import com.managersys.repository.MergeCandidateRepository;
+import com.managersys.repository.SaleOrderRepository;
+import com.managersys.repository.ScheduleRepository;
+import com.managersys.service.CustomerExistenceIndex;
+import com.managersys.service.CustomerLocationDirectory;
+import com.managersys.service.DuplicateCustomerService;
+import com.managersys.util.MinHash;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class DuplicateCustomerServiceImpl implements DuplicateCustomerService {
+
+    // Fixed so band keys, and therefore candidate pairs, are stable between runs
+    private static final long MINHASH_SEED = 0x5DEECE66DL;
+    private static final int SHINGLE_SIZE = 3;
+    // Phone numbers are compared on their last digits, ignoring country and area codes
+    private static final int PHONE_TAIL_DIGITS = 8;
+    private static final double NAME_WEIGHT = 0.5;
+    private static final double PHONE_WEIGHT = 0.3;
+    private static final double ADDRESS_WEIGHT = 0.2;
+    // Bounds the IN lists used to load the customers of candidate pairs
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final CustomerRepository customerRepository;
+    private final MergeCandidateRepository mergeCandidateRepository;
+    private final SaleOrderRepository saleOrderRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final CustomerStatsRepository customerStatsRepository;
+    private final CustomerExistenceIndex customerExistenceIndex;
+    private final CustomerLocationDirectory customerLocationDirectory;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int bands;
+    private final int rowsPerBand;
+    private final double scoreThreshold;
+    private final int maxBucketSize;
+    private final int parallelism;
+
+    public DuplicateCustomerServiceImpl(CustomerRepository customerRepository,
+                                        MergeCandidateRepository mergeCandidateRepository,
+                                        SaleOrderRepository saleOrderRepository,
+                                        ScheduleRepository scheduleRepository,
+                                        CustomerStatsRepository customerStatsRepository,
+                                        CustomerExistenceIndex customerExistenceIndex,
+                                        CustomerLocationDirectory customerLocationDirectory,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${customers.duplicates.bands}") int bands,
+                                        @Value("${customers.duplicates.rows-per-band}") int rowsPerBand,
+                                        @Value("${customers.duplicates.score-threshold}") double scoreThreshold,
+                                        @Value("${customers.duplicates.max-bucket-size}") int maxBucketSize,
+                                        @Value("${customers.duplicates.parallelism}") int parallelism) {
+        this.customerRepository = customerRepository;
+        this.mergeCandidateRepository = mergeCandidateRepository;
+        this.saleOrderRepository = saleOrderRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.customerStatsRepository = customerStatsRepository;
+        this.customerExistenceIndex = customerExistenceIndex;
+        this.customerLocationDirectory = customerLocationDirectory;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.bands = bands;
+        this.rowsPerBand = rowsPerBand;
+        this.scoreThreshold = scoreThreshold;
+        this.maxBucketSize = maxBucketSize;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public int detectDuplicates() {
+        MinHash minHash = new MinHash(bands, rowsPerBand, MINHASH_SEED);
+
+        // One pass over the table keeping only ids and band keys, not the shingles
+        BandKeys bandKeys = readOnlyTransaction.execute(status -> {
+            BandKeys collected = new BandKeys(bands, (int) Math.min(Integer.MAX_VALUE - 8, customerRepository.count()));
+            try (Stream<Object[]> rows = customerRepository.streamDuplicateDetectionFields()) {
+                rows.forEach(row -> {
+                    int[] keys = minHash.bandKeys(Features.of(row).all());
+                    if (keys != null) {
+                        collected.add(((Number) row[0]).longValue(), keys);
+                    }
+                });
+            }
+            return collected;
+        });
+
+        Set<Long> pairs = bandKeys.candidatePairs(maxBucketSize);
+        if (pairs.isEmpty()) {
+            return 0;
+        }
+
+        // Only the customers that appear in a candidate pair are loaded again
+        Set<Long> customerIds = new HashSet<>();
+        for (long pair : pairs) {
+            customerIds.add(bandKeys.idAt((int) (pair >>> 32)));
+            customerIds.add(bandKeys.idAt((int) pair));
+        }
+        Map<Long, Features> features = loadFeatures(new ArrayList<>(customerIds));
+
+        List<MergeCandidate> matches;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            matches = pool.submit(() -> pairs.parallelStream()
+                    .mapToLong(Long::longValue)
+                    .mapToObj(pair -> score(bandKeys.idAt((int) (pair >>> 32)), bandKeys.idAt((int) pair), features))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList()))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scoring duplicate candidates", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to score duplicate candidates", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        mergeCandidateRepository.upsertCandidates(matches);
+        return matches.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<MergeCandidateDTO> getPendingCandidates(Pageable pageable) {
+        Page<MergeCandidate> candidates = mergeCandidateRepository.findPending(pageable);
+
+        // One query for the customers of the whole page
+        Set<Long> customerIds = new HashSet<>();
+        candidates.forEach(candidate -> {
+            customerIds.add(candidate.getCustomerId());
+            customerIds.add(candidate.getDuplicateId());
+        });
+        Map<Long, CustomerSuggestionDTO> customers = customerRepository.findAllById(customerIds).stream()
+                .collect(Collectors.toMap(Customer::getId, CustomerSuggestionDTO::fromEntity));
+
+        return candidates.map(candidate -> MergeCandidateDTO.fromEntity(candidate,
+                customers.get(candidate.getCustomerId()),
+                customers.get(candidate.getDuplicateId())));
+    }
+
+    @Override
+    @Transactional
+    public CustomerDTO mergeCandidate(Long candidateId, Long survivorId) {
+        MergeCandidate candidate = mergeCandidateRepository.findByIdForUpdate(candidateId)
+                .orElseThrow(() -> new ResourceNotFoundException("MergeCandidate", "id", candidateId));
+        if (candidate.getStatus() != MergeCandidate.Status.PENDING) {
+            throw new IllegalStateException("Only PENDING merge candidates can be merged");
+        }
+
+        Long keepId = survivorId != null ? survivorId : candidate.getCustomerId();
+        if (!candidate.involves(keepId)) {
+            throw new IllegalArgumentException("Survivor must be one of the candidate's customers");
+        }
+        Long mergedId = keepId.equals(candidate.getCustomerId()) ? candidate.getDuplicateId() : candidate.getCustomerId();
+
+        // Locked in id order, so merges of overlapping pairs cannot deadlock
+        Map<Long, Customer> customers = customerRepository.findAllByIdForUpdate(List.of(keepId, mergedId)).stream()
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+        Customer survivor = customers.get(keepId);
+        Customer merged = customers.get(mergedId);
+        if (survivor == null || merged == null) {
+            throw new ResourceNotFoundException("Customer", "id", survivor == null ? keepId : mergedId);
+        }
+
+        // Orders and schedules move over in one statement each, however many there are
+        saleOrderRepository.reassignCustomer(mergedId, keepId);
+        scheduleRepository.reassignCustomer(mergedId, keepId);
+
+        // Delete first so the merged customer's unique tax ID can move to the survivor
+        customerRepository.delete(merged);
+        customerRepository.flush();
+        fillMissingDetails(survivor, merged);
+        Customer savedSurvivor = customerRepository.saveAndFlush(survivor);
+
+        // The merged customer's stats row went with it; the survivor's now covers both
+        customerStatsRepository.rebuildRange(keepId, keepId + 1);
+
+        LocalDateTime now = LocalDateTime.now();
+        candidate.setStatus(MergeCandidate.Status.MERGED);
+        candidate.setResolvedAt(now);
+        mergeCandidateRepository.saveAndFlush(candidate);
+        mergeCandidateRepository.markObsoleteInvolving(mergedId, now);
+
+        customerExistenceIndex.recordAfterCommit(List.of(savedSurvivor));
+        customerLocationDirectory.invalidateAfterCommit();
+        return CustomerDTO.fromEntity(savedSurvivor);
+    }
+
+    @Override
+    @Transactional
+    public void dismissCandidate(Long candidateId) {
+        MergeCandidate candidate = mergeCandidateRepository.findByIdForUpdate(candidateId)
+                .orElseThrow(() -> new ResourceNotFoundException("MergeCandidate", "id", candidateId));
+        if (candidate.getStatus() != MergeCandidate.Status.PENDING) {
+            throw new IllegalStateException("Only PENDING merge candidates can be dismissed");
+        }
+        candidate.setStatus(MergeCandidate.Status.DISMISSED);
+        candidate.setResolvedAt(LocalDateTime.now());
+        mergeCandidateRepository.save(candidate);
+    }
+
+    // Helper Methods
+
+    private Map<Long, Features> loadFeatures(List<Long> customerIds) {
+        Map<Long, Features> features = new HashMap<>();
+        for (int from = 0; from < customerIds.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = customerIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, customerIds.size()));
+            List<Object[]> rows = readOnlyTransaction.execute(status -> customerRepository.findDuplicateDetectionFields(chunk));
+            for (Object[] row : rows) {
+                features.put(((Number) row[0]).longValue(), Features.of(row));
+            }
+        }
+        return features;
+    }
+
+    private MergeCandidate score(long firstId, long secondId, Map<Long, Features> features) {
+        Features first = features.get(firstId);
+        Features second = features.get(secondId);
+        if (first == null || second == null) {
+            return null; // Deleted since the scan
+        }
+
+        double weighted = 0;
+        double weights = 0;
+        int compared = 0;
+        if (!first.name.isEmpty() && !second.name.isEmpty()) {
+            weighted += NAME_WEIGHT * MinHash.jaccard(first.name, second.name);
+            weights += NAME_WEIGHT;
+            compared++;
+        }
+        if (first.phoneTail != null && second.phoneTail != null) {
+            double phone = first.phoneTail.equals(second.phoneTail) ? 1 : MinHash.jaccard(first.phone, second.phone);
+            weighted += PHONE_WEIGHT * phone;
+            weights += PHONE_WEIGHT;
+            compared++;
+        }
+        if (!first.address.isEmpty() && !second.address.isEmpty()) {
+            weighted += ADDRESS_WEIGHT * MinHash.jaccard(first.address, second.address);
+            weights += ADDRESS_WEIGHT;
+            compared++;
+        }
+
+        // A shared name alone is too common to flag
+        if (compared < 2) {
+            return null;
+        }
+        double score = weighted / weights;
+        if (score < scoreThreshold) {
+            return null;
+        }
+        return new MergeCandidate(firstId, secondId, BigDecimal.valueOf(score).setScale(4, RoundingMode.HALF_UP));
+    }
+
+    private static void fillMissingDetails(Customer survivor, Customer merged) {
+        if (survivor.getPhone() == null) {
+            survivor.setPhone(merged.getPhone());
+        }
+        if (survivor.getBirthDate() == null) {
+            survivor.setBirthDate(merged.getBirthDate());
+        }
+        if (survivor.getTaxId() == null) {
+            survivor.setTaxId(merged.getTaxId());
+        }
+        if (survivor.getAddress() == null || survivor.getAddress().getCity() == null) {
+            survivor.setAddress(merged.getAddress());
+        }
+    }
+
+    // Shingle sets of one customer; rows are (id, name, phone, street, number, city)
+    private static final class Features {
+
+        private final Set<String> name;
+        private final Set<String> phone;
+        private final Set<String> address;
+        private final String phoneTail;
+
+        private Features(Set<String> name, Set<String> phone, Set<String> address, String phoneTail) {
+            this.name = name;
+            this.phone = phone;
+            this.address = address;
+            this.phoneTail = phoneTail;
+        }
+
+        private static Features of(Object[] row) {
+            String digits = row[2] != null ? ((String) row[2]).replaceAll("[^0-9]", "") : "";
+            String phoneTail = digits.isEmpty() ? null
+                    : digits.substring(Math.max(0, digits.length() - PHONE_TAIL_DIGITS));
+            String street = joinNonNull((String) row[3], (String) row[4], (String) row[5]);
+            return new Features(
+                    MinHash.shingles("n:", (String) row[1], SHINGLE_SIZE),
+                    MinHash.shingles("p:", phoneTail, SHINGLE_SIZE),
+                    MinHash.shingles("a:", street, SHINGLE_SIZE),
+                    phoneTail);
+        }
+
+        private Set<String> all() {
+            Set<String> all = new HashSet<>(name.size() + phone.size() + address.size());
+            all.addAll(name);
+            all.addAll(phone);
+            all.addAll(address);
+            return all;
+        }
+
+        private static String joinNonNull(String... parts) {
+            return Arrays.stream(parts).filter(Objects::nonNull).collect(Collectors.joining(" "));
+        }
+    }
+
+    // Customer ids with their band keys, stored column-wise in primitive arrays
+    private static final class BandKeys {
+
+        private final int[][] keys;
+        private long[] ids;
+        private int size;
+
+        private BandKeys(int bands, int expectedSize) {
+            int capacity = Math.max(16, expectedSize);
+            this.ids = new long[capacity];
+            this.keys = new int[bands][capacity];
+        }
+
+        private void add(long id, int[] bandKeys) {
+            if (size == ids.length) {
+                int capacity = ids.length + (ids.length >> 1);
+                ids = Arrays.copyOf(ids, capacity);
+                for (int band = 0; band < keys.length; band++) {
+                    keys[band] = Arrays.copyOf(keys[band], capacity);
+                }
+            }
+            ids[size] = id;
+            for (int band = 0; band < keys.length; band++) {
+                keys[band][size] = bandKeys[band];
+            }
+            size++;
+        }
+
+        private long idAt(int position) {
+            return ids[position];
+        }
+
+        /**
+         * Pairs of positions (lower one in the high half) sharing a bucket in
+         * any band. Buckets larger than maxBucketSize are skipped: they hold
+         * customers with identical, usually near-empty, details.
+         */
+        private Set<Long> candidatePairs(int maxBucketSize) {
+            Set<Long> pairs = new HashSet<>();
+            long[] sorted = new long[size];
+            for (int[] bandKeys : keys) {
+                // Key in the high half, position in the low half: sorting groups each bucket
+                for (int i = 0; i < size; i++) {
+                    sorted[i] = ((long) bandKeys[i] << 32) | i;
+                }
+                Arrays.sort(sorted);
+
+                int start = 0;
+                while (start < size) {
+                    int end = start + 1;
+                    while (end < size && (sorted[end] >>> 32) == (sorted[start] >>> 32)) {
+                        end++;
+                    }
+                    if (end - start > 1 && end - start <= maxBucketSize) {
+                        for (int a = start; a < end; a++) {
+                            for (int b = a + 1; b < end; b++) {
+                                // Positions within a bucket are ascending after the sort
+                                pairs.add(((sorted[a] & 0xFFFFFFFFL) << 32) | (sorted[b] & 0xFFFFFFFFL));
+                            }
+                        }
+                    }
+                    start = end;
+                }
+            }
+            return pairs;
+        }
+    }
+}
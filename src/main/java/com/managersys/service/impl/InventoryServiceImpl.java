@@ -0,0 +1,152 @@
+package com.managersys.service.impl;
+
+import com.managersys.dto.ProductStockDTO;
+import com.managersys.dto.StockLocationDTO;
+import com.managersys.exception.ResourceAlreadyExistsException;
+import com.managersys.exception.ResourceNotFoundException;
+import com.managersys.model.ProductStock;
+import com.managersys.model.StockLocation;
+import com.managersys.repository.ProductRepository;
+import com.managersys.repository.ProductStockRepository;
+import com.managersys.repository.StockLocationRepository;
+import com.managersys.service.InventoryService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class InventoryServiceImpl implements InventoryService {
+
+    // The picked location can be drained by a concurrent order while we wait for its lock
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private final ProductStockRepository productStockRepository;
+    private final StockLocationRepository stockLocationRepository;
+    private final ProductRepository productRepository;
+    private final String defaultLocationCode;
+
+    // Resolved on first use; locations are never deleted
+    private volatile Long defaultLocationId;
+
+    public InventoryServiceImpl(ProductStockRepository productStockRepository,
+                                StockLocationRepository stockLocationRepository,
+                                ProductRepository productRepository,
+                                @Value("${inventory.default-location}") String defaultLocationCode) {
+        this.productStockRepository = productStockRepository;
+        this.stockLocationRepository = stockLocationRepository;
+        this.productRepository = productRepository;
+        this.defaultLocationCode = defaultLocationCode;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StockLocationDTO> getAllLocations() {
+        return stockLocationRepository.findAllByOrderByPriorityAscIdAsc().stream()
+                .map(StockLocationDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public StockLocationDTO createLocation(StockLocationDTO locationDTO) {
+        if (stockLocationRepository.existsByCode(locationDTO.getCode())) {
+            throw new ResourceAlreadyExistsException("StockLocation", "code", locationDTO.getCode());
+        }
+
+        StockLocation savedLocation = stockLocationRepository.save(locationDTO.toEntity());
+
+        // Every product gets an empty row so stock changes never need an upsert
+        productStockRepository.createForLocation(savedLocation.getId());
+
+        return StockLocationDTO.fromEntity(savedLocation);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductStockDTO> getProductStock(Long productId) {
+        if (!productRepository.existsById(productId)) {
+            throw new ResourceNotFoundException("Product", "id", productId);
+        }
+        return productStockRepository.findByProductId(productId).stream()
+                .map(ProductStockDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public ProductStockDTO setStock(Long productId, Long locationId, int quantity) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("Stock quantity cannot be negative");
+        }
+        StockLocation location = stockLocationRepository.findById(locationId)
+                .orElseThrow(() -> new ResourceNotFoundException("StockLocation", "id", locationId));
+
+        if (productStockRepository.setQuantity(productId, locationId, quantity) == 0) {
+            throw new ResourceNotFoundException("Product", "id", productId);
+        }
+        return new ProductStockDTO(productId, locationId, location.getCode(), location.getName(), quantity);
+    }
+
+    @Override
+    @Transactional
+    public void initializeStock(Long productId, int quantity) {
+        productStockRepository.createForProduct(productId, getDefaultLocation().getId(), quantity);
+    }
+
+    @Override
+    @Transactional
+    public void adjustStock(Long productId, Long locationId, int delta) {
+        Long targetLocationId = locationId != null ? locationId : getDefaultLocation().getId();
+        if (productStockRepository.adjustQuantity(productId, targetLocationId, delta) == 0) {
+            if (!productStockRepository.existsById(new ProductStock.ProductStockId(productId, targetLocationId))) {
+                // Rows exist for every product and location, so one of the two is unknown
+                if (!stockLocationRepository.existsById(targetLocationId)) {
+                    throw new ResourceNotFoundException("StockLocation", "id", targetLocationId);
+                }
+                throw new ResourceNotFoundException("Product", "id", productId);
+            }
+            throw new IllegalStateException("Insufficient stock for product " + productId + " at location " + targetLocationId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public StockLocation reserve(Long productId, Long locationId, int quantity) {
+        if (locationId != null) {
+            adjustStock(productId, locationId, -quantity);
+            return stockLocationRepository.getReferenceById(locationId);
+        }
+
+        for (int attempt = 0; attempt < MAX_RESERVE_ATTEMPTS; attempt++) {
+            List<Long> picked = productStockRepository.reserveFromFirstAvailable(productId, quantity);
+            if (!picked.isEmpty()) {
+                return stockLocationRepository.getReferenceById(picked.get(0));
+            }
+            if (!productStockRepository.existsLocationWithQuantity(productId, quantity)) {
+                break;
+            }
+        }
+        throw new IllegalStateException("Insufficient stock for product " + productId);
+    }
+
+    @Override
+    @Transactional
+    public void release(Long productId, Long locationId, int quantity) {
+        adjustStock(productId, locationId, quantity);
+    }
+
+    @Override
+    public StockLocation getDefaultLocation() {
+        Long id = defaultLocationId;
+        if (id != null) {
+            return stockLocationRepository.getReferenceById(id);
+        }
+        StockLocation location = stockLocationRepository.findByCode(defaultLocationCode)
+                .orElseThrow(() -> new ResourceNotFoundException("StockLocation", "code", defaultLocationCode));
+        defaultLocationId = location.getId();
+        return location;
+    }
+}
@@ -1,30 +1,44 @@
 package com.managersys.service.impl;
 
 import com.managersys.dto.ProductDTO;
+import com.managersys.dto.ProductListDTO;
+import com.managersys.dto.StockAdjustmentDTO;
+import com.managersys.dto.StockAdjustmentResultDTO;
 import com.managersys.exception.ResourceNotFoundException;
+import com.managersys.exception.ValidationException;
 import com.managersys.model.Product;
 import com.managersys.model.Supplier;
 import com.managersys.repository.ProductRepository;
 import com.managersys.repository.SupplierRepository;
+import com.managersys.service.InventoryService;
 import com.managersys.service.ProductService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class ProductServiceImpl implements ProductService {
 
+    // 6 bind parameters per line keeps each statement well below the JDBC parameter limit
+    private static final int STOCK_ADJUSTMENT_CHUNK_SIZE = 1000;
+
     private final ProductRepository productRepository;
     private final SupplierRepository supplierRepository;
+    private final InventoryService inventoryService;
 
-    public ProductServiceImpl(ProductRepository productRepository, SupplierRepository supplierRepository) {
+    public ProductServiceImpl(ProductRepository productRepository, SupplierRepository supplierRepository, InventoryService inventoryService) {
         this.productRepository = productRepository;
         this.supplierRepository = supplierRepository;
+        this.inventoryService = inventoryService;
     }
 
     @Override
@@ -45,6 +59,11 @@ public class ProductServiceImpl implements ProductService {
         }
         
         Product savedProduct = productRepository.save(product);
+        
+        // Initial stock goes to the default location; the total follows from product_stock
+        inventoryService.initializeStock(savedProduct.getId(), productDTO.getStockQuantity());
+        savedProduct.setStockQuantity(productDTO.getStockQuantity());
+        
         return ProductDTO.fromEntity(savedProduct);
     }
 
@@ -58,9 +77,9 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ProductDTO> getAllProducts(Pageable pageable) {
-        return productRepository.findAll(pageable)
-                .map(ProductDTO::fromEntity);
+    public Page<ProductListDTO> getAllProducts(Pageable pageable) {
+        // Supplier id and name come from the same query instead of one lazy load per row
+        return productRepository.findAllListItems(pageable);
     }
 
     @Override
@@ -96,7 +115,14 @@ public class ProductServiceImpl implements ProductService {
         existingProduct.setDescription(productDTO.getDescription());
         existingProduct.setSku(productDTO.getSku());
         existingProduct.setPrice(productDTO.getPrice());
-        existingProduct.setStockQuantity(productDTO.getStockQuantity());
+        
+        // A changed total is applied at the default location; per-location
+        // quantities are managed through the inventory endpoints
+        int stockDelta = productDTO.getStockQuantity() - existingProduct.getStockQuantity();
+        if (stockDelta != 0) {
+            inventoryService.adjustStock(id, null, stockDelta);
+            existingProduct.setStockQuantity(productDTO.getStockQuantity());
+        }
 
         // Update supplier if changed
         if (!Objects.equals(
@@ -133,14 +159,111 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional
     public void updateStock(Long productId, int quantity) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", productId));
-        
-        if (quantity < 0 && product.getStockQuantity() < Math.abs(quantity)) {
-            throw new IllegalStateException("Insufficient stock");
+        if (!productRepository.existsById(productId)) {
+            throw new ResourceNotFoundException("Product", "id", productId);
         }
         
-        product.setStockQuantity(product.getStockQuantity() + quantity);
-        productRepository.save(product);
+        inventoryService.adjustStock(productId, null, quantity);
+    }
+
+    @Override
+    @Transactional
+    public List<StockAdjustmentResultDTO> bulkAdjustStock(List<StockAdjustmentDTO> adjustments) {
+        validateStockAdjustments(adjustments);
+
+        Long defaultLocationId = inventoryService.getDefaultLocation().getId();
+        Set<Integer> duplicateLines = findDuplicateLines(adjustments, defaultLocationId);
+        List<StockAdjustmentResultDTO> results = new ArrayList<>(adjustments.size());
+        for (int from = 0; from < adjustments.size(); from += STOCK_ADJUSTMENT_CHUNK_SIZE) {
+            int to = Math.min(from + STOCK_ADJUSTMENT_CHUNK_SIZE, adjustments.size());
+            productRepository.bulkAdjustStock(adjustments.subList(from, to), from, defaultLocationId, duplicateLines)
+                    .stream()
+                    .map(this::toStockAdjustmentResult)
+                    .forEach(results::add);
+        }
+        return results;
+    }
+
+    // Helper Methods
+
+    private void validateStockAdjustments(List<StockAdjustmentDTO> adjustments) {
+        if (adjustments == null || adjustments.isEmpty()) {
+            throw new IllegalArgumentException("At least one stock adjustment is required");
+        }
+
+        Map<String, String> errors = new HashMap<>();
+        for (int i = 0; i < adjustments.size(); i++) {
+            StockAdjustmentDTO adjustment = adjustments.get(i);
+            String field = "adjustments[" + i + "]";
+            if ((adjustment.getProductId() == null) == (adjustment.getSku() == null)) {
+                errors.put(field, "Exactly one of productId or sku is required");
+            } else if ((adjustment.getDelta() == null) == (adjustment.getAbsoluteQuantity() == null)) {
+                errors.put(field, "Exactly one of delta or absoluteQuantity is required");
+            } else if (adjustment.getAbsoluteQuantity() != null && adjustment.getAbsoluteQuantity() < 0) {
+                errors.put(field, "Absolute quantity cannot be negative");
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Invalid stock adjustments", errors);
+        }
+    }
+
+    // Lines naming the same product and location anywhere in the request, by id
+    // or by sku. Chunks are applied by separate statements, so a repeat in a later
+    // chunk could not be told apart there.
+    private Set<Integer> findDuplicateLines(List<StockAdjustmentDTO> adjustments, Long defaultLocationId) {
+        List<String> skus = adjustments.stream()
+                .filter(adjustment -> adjustment.getProductId() == null)
+                .map(StockAdjustmentDTO::getSku)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<String, Long> idsBySku = new HashMap<>();
+        for (int from = 0; from < skus.size(); from += STOCK_ADJUSTMENT_CHUNK_SIZE) {
+            int to = Math.min(from + STOCK_ADJUSTMENT_CHUNK_SIZE, skus.size());
+            for (Object[] row : productRepository.findIdsBySkuIn(skus.subList(from, to))) {
+                idsBySku.put((String) row[0], (Long) row[1]);
+            }
+        }
+
+        Map<List<Long>, List<Integer>> linesByTarget = new HashMap<>();
+        for (int i = 0; i < adjustments.size(); i++) {
+            StockAdjustmentDTO adjustment = adjustments.get(i);
+            Long productId = adjustment.getProductId() != null
+                    ? adjustment.getProductId() : idsBySku.get(adjustment.getSku());
+            if (productId == null) {
+                continue; // Reported as not found
+            }
+            Long locationId = adjustment.getLocationId() != null ? adjustment.getLocationId() : defaultLocationId;
+            linesByTarget.computeIfAbsent(List.of(productId, locationId), target -> new ArrayList<>()).add(i);
+        }
+
+        return linesByTarget.values().stream()
+                .filter(lines -> lines.size() > 1)
+                .flatMap(List::stream)
+                .collect(Collectors.toSet());
+    }
+
+    private StockAdjustmentResultDTO toStockAdjustmentResult(Object[] row) {
+        int line = ((Number) row[0]).intValue();
+        Long productId = row[1] != null ? ((Number) row[1]).longValue() : null;
+        String sku = (String) row[2];
+        Long locationId = row[3] != null ? ((Number) row[3]).longValue() : null;
+        Integer previousQuantity = row[4] != null ? ((Number) row[4]).intValue() : null;
+        Integer newQuantity = row[5] != null ? ((Number) row[5]).intValue() : null;
+        boolean duplicate = (Boolean) row[6];
+
+        StockAdjustmentResultDTO.Status status;
+        if (productId == null || locationId == null) {
+            status = StockAdjustmentResultDTO.Status.NOT_FOUND;
+        } else if (duplicate) {
+            status = StockAdjustmentResultDTO.Status.DUPLICATE;
+        } else if (newQuantity == null) {
+            status = StockAdjustmentResultDTO.Status.INSUFFICIENT_STOCK;
+        } else {
+            status = StockAdjustmentResultDTO.Status.APPLIED;
+        }
+
+        return new StockAdjustmentResultDTO(line, productId, sku, locationId, previousQuantity, newQuantity, status);
     }
 }
@@ -0,0 +1,34 @@
+package com.managersys.service.impl;
+
+import com.managersys.model.Product;
+import com.managersys.model.ProductVersion;
+import com.managersys.repository.ProductVersionRepository;
+import com.managersys.service.ProductVersionService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ProductVersionServiceImpl implements ProductVersionService {
+
+    private final ProductVersionRepository productVersionRepository;
+
+    public ProductVersionServiceImpl(ProductVersionRepository productVersionRepository) {
+        this.productVersionRepository = productVersionRepository;
+    }
+
+    @Override
+    @Transactional
+    public ProductVersion currentVersion(Product product) {
+        byte[] contentHash = ProductVersion.contentHash(product.getName(), product.getDescription());
+
+        // Nearly every sale repeats content that is already stored
+        return productVersionRepository.findByProductIdAndContentHash(product.getId(), contentHash)
+                .orElseGet(() -> {
+                    productVersionRepository.insertIfAbsent(
+                            product.getId(), contentHash, product.getName(), product.getDescription());
+                    return productVersionRepository.findByProductIdAndContentHash(product.getId(), contentHash)
+                            .orElseThrow(() -> new IllegalStateException(
+                                    "Product version of product " + product.getId() + " was not stored"));
+                });
+    }
+}
@@ -0,0 +1,149 @@
+package com.managersys.service.impl;
+
+import com.managersys.dto.ReplenishmentSuggestionDTO;
+import com.managersys.dto.SupplierReplenishmentDTO;
+import com.managersys.model.ReplenishmentSuggestion;
+import com.managersys.repository.ReplenishmentSuggestionRepository;
+import com.managersys.repository.SaleOrderItemRepository;
+import com.managersys.repository.SaleOrderRepository;
+import com.managersys.service.ReplenishmentService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+
+@Service
+public class ReplenishmentServiceImpl implements ReplenishmentService {
+
+    private final SaleOrderRepository saleOrderRepository;
+    private final SaleOrderItemRepository saleOrderItemRepository;
+    private final ReplenishmentSuggestionRepository replenishmentSuggestionRepository;
+    private final int windowDays;
+    private final int coverDays;
+    private final long chunkSize;
+    private final int parallelism;
+
+    public ReplenishmentServiceImpl(SaleOrderRepository saleOrderRepository,
+                                    SaleOrderItemRepository saleOrderItemRepository,
+                                    ReplenishmentSuggestionRepository replenishmentSuggestionRepository,
+                                    @Value("${inventory.replenishment.window-days}") int windowDays,
+                                    @Value("${inventory.replenishment.lead-time-days}") int leadTimeDays,
+                                    @Value("${inventory.replenishment.target-cover-days}") int targetCoverDays,
+                                    @Value("${inventory.replenishment.chunk-size}") long chunkSize,
+                                    @Value("${inventory.replenishment.parallelism}") int parallelism) {
+        this.saleOrderRepository = saleOrderRepository;
+        this.saleOrderItemRepository = saleOrderItemRepository;
+        this.replenishmentSuggestionRepository = replenishmentSuggestionRepository;
+        this.windowDays = windowDays;
+        // An order placed today arrives after the lead time and has to last the target cover from then on
+        this.coverDays = leadTimeDays + targetCoverDays;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public int recomputeSuggestions() {
+        LocalDateTime since = LocalDateTime.now().minusDays(windowDays);
+
+        Map<Long, Long> unitsSold = new HashMap<>();
+        List<Object[]> range = saleOrderRepository.findIdRangeSince(since);
+        if (!range.isEmpty() && range.get(0)[0] != null) {
+            long firstId = ((Number) range.get(0)[0]).longValue();
+            long lastId = ((Number) range.get(0)[1]).longValue();
+
+            // Each slice is aggregated by the database; workers only merge per-product totals.
+            // Parallelism should stay below the connection pool size.
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                unitsSold = pool.invoke(new UnitsSoldTask(firstId, lastId + 1, since));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        return replenishmentSuggestionRepository.replaceSuggestions(unitsSold, windowDays, coverDays);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<SupplierReplenishmentDTO> getSuggestionsBySupplier(Pageable pageable) {
+        Page<SupplierReplenishmentDTO> suppliers = replenishmentSuggestionRepository.findSupplierTotals(pageable)
+                .map(row -> new SupplierReplenishmentDTO(
+                        row[0] != null ? ((Number) row[0]).longValue() : null,
+                        (String) row[1],
+                        ((Number) row[2]).longValue(),
+                        ((Number) row[3]).longValue()));
+
+        // Two queries for the whole page instead of one per supplier
+        List<Long> supplierIds = suppliers.getContent().stream()
+                .map(SupplierReplenishmentDTO::getSupplierId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        List<ReplenishmentSuggestion> suggestions = new ArrayList<>();
+        if (!supplierIds.isEmpty()) {
+            suggestions.addAll(replenishmentSuggestionRepository.findSuggestionsBySupplierIds(supplierIds));
+        }
+        if (supplierIds.size() < suppliers.getNumberOfElements()) {
+            suggestions.addAll(replenishmentSuggestionRepository.findUnassignedSuggestions());
+        }
+
+        Map<Long, List<ReplenishmentSuggestionDTO>> bySupplier = new HashMap<>();
+        for (ReplenishmentSuggestion suggestion : suggestions) {
+            bySupplier.computeIfAbsent(suggestion.getSupplierId(), id -> new ArrayList<>())
+                    .add(ReplenishmentSuggestionDTO.fromEntity(suggestion));
+        }
+        suppliers.forEach(supplier -> supplier.setItems(
+                bySupplier.getOrDefault(supplier.getSupplierId(), new ArrayList<>())));
+
+        return suppliers;
+    }
+
+    // Splits an order id range in halves until slices are at most chunkSize ids wide
+    private class UnitsSoldTask extends RecursiveTask<Map<Long, Long>> {
+
+        private final long fromId;
+        private final long toId;
+        private final LocalDateTime since;
+
+        private UnitsSoldTask(long fromId, long toId, LocalDateTime since) {
+            this.fromId = fromId;
+            this.toId = toId;
+            this.since = since;
+        }
+
+        @Override
+        protected Map<Long, Long> compute() {
+            if (toId - fromId <= chunkSize) {
+                Map<Long, Long> totals = new HashMap<>();
+                for (Object[] row : saleOrderItemRepository.sumSoldQuantityByProductForOrderRange(fromId, toId, since)) {
+                    totals.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+                }
+                return totals;
+            }
+
+            long middle = fromId + (toId - fromId) / 2;
+            UnitsSoldTask left = new UnitsSoldTask(fromId, middle, since);
+            left.fork();
+            Map<Long, Long> right = new UnitsSoldTask(middle, toId, since).compute();
+            return merge(left.join(), right);
+        }
+
+        private Map<Long, Long> merge(Map<Long, Long> first, Map<Long, Long> second) {
+            Map<Long, Long> larger = first.size() >= second.size() ? first : second;
+            Map<Long, Long> smaller = larger == first ? second : first;
+            smaller.forEach((productId, quantity) -> larger.merge(productId, quantity, Long::sum));
+            return larger;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.managersys.service.impl;
 
 import com.managersys.dto.SaleOrderDTO;
 import com.managersys.dto.SaleOrderItemDTO;
+import com.managersys.dto.SaleOrderListDTO;
 
 import com.managersys.exception.ResourceNotFoundException;
 import com.managersys.model.*;
@@ -10,7 +11,11 @@ import com.managersys.repository.EmployeeRepository;
 import com.managersys.repository.ProductRepository;
 import com.managersys.repository.SaleOrderItemRepository;
 import com.managersys.repository.SaleOrderRepository;
+import com.managersys.service.CustomerStatsService;
+import com.managersys.service.InventoryService;
+import com.managersys.service.ProductVersionService;
 import com.managersys.service.SaleService;
+import com.managersys.service.StockHoldService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -27,13 +32,21 @@ public class SaleServiceImpl implements SaleService {
     private final ProductRepository productRepository;
     private final CustomerRepository customerRepository;
     private final EmployeeRepository employeeRepository;
+    private final StockHoldService stockHoldService;
+    private final InventoryService inventoryService;
+    private final CustomerStatsService customerStatsService;
+    private final ProductVersionService productVersionService;
 
-    public SaleServiceImpl(SaleOrderRepository saleOrderRepository, SaleOrderItemRepository saleOrderItemRepository, ProductRepository productRepository, CustomerRepository customerRepository, EmployeeRepository employeeRepository) {
+    public SaleServiceImpl(SaleOrderRepository saleOrderRepository, SaleOrderItemRepository saleOrderItemRepository, ProductRepository productRepository, CustomerRepository customerRepository, EmployeeRepository employeeRepository, StockHoldService stockHoldService, InventoryService inventoryService, CustomerStatsService customerStatsService, ProductVersionService productVersionService) {
         this.saleOrderRepository = saleOrderRepository;
         this.saleOrderItemRepository = saleOrderItemRepository;
         this.productRepository = productRepository;
         this.customerRepository = customerRepository;
         this.employeeRepository = employeeRepository;
+        this.stockHoldService = stockHoldService;
+        this.inventoryService = inventoryService;
+        this.customerStatsService = customerStatsService;
+        this.productVersionService = productVersionService;
     }
 
     @Override
@@ -63,8 +76,12 @@ public class SaleServiceImpl implements SaleService {
         
         // Calculate and save totals
         savedOrder.calculateTotals();
+        savedOrder = saleOrderRepository.save(savedOrder);
         
-        return SaleOrderDTO.fromEntity(saleOrderRepository.save(savedOrder));
+        // Reserved stock is given back if the draft is abandoned
+        stockHoldService.placeHolds(savedOrder);
+        
+        return SaleOrderDTO.fromEntity(savedOrder);
     }
 
     @Override
@@ -82,36 +99,32 @@ public class SaleServiceImpl implements SaleService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<SaleOrderDTO> getAllSaleOrders(Pageable pageable) {
-        return saleOrderRepository.findAll(pageable)
-                .map(SaleOrderDTO::fromEntity);
+    public Page<SaleOrderListDTO> getAllSaleOrders(Pageable pageable) {
+        return saleOrderRepository.findAllListItems(pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<SaleOrderDTO> getSaleOrdersByCustomer(Long customerId, Pageable pageable) {
-        return saleOrderRepository.findByCustomerId(customerId, pageable)
-                .map(SaleOrderDTO::fromEntity);
+    public Page<SaleOrderListDTO> getSaleOrdersByCustomer(Long customerId, Pageable pageable) {
+        return saleOrderRepository.findListItemsByCustomerId(customerId, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<SaleOrderDTO> getSaleOrdersByDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable) {
+    public Page<SaleOrderListDTO> getSaleOrdersByDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable) {
         if (startDate.isAfter(endDate)) {
             throw new IllegalArgumentException("Start date must be before or equal to end date");
         }
         
-        return saleOrderRepository.findByOrderDateBetween(startDate, endDate, pageable)
-                .map(SaleOrderDTO::fromEntity);
+        return saleOrderRepository.findListItemsByOrderDateBetween(startDate, endDate, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<SaleOrderDTO> getSaleOrdersByStatus(String status, Pageable pageable) {
+    public Page<SaleOrderListDTO> getSaleOrdersByStatus(String status, Pageable pageable) {
         try {
             SaleOrder.Status statusEnum = SaleOrder.Status.valueOf(status.toUpperCase());
-            return saleOrderRepository.findByStatus(statusEnum, pageable)
-                    .map(SaleOrderDTO::fromEntity);
+            return saleOrderRepository.findListItemsByStatus(statusEnum, pageable);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Invalid status: " + status);
         }
@@ -120,12 +133,17 @@ public class SaleServiceImpl implements SaleService {
     @Override
     @Transactional
     public SaleOrderDTO updateSaleOrderStatus(Long orderId, String status) {
-        SaleOrder order = saleOrderRepository.findById(orderId)
+        SaleOrder order = saleOrderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("SaleOrder", "id", orderId));
         
         try {
             SaleOrder.Status newStatus = SaleOrder.Status.valueOf(status.toUpperCase());
 
+            // Leaving DRAFT makes the reserved stock permanent (or returns it below on cancellation)
+            if (order.getStatus() == SaleOrder.Status.DRAFT && newStatus != SaleOrder.Status.DRAFT) {
+                stockHoldService.clearHolds(order.getId());
+            }
+
             // Handle status-specific logic
             switch (newStatus) {
                 case CANCELLED:
@@ -137,6 +155,7 @@ public class SaleServiceImpl implements SaleService {
                 // Add other status transitions as needed
             }
             
+            customerStatsService.recordStatusChange(order, order.getStatus(), newStatus);
             order.setStatus(newStatus);
             SaleOrder updatedOrder = saleOrderRepository.save(order);
             return SaleOrderDTO.fromEntity(updatedOrder);
@@ -149,7 +168,7 @@ public class SaleServiceImpl implements SaleService {
     @Override
     @Transactional
     public SaleOrderDTO updateSaleOrder(Long orderId, SaleOrderDTO saleOrderDTO) {
-        SaleOrder existingOrder = saleOrderRepository.findById(orderId)
+        SaleOrder existingOrder = saleOrderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("SaleOrder", "id", orderId));
         
         // Only allow updates for DRAFT or PENDING orders
@@ -170,20 +189,28 @@ public class SaleServiceImpl implements SaleService {
         existingOrder.calculateTotals();
         
         SaleOrder updatedOrder = saleOrderRepository.save(existingOrder);
+        
+        // Edited drafts get a fresh hold for the new items
+        if (updatedOrder.getStatus() == SaleOrder.Status.DRAFT) {
+            stockHoldService.placeHolds(updatedOrder);
+        }
+        
         return SaleOrderDTO.fromEntity(updatedOrder);
     }
 
     @Override
     @Transactional
     public void cancelSaleOrder(Long orderId) {
-        SaleOrder order = saleOrderRepository.findById(orderId)
+        SaleOrder order = saleOrderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("SaleOrder", "id", orderId));
         
         if (order.getStatus() == SaleOrder.Status.CANCELLED) {
             return; // Already cancelled
         }
         
+        stockHoldService.clearHolds(order.getId());
         handleOrderCancellation(order);
+        customerStatsService.recordStatusChange(order, order.getStatus(), SaleOrder.Status.CANCELLED);
         order.setStatus(SaleOrder.Status.CANCELLED);
         saleOrderRepository.save(order);
     }
@@ -191,7 +218,7 @@ public class SaleServiceImpl implements SaleService {
     @Override
     @Transactional
     public void processPayment(Long orderId, String paymentDetails) {
-        SaleOrder order = saleOrderRepository.findById(orderId)
+        SaleOrder order = saleOrderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("SaleOrder", "id", orderId));
         
         if (order.getStatus() != SaleOrder.Status.PENDING) {
@@ -202,6 +229,7 @@ public class SaleServiceImpl implements SaleService {
         // For now, we'll just update the status
         processPayment(order);
         
+        customerStatsService.recordStatusChange(order, order.getStatus(), SaleOrder.Status.PAID);
         order.setStatus(SaleOrder.Status.PAID);
         saleOrderRepository.save(order);
     }
@@ -248,11 +276,11 @@ public class SaleServiceImpl implements SaleService {
             SaleOrderItem item = itemDTO.toEntity();
             item.setOrder(order);
             item.setProduct(product);
-            item.setProductName(product.getName());
-            item.setProductDescription(product.getDescription());
+            // Items reference the stored product text instead of copying it
+            item.setProductVersion(productVersionService.currentVersion(product));
             
-            // Reserve stock
-            product.decreaseStock(item.getQuantity());
+            // Reserve stock at the requested location, or the first one that can cover the item
+            item.setLocation(inventoryService.reserve(product.getId(), itemDTO.getLocationId(), item.getQuantity()));
             
             order.addItem(item);
         }
@@ -265,7 +293,7 @@ public class SaleServiceImpl implements SaleService {
         // First, return all items to stock
         for (SaleOrderItem item : order.getItems()) {
             if (item.getProduct() != null) {
-                item.getProduct().increaseStock(item.getQuantity());
+                releaseItemStock(item);
             }
         }
         
@@ -280,11 +308,16 @@ public class SaleServiceImpl implements SaleService {
         // Return items to stock
         for (SaleOrderItem item : order.getItems()) {
             if (item.getProduct() != null) {
-                item.getProduct().increaseStock(item.getQuantity());
+                releaseItemStock(item);
             }
         }
     }
     
+    private void releaseItemStock(SaleOrderItem item) {
+        Long locationId = item.getLocation() != null ? item.getLocation().getId() : null;
+        inventoryService.release(item.getProduct().getId(), locationId, item.getQuantity());
+    }
+    
     private void processPayment(SaleOrder order) {
         // In a real application, this would integrate with a payment gateway
         // For now, we'll just log the payment
@@ -9,6 +9,7 @@ import com.managersys.repository.EmployeeRepository;
 import com.managersys.repository.ServiceRepository;
 import com.managersys.repository.ScheduleRepository;
 import com.managersys.service.ScheduleService;
+import com.managersys.service.ServiceAnalyticsService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -31,13 +32,16 @@ public class ScheduleServiceImpl implements ScheduleService {
     private final ServiceRepository serviceRepository;
     private final EmployeeRepository employeeRepository;
     private final CustomerRepository customerRepository;
+    private final ServiceAnalyticsService serviceAnalyticsService;
 
     public ScheduleServiceImpl(ScheduleRepository scheduleRepository, ServiceRepository serviceRepository,
-                               EmployeeRepository employeeRepository, CustomerRepository customerRepository) {
+                               EmployeeRepository employeeRepository, CustomerRepository customerRepository,
+                               ServiceAnalyticsService serviceAnalyticsService) {
         this.scheduleRepository = scheduleRepository;
         this.serviceRepository = serviceRepository;
         this.employeeRepository = employeeRepository;
         this.customerRepository = customerRepository;
+        this.serviceAnalyticsService = serviceAnalyticsService;
     }
 
     @Override
@@ -386,7 +390,9 @@ public class ScheduleServiceImpl implements ScheduleService {
             throw new IllegalArgumentException("Schedule ID cannot be null");
         }
         
-        ServiceSchedule schedule = scheduleRepository.findById(scheduleId)
+        // Locked so a concurrent request waits and then fails the state check
+        // instead of counting the same schedule twice
+        ServiceSchedule schedule = scheduleRepository.findByIdForUpdate(scheduleId)
                 .orElseThrow(() -> new ResourceNotFoundException("Schedule", "id", scheduleId));
         
         if (schedule.getStatus() != ServiceSchedule.Status.IN_PROGRESS) {
@@ -395,6 +401,7 @@ public class ScheduleServiceImpl implements ScheduleService {
         
         schedule.complete(feedback, rating);
         ServiceSchedule updatedSchedule = scheduleRepository.save(schedule);
+        serviceAnalyticsService.recordCompletion(updatedSchedule);
         return ServiceScheduleDTO.fromEntity(updatedSchedule);
     }
 
@@ -415,7 +422,8 @@ public class ScheduleServiceImpl implements ScheduleService {
             throw new IllegalArgumentException("Payment reference cannot be null or empty");
         }
         
-        ServiceSchedule schedule = scheduleRepository.findById(scheduleId)
+        // Locked like in checkOut, so the payment is counted once
+        ServiceSchedule schedule = scheduleRepository.findByIdForUpdate(scheduleId)
                 .orElseThrow(() -> new ResourceNotFoundException("Schedule", "id", scheduleId));
         
         if (schedule.isPaid()) {
@@ -424,6 +432,7 @@ public class ScheduleServiceImpl implements ScheduleService {
         
         schedule.recordPayment(amount, method, reference);
         ServiceSchedule updatedSchedule = scheduleRepository.save(schedule);
+        serviceAnalyticsService.recordPayment(updatedSchedule);
         return ServiceScheduleDTO.fromEntity(updatedSchedule);
     }
 
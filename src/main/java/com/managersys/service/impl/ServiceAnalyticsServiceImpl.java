@@ -0,0 +1,75 @@
+package com.managersys.service.impl;
+
+import com.managersys.dto.ServiceStatsDTO;
+import com.managersys.model.ServiceSchedule;
+import com.managersys.repository.ServiceDailyStatsRepository;
+import com.managersys.service.ServiceAnalyticsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+public class ServiceAnalyticsServiceImpl implements ServiceAnalyticsService {
+
+    private final ServiceDailyStatsRepository serviceDailyStatsRepository;
+    private final int defaultWindowDays;
+    private final int maxResults;
+
+    public ServiceAnalyticsServiceImpl(ServiceDailyStatsRepository serviceDailyStatsRepository,
+                                       @Value("${services.analytics.default-window-days}") int defaultWindowDays,
+                                       @Value("${services.analytics.max-results}") int maxResults) {
+        this.serviceDailyStatsRepository = serviceDailyStatsRepository;
+        this.defaultWindowDays = defaultWindowDays;
+        this.maxResults = maxResults;
+    }
+
+    @Override
+    @Transactional
+    public void recordCompletion(ServiceSchedule schedule) {
+        serviceDailyStatsRepository.addCompletion(
+                schedule.getService().getId(),
+                schedule.getCheckOutTime().toLocalDate(),
+                schedule.getRating());
+    }
+
+    @Override
+    @Transactional
+    public void recordPayment(ServiceSchedule schedule) {
+        serviceDailyStatsRepository.addPayment(
+                schedule.getService().getId(),
+                schedule.getPaymentDate().toLocalDate(),
+                schedule.getPaymentAmount());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ServiceStatsDTO> getServiceStats(LocalDate from, LocalDate to,
+                                                 ServiceStatsDTO.Metric metric, Pageable pageable) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(defaultWindowDays - 1L);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("From date must not be after to date");
+        }
+
+        // Ordering is fixed by the ranking, so any requested sort is dropped
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), maxResults));
+        return serviceDailyStatsRepository.findServiceStats(start, end, metric.name(), page)
+                .map(ServiceStatsDTO::fromRow);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ServiceStatsDTO> getTopServices(LocalDate from, LocalDate to,
+                                                ServiceStatsDTO.Metric metric, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return getServiceStats(from, to, metric, PageRequest.of(0, limit)).getContent();
+    }
+}
@@ -1,12 +1,18 @@
 package com.managersys.service.impl;
 
 import com.managersys.dto.ServiceDTO;
+import com.managersys.dto.ServiceListDTO;
+import com.managersys.dto.ServiceStatsDTO;
 import com.managersys.exception.ResourceNotFoundException;
 import com.managersys.model.Service;
 import com.managersys.model.ServiceCategory;
 import com.managersys.repository.CategoryRepository;
 import com.managersys.repository.ServiceRepository;
+import com.managersys.service.ServiceAnalyticsService;
+import com.managersys.service.ServiceCatalogCaches;
+import com.managersys.service.ServicePriceIndex;
 import com.managersys.service.ServiceService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,12 +24,26 @@ import java.util.List;
 @Service
 public class ServiceServiceImpl implements ServiceService {
 
+    private static final BigDecimal MAX_PRICE = new BigDecimal("999999.99");
+
     private final ServiceRepository serviceRepository;
     private final CategoryRepository categoryRepository;
-
-    public ServiceServiceImpl(ServiceRepository serviceRepository, CategoryRepository categoryRepository) {
+    private final ServiceCatalogCaches serviceCatalogCaches;
+    private final ServicePriceIndex servicePriceIndex;
+    private final ServiceAnalyticsService serviceAnalyticsService;
+    private final int topServicesLimit;
+
+    public ServiceServiceImpl(ServiceRepository serviceRepository, CategoryRepository categoryRepository,
+                              ServiceCatalogCaches serviceCatalogCaches,
+                              ServicePriceIndex servicePriceIndex,
+                              ServiceAnalyticsService serviceAnalyticsService,
+                              @Value("${services.analytics.top-services}") int topServicesLimit) {
         this.serviceRepository = serviceRepository;
         this.categoryRepository = categoryRepository;
+        this.serviceCatalogCaches = serviceCatalogCaches;
+        this.servicePriceIndex = servicePriceIndex;
+        this.serviceAnalyticsService = serviceAnalyticsService;
+        this.topServicesLimit = topServicesLimit;
     }
 
     @Override
@@ -44,6 +64,7 @@ public class ServiceServiceImpl implements ServiceService {
         }
         
         Service savedService = serviceRepository.save(service);
+        serviceCatalogCaches.refreshAfterCommit();
         return ServiceDTO.fromEntity(savedService);
     }
 
@@ -57,37 +78,32 @@ public class ServiceServiceImpl implements ServiceService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ServiceDTO> getAllServices(Pageable pageable) {
-        return serviceRepository.findAll(pageable)
-                .map(ServiceDTO::fromEntity);
+    public Page<ServiceListDTO> getAllServices(Pageable pageable) {
+        return serviceRepository.findAllListItems(pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ServiceDTO> searchServices(String query, Pageable pageable) {
-        return serviceRepository.search(query, pageable)
-                .map(ServiceDTO::fromEntity);
+    public Page<ServiceListDTO> searchServices(String query, Pageable pageable) {
+        return serviceRepository.searchListItems(query, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ServiceDTO> getServicesByCategory(Long categoryId, Pageable pageable) {
-        return serviceRepository.findByCategoryId(categoryId, pageable)
-                .map(ServiceDTO::fromEntity);
+    public Page<ServiceListDTO> getServicesByCategory(Long categoryId, Pageable pageable) {
+        return serviceRepository.findListItemsByCategoryId(categoryId, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ServiceDTO> getAvailableForOnlineBooking(Pageable pageable) {
-        return serviceRepository.findAvailableForOnlineBooking(pageable)
-                .map(ServiceDTO::fromEntity);
+    public Page<ServiceListDTO> getAvailableForOnlineBooking(Pageable pageable) {
+        return serviceRepository.findListItemsAvailableForOnlineBooking(pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ServiceDTO> getAvailableForOnlineBookingByCategory(Long categoryId, Pageable pageable) {
-        return serviceRepository.findAvailableForOnlineBookingByCategory(categoryId, pageable)
-                .map(ServiceDTO::fromEntity);
+    public Page<ServiceListDTO> getAvailableForOnlineBookingByCategory(Long categoryId, Pageable pageable) {
+        return serviceRepository.findListItemsAvailableForOnlineBookingByCategory(categoryId, pageable);
     }
 
     @Override
@@ -128,6 +144,7 @@ public class ServiceServiceImpl implements ServiceService {
         }
         
         Service updatedService = serviceRepository.save(existingService);
+        serviceCatalogCaches.refreshAfterCommit();
         return ServiceDTO.fromEntity(updatedService);
     }
 
@@ -143,6 +160,7 @@ public class ServiceServiceImpl implements ServiceService {
         }
         
         serviceRepository.delete(service);
+        serviceCatalogCaches.refreshAfterCommit();
     }
 
     @Override
@@ -153,51 +171,66 @@ public class ServiceServiceImpl implements ServiceService {
         
         service.setActive(active);
         serviceRepository.save(service);
+        serviceCatalogCaches.refreshAfterCommit();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ServiceDTO> getServicesByEmployee(Long employeeId, Pageable pageable) {
-        return serviceRepository.findByEmployeeId(employeeId, pageable)
-                .map(ServiceDTO::fromEntity);
+    public Page<ServiceListDTO> getServicesByEmployee(Long employeeId, Pageable pageable) {
+        return serviceRepository.findListItemsByEmployeeId(employeeId, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ServiceDTO> getServicesByCustomer(Long customerId, Pageable pageable) {
-        return serviceRepository.findByCustomerId(customerId, pageable)
-                .map(ServiceDTO::fromEntity);
+    public Page<ServiceListDTO> getServicesByCustomer(Long customerId, Pageable pageable) {
+        return serviceRepository.findListItemsByCustomerId(customerId, pageable);
+    }
+
+    // Price-range lookups are served by the in-memory index and only open a
+    // transaction when it has to be (re)loaded
+    @Override
+    public Page<ServiceListDTO> getServicesByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
+        return getServicesByPriceRange(null, minPrice, maxPrice, pageable);
+    }
+
+    @Override
+    public Page<ServiceListDTO> getServicesByPriceRange(Long categoryId, BigDecimal minPrice, BigDecimal maxPrice,
+                                                        Pageable pageable) {
+        BigDecimal min = minPrice != null ? minPrice : BigDecimal.ZERO;
+        BigDecimal max = maxPrice != null ? maxPrice : MAX_PRICE;
+        validatePriceRange(min, max);
+        return servicePriceIndex.find(categoryId, min, max, pageable);
+    }
+
+    @Override
+    public long countServicesByPriceRange(Long categoryId, BigDecimal minPrice, BigDecimal maxPrice) {
+        BigDecimal min = minPrice != null ? minPrice : BigDecimal.ZERO;
+        BigDecimal max = maxPrice != null ? maxPrice : MAX_PRICE;
+        validatePriceRange(min, max);
+        return servicePriceIndex.count(categoryId, min, max);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ServiceDTO> getServicesByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
-        if (minPrice == null) {
-            minPrice = BigDecimal.ZERO;
-        }
-        
-        if (maxPrice == null) {
-            maxPrice = new BigDecimal("999999.99");
-        }
-        
-        if (minPrice.compareTo(maxPrice) > 0) {
-            throw new IllegalArgumentException("Minimum price cannot be greater than maximum price");
-        }
-        
-        return serviceRepository.findByPriceRange(minPrice, maxPrice, pageable)
-                .map(ServiceDTO::fromEntity);
+    public Page<ServiceListDTO> getServicesWithUpcomingAppointments(Pageable pageable) {
+        return serviceRepository.findListItemsWithUpcomingAppointments(pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ServiceDTO> getServicesWithUpcomingAppointments(Pageable pageable) {
-        return serviceRepository.findWithUpcomingAppointments(pageable)
-                .map(ServiceDTO::fromEntity);
+    public List<ServiceStatsDTO> getServiceUtilization(LocalDateTime startDate, LocalDateTime endDate) {
+        return getTopServices(startDate, endDate, ServiceStatsDTO.Metric.COMPLETED);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Object[]> getServiceUtilization(LocalDateTime startDate, LocalDateTime endDate) {
+    public List<ServiceStatsDTO> getServiceRevenue(LocalDateTime startDate, LocalDateTime endDate) {
+        return getTopServices(startDate, endDate, ServiceStatsDTO.Metric.REVENUE);
+    }
+
+    // Served from the daily rollup, so the range is widened to whole days
+    private List<ServiceStatsDTO> getTopServices(LocalDateTime startDate, LocalDateTime endDate,
+                                                 ServiceStatsDTO.Metric metric) {
         if (startDate == null || endDate == null) {
             throw new IllegalArgumentException("Both start date and end date are required");
         }
@@ -206,15 +239,13 @@ public class ServiceServiceImpl implements ServiceService {
             throw new IllegalArgumentException("Start date must be before or equal to end date");
         }
         
-        return serviceRepository.findMostPopularServices(startDate, endDate, Pageable.unpaged())
-                .getContent();
+        return serviceAnalyticsService.getTopServices(
+                startDate.toLocalDate(), endDate.toLocalDate(), metric, topServicesLimit);
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public List<Object[]> getServiceRevenue(LocalDateTime startDate, LocalDateTime endDate) {
-        // Implementation would depend on your revenue calculation logic
-        // This is a placeholder for the actual implementation
-        return List.of();
+    private static void validatePriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        if (minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("Minimum price cannot be greater than maximum price");
+        }
     }
 }
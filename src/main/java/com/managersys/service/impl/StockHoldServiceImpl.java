@@ -0,0 +1,108 @@
+package com.managersys.service.impl;
+
+import com.managersys.model.SaleOrder;
+import com.managersys.model.SaleOrderItem;
+import com.managersys.model.StockHold;
+import com.managersys.repository.StockHoldRepository;
+import com.managersys.service.StockHoldService;
+import com.managersys.util.TimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+@Service
+public class StockHoldServiceImpl implements StockHoldService {
+
+    private static final int WHEEL_SIZE = 64;
+
+    private final StockHoldRepository stockHoldRepository;
+    private final long holdTtlMinutes;
+
+    // Expiry deadlines of outstanding holds, keyed by order id
+    private final TimingWheel<Long> expiryWheel;
+
+    public StockHoldServiceImpl(StockHoldRepository stockHoldRepository,
+                                @Value("${inventory.holds.ttl-minutes}") long holdTtlMinutes,
+                                @Value("${inventory.holds.tick-millis}") long tickMillis) {
+        this.stockHoldRepository = stockHoldRepository;
+        this.holdTtlMinutes = holdTtlMinutes;
+        this.expiryWheel = new TimingWheel<>(tickMillis, WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    @Override
+    @Transactional
+    public void placeHolds(SaleOrder order) {
+        // Stock was already decremented for the items; holds only track when to give it back
+        stockHoldRepository.deleteByOrderId(order.getId());
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(holdTtlMinutes);
+        List<StockHold> holds = new ArrayList<>();
+        for (SaleOrderItem item : order.getItems()) {
+            holds.add(new StockHold(order, item.getProduct(), item.getLocation(), item.getQuantity(), expiresAt));
+        }
+        stockHoldRepository.saveAll(holds);
+
+        schedule(order.getId(), expiresAt);
+    }
+
+    @Override
+    @Transactional
+    public void clearHolds(Long orderId) {
+        // Leaves stock untouched: either the decrement becomes permanent (PENDING/PAID)
+        // or the caller returns it to stock itself (cancellation)
+        stockHoldRepository.deleteByOrderId(orderId);
+    }
+
+    @Override
+    public List<Long> pollExpiredOrders() {
+        List<Long> expired;
+        synchronized (expiryWheel) {
+            expired = expiryWheel.advance(System.currentTimeMillis());
+        }
+        // An order can be scheduled more than once when its items were edited
+        return new ArrayList<>(new LinkedHashSet<>(expired));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findOrdersWithExpiredHolds(int limit) {
+        return stockHoldRepository.findOrderIdsWithExpiredHolds(LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional
+    public int releaseExpiredHolds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        return stockHoldRepository.releaseExpiredHolds(orderIds, LocalDateTime.now()).size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int scheduleOutstandingHolds() {
+        List<Object[]> expirations = stockHoldRepository.findOutstandingOrderExpirations();
+        for (Object[] row : expirations) {
+            schedule((Long) row[0], (LocalDateTime) row[1]);
+        }
+        return expirations.size();
+    }
+
+    private void schedule(Long orderId, LocalDateTime expiresAt) {
+        long deadline = Timestamp.valueOf(expiresAt).getTime();
+        synchronized (expiryWheel) {
+            if (!expiryWheel.schedule(orderId, deadline)) {
+                // Already due: fire on the next tick
+                expiryWheel.schedule(orderId, System.currentTimeMillis() + 1);
+            }
+        }
+    }
+}
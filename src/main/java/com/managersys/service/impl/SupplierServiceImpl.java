@@ -7,24 +7,37 @@ import com.managersys.model.Supplier;
 import com.managersys.repository.ProductRepository;
 import com.managersys.repository.SupplierRepository;
 import com.managersys.service.SupplierService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class SupplierServiceImpl implements SupplierService {
 
+    // One bind parameter per product keeps each statement well below the JDBC parameter limit
+    private static final int PRODUCT_ID_CHUNK_SIZE = 1000;
+
     private final SupplierRepository supplierRepository;
     private final ProductRepository productRepository;
+    private final int maxProductsPerSupplier;
 
-    public SupplierServiceImpl(SupplierRepository supplierRepository, ProductRepository productRepository) {
+    public SupplierServiceImpl(SupplierRepository supplierRepository, ProductRepository productRepository,
+                               @Value("${suppliers.with-products.max-products-per-supplier}") int maxProductsPerSupplier) {
         this.supplierRepository = supplierRepository;
         this.productRepository = productRepository;
+        this.maxProductsPerSupplier = maxProductsPerSupplier;
     }
 
     @Override
@@ -101,22 +114,26 @@ public class SupplierServiceImpl implements SupplierService {
 
         // Handle products if changed
         if (supplierDTO.getProductIds() != null) {
-            // Remove all current products
-            existingSupplier.getProducts().forEach(product -> 
-                product.setSupplier(null));
-            existingSupplier.getProducts().clear();
-            
-            // Add new products
-            if (!supplierDTO.getProductIds().isEmpty()) {
-                List<Product> products = productRepository.findAllById(supplierDTO.getProductIds());
-                
-                // Check if all products were found
-                if (products.size() != supplierDTO.getProductIds().size()) {
-                    throw new ResourceNotFoundException("One or more products not found");
-                }
-                
-                products.forEach(existingSupplier::addProduct);
+            List<Long> productIds = supplierDTO.getProductIds().stream().distinct().collect(Collectors.toList());
+            // Counted in the same chunks as the writes below, within the driver's bind limit
+            long found = 0;
+            for (int from = 0; from < productIds.size(); from += PRODUCT_ID_CHUNK_SIZE) {
+                found += productRepository.countByIdIn(
+                        productIds.subList(from, Math.min(from + PRODUCT_ID_CHUNK_SIZE, productIds.size())));
+            }
+            if (found != productIds.size()) {
+                throw new ResourceNotFoundException("One or more products not found");
+            }
+
+            // Set-based instead of loading and dirtying every product; flushes the
+            // field changes above first and leaves the persistence context empty
+            productRepository.detachFromSupplier(id);
+            for (int from = 0; from < productIds.size(); from += PRODUCT_ID_CHUNK_SIZE) {
+                productRepository.attachToSupplier(id,
+                        productIds.subList(from, Math.min(from + PRODUCT_ID_CHUNK_SIZE, productIds.size())));
             }
+            return SupplierDTO.fromEntity(supplierRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Supplier", "id", id)));
         }
 
         Supplier updatedSupplier = supplierRepository.save(existingSupplier);
@@ -126,22 +143,60 @@ public class SupplierServiceImpl implements SupplierService {
     @Override
     @Transactional
     public void deleteSupplier(Long id) {
-        Supplier supplier = supplierRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Supplier", "id", id));
-        
-        // Remove supplier reference from all products
-        supplier.getProducts().forEach(product -> product.setSupplier(null));
-        supplier.getProducts().clear();
+        if (!supplierRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Supplier", "id", id);
+        }
         
-        supplierRepository.delete(supplier);
+        // Detach products in one statement first: Supplier.products cascades removal,
+        // so deleting a supplier with its products loaded would delete them too
+        productRepository.detachFromSupplier(id);
+        supplierRepository.deleteById(id);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<SupplierDTO> getSuppliersWithProducts() {
-        return supplierRepository.findAll().stream()
-                .filter(supplier -> !supplier.getProducts().isEmpty())
+        return supplierRepository.findAllWithProducts().stream()
                 .map(SupplierDTO::fromEntity)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<SupplierDTO> getSuppliersWithProducts(Pageable pageable) {
+        // Ordering is fixed by id, so any requested sort is dropped
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Page<Long> ids = supplierRepository.findIdsWithProducts(page);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), page, ids.getTotalElements());
+        }
+
+        // Bounded per supplier as well as per page: each carries at most
+        // maxProductsPerSupplier product ids (lowest first) and its full count
+        Map<Long, Supplier> suppliers = supplierRepository.findAllById(ids.getContent()).stream()
+                .collect(Collectors.toMap(Supplier::getId, Function.identity()));
+        Map<Long, List<Long>> productIds = new HashMap<>();
+        for (Object[] row : productRepository.findFirstProductIdsBySupplierIds(ids.getContent(), maxProductsPerSupplier)) {
+            productIds.computeIfAbsent(((Number) row[0]).longValue(), id -> new ArrayList<>())
+                    .add(((Number) row[1]).longValue());
+        }
+        Map<Long, Long> productCounts = new HashMap<>();
+        for (Object[] row : productRepository.countBySupplierIds(ids.getContent())) {
+            productCounts.put((Long) row[0], (Long) row[1]);
+        }
+
+        // Keep the order of the id page; suppliers deleted in between are dropped
+        List<SupplierDTO> content = ids.getContent().stream()
+                .map(suppliers::get)
+                .filter(Objects::nonNull)
+                .map(supplier -> {
+                    SupplierDTO dto = new SupplierDTO(supplier.getId(), supplier.getName(),
+                            supplier.getContactPerson(), supplier.getEmail(), supplier.getPhone(),
+                            supplier.getAddress(), productIds.getOrDefault(supplier.getId(), List.of()));
+                    dto.setProductCount(productCounts.getOrDefault(supplier.getId(), 0L));
+                    return dto;
+                })
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, page, ids.getTotalElements());
+    }
 }
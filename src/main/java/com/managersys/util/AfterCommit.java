@@ -0,0 +1,39 @@
+package com.managersys.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers an action until the surrounding transaction commits, so in-memory
+ * caches and other nodes never see a write that is rolled back. With no
+ * transaction active the action runs immediately.
+ *
+ * An action that fails after the commit is logged and swallowed: the write
+ * has succeeded and the caller must not see an error for it.
+ */
+public final class AfterCommit {
+
+    private static final Logger log = LoggerFactory.getLogger(AfterCommit.class);
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    try {
+                        action.run();
+                    } catch (RuntimeException e) {
+                        log.error("After-commit action failed", e);
+                    }
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
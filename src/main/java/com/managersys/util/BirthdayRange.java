@@ -0,0 +1,86 @@
+package com.managersys.util;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * A span of calendar days expressed on the year-agnostic birthday key
+ * (month * 100 + day) stored in customers.birthday_key.
+ *
+ * Spans that wrap around the new year become two ranges, [fromKey, 1231]
+ * and [101, toKey]; other spans use the first range only and leave the
+ * second one empty. Customers born on February 29 fall on February 28
+ * in non-leap years.
+ */
+public final class BirthdayRange {
+
+    private static final int FIRST_KEY = 101;
+    private static final int LAST_KEY = 1231;
+    private static final int FEB_28 = 228;
+    private static final int FEB_29 = 229;
+
+    private final int fromKey;
+    private final int toKey;
+    private final int wrappedFromKey;
+    private final int wrappedToKey;
+
+    private BirthdayRange(int fromKey, int toKey, int wrappedFromKey, int wrappedToKey) {
+        this.fromKey = fromKey;
+        this.toKey = toKey;
+        this.wrappedFromKey = wrappedFromKey;
+        this.wrappedToKey = wrappedToKey;
+    }
+
+    public static BirthdayRange of(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must be before or equal to end date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= 365) {
+            return new BirthdayRange(FIRST_KEY, LAST_KEY, 1, 0);
+        }
+
+        int from = keyOf(startDate);
+        int to = keyOf(endDate);
+        if (to == FEB_28 && !endDate.isLeapYear()) {
+            to = FEB_29;
+        }
+        if (from <= to) {
+            return new BirthdayRange(from, to, 1, 0);
+        }
+        return new BirthdayRange(from, LAST_KEY, FIRST_KEY, to);
+    }
+
+    public static BirthdayRange onDay(LocalDate day) {
+        return of(day, day);
+    }
+
+    public static int keyOf(LocalDate date) {
+        return date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    public int getFromKey() {
+        return fromKey;
+    }
+
+    public int getToKey() {
+        return toKey;
+    }
+
+    public int getWrappedFromKey() {
+        return wrappedFromKey;
+    }
+
+    public int getWrappedToKey() {
+        return wrappedToKey;
+    }
+
+    @Override
+    public String toString() {
+        return "BirthdayRange{" +
+               "fromKey=" + fromKey +
+               ", toKey=" + toKey +
+               ", wrappedFromKey=" + wrappedFromKey +
+               ", wrappedToKey=" + wrappedToKey +
+               '}';
+    }
+}
@@ -0,0 +1,136 @@
+package com.managersys.util;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * MinHash signatures with banded locality-sensitive hashing.
+ *
+ * A signature holds bands * rowsPerBand minimum hash values of a shingle set;
+ * the probability that two sets share a band key grows steeply with their
+ * Jaccard similarity, crossing 50% near (1/bands)^(1/rowsPerBand). Sets that
+ * share at least one band key are candidate pairs; callers confirm them with
+ * an exact comparison.
+ */
+public class MinHash {
+
+    private final int bands;
+    private final int rowsPerBand;
+    private final long[] seeds;
+
+    public MinHash(int bands, int rowsPerBand, long seed) {
+        if (bands <= 0 || rowsPerBand <= 0) {
+            throw new IllegalArgumentException("Bands and rows per band must be positive");
+        }
+        this.bands = bands;
+        this.rowsPerBand = rowsPerBand;
+        this.seeds = new long[bands * rowsPerBand];
+        long state = seed;
+        for (int i = 0; i < seeds.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            seeds[i] = mix(state);
+        }
+    }
+
+    public int getBands() {
+        return bands;
+    }
+
+    /**
+     * Returns the band keys of a shingle set, or null for an empty set
+     * (which would otherwise collide with every other empty set).
+     */
+    public int[] bandKeys(Collection<String> shingles) {
+        if (shingles.isEmpty()) {
+            return null;
+        }
+        int[] minimums = new int[seeds.length];
+        Arrays.fill(minimums, Integer.MAX_VALUE);
+        for (String shingle : shingles) {
+            long hash = hash(shingle);
+            for (int i = 0; i < seeds.length; i++) {
+                // One cheap mix per function keeps them independent enough for MinHash
+                int value = (int) (mix(hash ^ seeds[i]) >>> 33);
+                if (value < minimums[i]) {
+                    minimums[i] = value;
+                }
+            }
+        }
+
+        int[] keys = new int[bands];
+        for (int band = 0; band < bands; band++) {
+            long key = band;
+            for (int row = 0; row < rowsPerBand; row++) {
+                key = key * 31 + minimums[band * rowsPerBand + row];
+            }
+            keys[band] = (int) mix(key);
+        }
+        return keys;
+    }
+
+    /**
+     * Character shingles of the text after lower-casing, dropping accents and
+     * collapsing everything but letters and digits into single spaces. Each
+     * shingle is prefixed with the given tag so different fields never match.
+     */
+    public static Set<String> shingles(String tag, String text, int size) {
+        Set<String> shingles = new HashSet<>();
+        if (text == null) {
+            return shingles;
+        }
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return shingles;
+        }
+        if (normalized.length() <= size) {
+            shingles.add(tag + normalized);
+            return shingles;
+        }
+        for (int i = 0; i + size <= normalized.length(); i++) {
+            shingles.add(tag + normalized.substring(i, i + size));
+        }
+        return shingles;
+    }
+
+    public static double jaccard(Set<String> first, Set<String> second) {
+        if (first.isEmpty() && second.isEmpty()) {
+            return 0;
+        }
+        Set<String> smaller = first.size() <= second.size() ? first : second;
+        Set<String> larger = smaller == first ? second : first;
+        int shared = 0;
+        for (String shingle : smaller) {
+            if (larger.contains(shingle)) {
+                shared++;
+            }
+        }
+        return (double) shared / (first.size() + second.size() - shared);
+    }
+
+    private static String normalize(String text) {
+        String stripped = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return stripped.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", " ").trim();
+    }
+
+    // FNV-1a over the UTF-8 bytes
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
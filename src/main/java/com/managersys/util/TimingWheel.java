@@ -0,0 +1,156 @@
+package com.managersys.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel driven by {@link #advance(long)}.
+ *
+ * Scheduling is O(1): an entry lands in the finest level whose span covers its
+ * deadline. When the clock reaches a bucket of a coarser level, the bucket is
+ * cascaded into the finer levels, so each entry is touched at most once per level.
+ * Entries fire on the first tick at or after their deadline and cannot be
+ * cancelled; callers re-check whatever the entry refers to when it fires.
+ *
+ * Not thread-safe on its own; callers synchronize access.
+ */
+public class TimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<Level> levels = new ArrayList<>();
+    private int size;
+
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("Tick must be positive and wheel size greater than 1");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.levels.add(new Level(tickMs, startMs - (startMs % tickMs)));
+    }
+
+    /**
+     * Schedules an item. Returns false when the deadline has already passed;
+     * such items are not stored and should be handled by the caller right away.
+     */
+    public boolean schedule(T item, long deadlineMs) {
+        // Round up to the root tick so entries never fire before their deadline
+        long fireAt = ((deadlineMs + tickMs - 1) / tickMs) * tickMs;
+        if (fireAt <= root().currentTime) {
+            return false;
+        }
+        place(new Entry<>(item, fireAt));
+        size++;
+        return true;
+    }
+
+    /**
+     * Moves the clock forward to the given time and returns every item whose deadline was reached.
+     */
+    public List<T> advance(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        Level root = root();
+        while (root.currentTime + tickMs <= nowMs) {
+            long time = root.currentTime + tickMs;
+
+            // Move every level's clock first so cascaded entries are placed relative to the new time
+            boolean[] crossed = new boolean[levels.size()];
+            for (int i = 0; i < levels.size(); i++) {
+                Level level = levels.get(i);
+                long levelTime = time - (time % level.tickMs);
+                crossed[i] = levelTime != level.currentTime;
+                level.currentTime = levelTime;
+            }
+
+            // Cascade coarse buckets from the outermost level inwards
+            for (int i = levels.size() - 1; i > 0; i--) {
+                if (crossed[i]) {
+                    for (Entry<T> entry : levels.get(i).drain()) {
+                        if (entry.fireAt <= time) {
+                            expired.add(entry.item);
+                            size--;
+                        } else {
+                            place(entry);
+                        }
+                    }
+                }
+            }
+
+            List<Entry<T>> due = root.drain();
+            for (Entry<T> entry : due) {
+                expired.add(entry.item);
+            }
+            size -= due.size();
+        }
+        return expired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void place(Entry<T> entry) {
+        int index = 0;
+        while (true) {
+            if (index == levels.size()) {
+                Level outer = levels.get(index - 1);
+                long levelTick = outer.tickMs * wheelSize;
+                long time = root().currentTime;
+                levels.add(new Level(levelTick, time - (time % levelTick)));
+            }
+            Level level = levels.get(index);
+            if (entry.fireAt < level.currentTime + level.tickMs * wheelSize) {
+                level.add(entry);
+                return;
+            }
+            index++;
+        }
+    }
+
+    private Level root() {
+        return levels.get(0);
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private final long fireAt;
+
+        private Entry(T item, long fireAt) {
+            this.item = item;
+            this.fireAt = fireAt;
+        }
+    }
+
+    private final class Level {
+        private final long tickMs;
+        private final List<List<Entry<T>>> buckets;
+        private long currentTime;
+
+        private Level(long tickMs, long currentTime) {
+            this.tickMs = tickMs;
+            this.currentTime = currentTime;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(null);
+            }
+        }
+
+        private void add(Entry<T> entry) {
+            int index = (int) ((entry.fireAt / tickMs) % wheelSize);
+            List<Entry<T>> bucket = buckets.get(index);
+            if (bucket == null) {
+                bucket = new ArrayList<>();
+                buckets.set(index, bucket);
+            }
+            bucket.add(entry);
+        }
+
+        private List<Entry<T>> drain() {
+            int index = (int) ((currentTime / tickMs) % wheelSize);
+            List<Entry<T>> bucket = buckets.get(index);
+            buckets.set(index, null);
+            return bucket != null ? bucket : List.of();
+        }
+    }
+}
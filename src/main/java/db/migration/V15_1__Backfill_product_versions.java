@@ -0,0 +1,65 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Points existing order items at the product versions created by V15, one id
+ * range per transaction, so the largest table is never locked or rewritten in
+ * one go. Runs outside Flyway's migration transaction and only touches items
+ * that are still unset, so it can be resumed after a failure.
+ */
+public class V15_1__Backfill_product_versions extends BaseJavaMigration {
+
+    private static final long BATCH_SIZE = 10_000;
+
+    // Same hash as ProductVersion.contentHash and the V15 insert
+    private static final String UPDATE_SQL =
+            "UPDATE sale_order_items soi " +
+            "SET product_version_id = pv.id " +
+            "FROM products p, product_versions pv " +
+            "WHERE soi.id >= ? AND soi.id < ? AND soi.product_version_id IS NULL " +
+            "  AND p.id = soi.product_id " +
+            "  AND pv.product_id = soi.product_id " +
+            "  AND pv.content_hash = sha256(convert_to(COALESCE(soi.product_name, p.name) || chr(31) || " +
+            "          CASE WHEN soi.product_description IS NULL THEN '0' ELSE '1' || soi.product_description END, " +
+            "          'UTF8'))";
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        long minId;
+        long maxId;
+        try (Statement statement = connection.createStatement();
+             ResultSet bounds = statement.executeQuery("SELECT MIN(id), MAX(id) FROM sale_order_items")) {
+            bounds.next();
+            minId = bounds.getLong(1);
+            maxId = bounds.getLong(2);
+            if (bounds.wasNull()) {
+                return;
+            }
+        }
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(true);
+        try (PreparedStatement update = connection.prepareStatement(UPDATE_SQL)) {
+            for (long from = minId; from <= maxId; from += BATCH_SIZE) {
+                update.setLong(1, from);
+                update.setLong(2, from + BATCH_SIZE);
+                update.executeUpdate();
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+-- Create merge_candidates table (likely duplicate customer pairs awaiting review).
+-- No foreign keys: resolved rows are kept as a record after a customer is merged away.
+CREATE TABLE IF NOT EXISTS merge_candidates (
+    id BIGSERIAL PRIMARY KEY,
+    customer_id BIGINT NOT NULL,
+    duplicate_id BIGINT NOT NULL,
+    score DECIMAL(5, 4) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    detected_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    resolved_at TIMESTAMP WITH TIME ZONE,
+    -- Each pair is stored once, lower id first
+    CHECK (customer_id < duplicate_id),
+    UNIQUE (customer_id, duplicate_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_merge_candidates_pending ON merge_candidates (score DESC, id)
+    WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_merge_candidates_duplicate_id ON merge_candidates (duplicate_id);
@@ -0,0 +1,2 @@
+-- Supplier product reassignment detaches products by supplier_id in one statement
+CREATE INDEX IF NOT EXISTS idx_products_supplier_id ON products (supplier_id);
@@ -0,0 +1,49 @@
+-- Create supplier_daily_sales table (sales and stockouts per supplier and day,
+-- recomputed only for the days whose orders or stock changed since the last refresh)
+CREATE TABLE IF NOT EXISTS supplier_daily_sales (
+    supplier_id BIGINT NOT NULL,
+    sales_date DATE NOT NULL,
+    revenue DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    units_sold BIGINT NOT NULL DEFAULT 0,
+    order_count INTEGER NOT NULL DEFAULT 0,
+    stockout_count INTEGER NOT NULL DEFAULT 0,
+    refreshed_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (supplier_id, sales_date),
+    FOREIGN KEY (supplier_id) REFERENCES suppliers(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_supplier_daily_sales_date ON supplier_daily_sales (sales_date, supplier_id);
+
+-- Create product_stockouts table (one row each time a product runs out at a location)
+CREATE TABLE IF NOT EXISTS product_stockouts (
+    id BIGSERIAL PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    location_id BIGINT NOT NULL,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (product_id) REFERENCES products(id) ON DELETE CASCADE,
+    FOREIGN KEY (location_id) REFERENCES stock_locations(id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_stockouts_occurred_at ON product_stockouts (occurred_at);
+
+CREATE OR REPLACE FUNCTION record_product_stockout() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO product_stockouts (product_id, location_id) VALUES (NEW.product_id, NEW.location_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_product_stockout ON product_stock;
+CREATE TRIGGER trg_product_stockout
+AFTER UPDATE OF quantity ON product_stock
+FOR EACH ROW WHEN (NEW.quantity = 0 AND OLD.quantity > 0)
+EXECUTE FUNCTION record_product_stockout();
+
+-- Orders changed since the last refresh mark the days to recompute
+CREATE INDEX IF NOT EXISTS idx_sale_orders_updated_at ON sale_orders (updated_at);
+
+-- Create aggregate_refreshes table (how far each incrementally refreshed aggregate is up to date)
+CREATE TABLE IF NOT EXISTS aggregate_refreshes (
+    name VARCHAR(50) PRIMARY KEY,
+    refreshed_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,48 @@
+-- Service categories (adjacency list) and the columns services need to reference them
+CREATE TABLE IF NOT EXISTS service_categories (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    description TEXT,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    display_order INTEGER,
+    color VARCHAR(7),
+    icon VARCHAR(50),
+    parent_category_id BIGINT,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    created_by BIGINT,
+    updated_by BIGINT,
+    FOREIGN KEY (parent_category_id) REFERENCES service_categories(id),
+    FOREIGN KEY (created_by) REFERENCES employees(id),
+    FOREIGN KEY (updated_by) REFERENCES employees(id)
+);
+
+ALTER TABLE services ADD COLUMN IF NOT EXISTS category_id BIGINT REFERENCES service_categories(id);
+ALTER TABLE services ADD COLUMN IF NOT EXISTS is_active BOOLEAN NOT NULL DEFAULT TRUE;
+
+CREATE INDEX IF NOT EXISTS idx_services_category_id ON services (category_id);
+
+-- Create service_category_closure table (one row per ancestor/descendant pair,
+-- including each category with itself at depth 0), maintained by CategoryService
+CREATE TABLE IF NOT EXISTS service_category_closure (
+    ancestor_id BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth INTEGER NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    FOREIGN KEY (ancestor_id) REFERENCES service_categories(id) ON DELETE CASCADE,
+    FOREIGN KEY (descendant_id) REFERENCES service_categories(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_service_category_closure_descendant
+    ON service_category_closure (descendant_id, depth);
+
+INSERT INTO service_category_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE paths (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM service_categories
+    UNION ALL
+    SELECT p.ancestor_id, c.id, p.depth + 1
+    FROM paths p
+    JOIN service_categories c ON c.parent_category_id = p.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth FROM paths
+ON CONFLICT (ancestor_id, descendant_id) DO NOTHING;
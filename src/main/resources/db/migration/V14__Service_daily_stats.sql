@@ -0,0 +1,40 @@
+-- Columns the schedule entity records on check-out and payment
+ALTER TABLE service_schedules ADD COLUMN IF NOT EXISTS check_out_time TIMESTAMP;
+ALTER TABLE service_schedules ADD COLUMN IF NOT EXISTS rating INTEGER;
+ALTER TABLE service_schedules ADD COLUMN IF NOT EXISTS is_paid BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE service_schedules ADD COLUMN IF NOT EXISTS payment_amount DECIMAL(10, 2);
+ALTER TABLE service_schedules ADD COLUMN IF NOT EXISTS payment_date TIMESTAMP;
+
+-- Create service_daily_stats table (completed appointments, ratings and payments
+-- per service and day, incremented by ScheduleService on check-out and payment)
+CREATE TABLE IF NOT EXISTS service_daily_stats (
+    service_id BIGINT NOT NULL,
+    stats_date DATE NOT NULL,
+    completed_count INTEGER NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    rating_count INTEGER NOT NULL DEFAULT 0,
+    paid_count INTEGER NOT NULL DEFAULT 0,
+    revenue DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (service_id, stats_date),
+    FOREIGN KEY (service_id) REFERENCES services(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_service_daily_stats_date ON service_daily_stats (stats_date, service_id);
+
+-- Backfill from the schedules checked out or paid so far
+INSERT INTO service_daily_stats (service_id, stats_date, completed_count, rating_sum, rating_count, paid_count, revenue)
+SELECT service_id, stats_date, SUM(completed_count), SUM(rating_sum), SUM(rating_count), SUM(paid_count), SUM(revenue)
+FROM (
+    SELECT service_id, CAST(check_out_time AS DATE) AS stats_date, 1 AS completed_count,
+           COALESCE(rating, 0) AS rating_sum, CASE WHEN rating IS NULL THEN 0 ELSE 1 END AS rating_count,
+           0 AS paid_count, 0 AS revenue
+    FROM service_schedules
+    WHERE status = 'COMPLETED' AND check_out_time IS NOT NULL
+    UNION ALL
+    SELECT service_id, CAST(payment_date AS DATE), 0, 0, 0, 1, COALESCE(payment_amount, 0)
+    FROM service_schedules
+    WHERE is_paid AND payment_date IS NOT NULL
+) events
+GROUP BY service_id, stats_date
+ON CONFLICT (service_id, stats_date) DO NOTHING;
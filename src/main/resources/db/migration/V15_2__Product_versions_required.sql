@@ -0,0 +1,9 @@
+-- Every item references its version now (backfilled by V15_1)
+ALTER TABLE sale_order_items ALTER COLUMN product_version_id SET NOT NULL;
+
+-- Postgres only marks dropped columns as gone: rows written before this keep
+-- their old width until the table is rewritten. That cannot run inside a
+-- migration; reclaim the space in a maintenance window with
+-- VACUUM FULL sale_order_items (exclusive lock) or pg_repack (online).
+ALTER TABLE sale_order_items DROP COLUMN product_name;
+ALTER TABLE sale_order_items DROP COLUMN product_description;
@@ -0,0 +1,34 @@
+-- Create product_versions table (immutable name/description snapshots of a product,
+-- stored once per distinct content and referenced by the order items sold with it)
+CREATE TABLE IF NOT EXISTS product_versions (
+    id BIGSERIAL PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    content_hash BYTEA NOT NULL,
+    name VARCHAR(200) NOT NULL,
+    description TEXT,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (product_id, content_hash),
+    FOREIGN KEY (product_id) REFERENCES products(id)
+);
+
+-- Items copied the product text so far; older schemas may not have the columns yet
+ALTER TABLE sale_order_items ADD COLUMN IF NOT EXISTS product_name VARCHAR(200);
+ALTER TABLE sale_order_items ADD COLUMN IF NOT EXISTS product_description VARCHAR(1000);
+ALTER TABLE sale_order_items ADD COLUMN IF NOT EXISTS product_version_id BIGINT REFERENCES product_versions(id);
+
+-- Same hash as ProductVersion.contentHash: SHA-256 over the UTF-8 bytes of
+-- name, a unit separator, then '0' for no description or '1' followed by it
+INSERT INTO product_versions (product_id, content_hash, name, description)
+SELECT DISTINCT ON (v.product_id, v.content_hash) v.product_id, v.content_hash, v.name, v.description
+FROM (
+    SELECT soi.product_id, COALESCE(soi.product_name, p.name) AS name, soi.product_description AS description,
+           sha256(convert_to(COALESCE(soi.product_name, p.name) || chr(31) ||
+                  CASE WHEN soi.product_description IS NULL THEN '0' ELSE '1' || soi.product_description END,
+                  'UTF8')) AS content_hash
+    FROM sale_order_items soi
+    JOIN products p ON p.id = soi.product_id
+) v
+ON CONFLICT (product_id, content_hash) DO NOTHING;
+
+-- Items are pointed at their versions in batches by V15_1, then V15_2 makes
+-- the reference mandatory and drops the copied columns
@@ -0,0 +1,7 @@
+-- Price-range lookups only ever consider active services; the in-memory index
+-- (ServicePriceIndex) is loaded in (price, id) order from the first index
+CREATE INDEX IF NOT EXISTS idx_services_active_price
+    ON services (price, id) WHERE is_active = true;
+
+CREATE INDEX IF NOT EXISTS idx_services_active_category_price
+    ON services (category_id, price, id) WHERE is_active = true;
@@ -0,0 +1,4 @@
+-- Access tokens carry the employee's token version; bumping it revokes every
+-- token issued before. Versions of all employees are held in memory
+-- (TokenVersionRegistry), so requests are authenticated without a lookup
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS token_version INTEGER NOT NULL DEFAULT 0;
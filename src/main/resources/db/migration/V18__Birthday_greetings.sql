@@ -0,0 +1,9 @@
+-- One row per customer and year once their birthday greeting is queued. The
+-- campaign claims rows here before sending, so when every node runs the job
+-- (or it is run twice) each customer is still greeted once.
+CREATE TABLE IF NOT EXISTS birthday_greetings (
+    customer_id BIGINT NOT NULL REFERENCES customers(id) ON DELETE CASCADE,
+    greeting_year SMALLINT NOT NULL,
+    queued_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (customer_id, greeting_year)
+);
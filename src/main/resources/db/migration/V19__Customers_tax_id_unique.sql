@@ -0,0 +1,36 @@
+-- Tax IDs are unique by their digits, so "123.456.789-09" and "12345678909"
+-- are the same customer. Without this only the email was guarded and bulk
+-- imports (INSERT ... ON CONFLICT DO NOTHING) could store a tax ID twice.
+
+-- Create customer_tax_id_duplicates table (tax IDs taken off customers that
+-- shared them with an older one, so the unique index below can be built).
+-- Each such pair is also queued in merge_candidates for the merge review.
+-- No foreign keys: rows are kept as a record after a customer is merged away.
+CREATE TABLE IF NOT EXISTS customer_tax_id_duplicates (
+    customer_id BIGINT PRIMARY KEY,
+    kept_customer_id BIGINT NOT NULL,
+    tax_id VARCHAR(20) NOT NULL,
+    cleared_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- The lowest id in each group keeps the tax ID
+INSERT INTO customer_tax_id_duplicates (customer_id, kept_customer_id, tax_id)
+SELECT d.id, d.kept_id, d.tax_id
+FROM (
+    SELECT c.id, c.tax_id, MIN(c.id) OVER (PARTITION BY c.tax_id_digits) AS kept_id
+    FROM customers c
+    WHERE c.tax_id_digits IS NOT NULL
+) d
+WHERE d.id <> d.kept_id
+ON CONFLICT (customer_id) DO NOTHING;
+
+INSERT INTO merge_candidates (customer_id, duplicate_id, score)
+SELECT d.kept_customer_id, d.customer_id, 1
+FROM customer_tax_id_duplicates d
+ON CONFLICT (customer_id, duplicate_id) DO NOTHING;
+
+UPDATE customers c SET tax_id = NULL
+FROM customer_tax_id_duplicates d
+WHERE d.customer_id = c.id AND c.tax_id IS NOT NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_customers_tax_id_digits ON customers (tax_id_digits);
@@ -0,0 +1,7 @@
+-- The text_pattern_ops index from V5 serves LIKE 'abc%' but not ORDER BY
+-- LOWER(name) under the database collation, so the typeahead sorted every
+-- prefix match before its LIMIT. Under the "C" collation one plain btree
+-- serves both the prefix range and the order, and the scan stops at the limit.
+CREATE INDEX IF NOT EXISTS idx_customers_name_prefix_c ON customers ((LOWER(name) COLLATE "C"));
+
+DROP INDEX IF EXISTS idx_customers_name_prefix;
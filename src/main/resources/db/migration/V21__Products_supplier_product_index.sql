@@ -0,0 +1,6 @@
+-- The paged supplier listing reads the first product ids of each supplier;
+-- (supplier_id, id) serves that without sorting and still serves the
+-- supplier_id lookups the V11 index was added for
+CREATE INDEX IF NOT EXISTS idx_products_supplier_product ON products (supplier_id, id);
+
+DROP INDEX IF EXISTS idx_products_supplier_id;
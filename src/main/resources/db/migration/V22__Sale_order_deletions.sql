@@ -0,0 +1,23 @@
+-- Create sale_order_deletions table (the day of each deleted order, so the
+-- incremental scorecard refresh recomputes it; a deleted order leaves no
+-- updated_at behind)
+CREATE TABLE IF NOT EXISTS sale_order_deletions (
+    id BIGSERIAL PRIMARY KEY,
+    order_date TIMESTAMP WITH TIME ZONE NOT NULL,
+    deleted_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_sale_order_deletions_deleted_at ON sale_order_deletions (deleted_at);
+
+CREATE OR REPLACE FUNCTION record_sale_order_deletion() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO sale_order_deletions (order_date) VALUES (OLD.order_date);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_sale_order_deletion ON sale_orders;
+CREATE TRIGGER trg_sale_order_deletion
+AFTER DELETE ON sale_orders
+FOR EACH ROW
+EXECUTE FUNCTION record_sale_order_deletion();
@@ -0,0 +1,13 @@
+-- Keyset pages of the customer timeline, newest first: each seek reads the
+-- next rows in index order instead of sorting all of a customer's rows.
+-- The leading customer_id also serves the lookups the V8 indexes were for.
+CREATE INDEX IF NOT EXISTS idx_service_schedules_customer_start
+    ON service_schedules (customer_id, start_date_time DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_service_schedules_customer_cancelled
+    ON service_schedules (customer_id, cancelled_at DESC, id DESC)
+    WHERE cancelled_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_sale_orders_customer_date_id
+    ON sale_orders (customer_id, order_date DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_service_schedules_customer_id;
+DROP INDEX IF EXISTS idx_sale_orders_customer_date;
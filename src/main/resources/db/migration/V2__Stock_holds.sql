@@ -0,0 +1,14 @@
+-- Create stock_holds table (TTL reservations for DRAFT orders)
+CREATE TABLE IF NOT EXISTS stock_holds (
+    id BIGSERIAL PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity INTEGER NOT NULL CHECK (quantity > 0),
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (order_id) REFERENCES sale_orders(id) ON DELETE CASCADE,
+    FOREIGN KEY (product_id) REFERENCES products(id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_stock_holds_order_id ON stock_holds(order_id);
+CREATE INDEX IF NOT EXISTS idx_stock_holds_expires_at ON stock_holds(expires_at);
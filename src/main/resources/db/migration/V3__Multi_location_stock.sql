@@ -0,0 +1,73 @@
+-- Create stock_locations table (warehouses and stores)
+CREATE TABLE IF NOT EXISTS stock_locations (
+    id BIGSERIAL PRIMARY KEY,
+    code VARCHAR(20) UNIQUE NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    -- Lower values are picked first when an order does not name a location
+    priority INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    created_by BIGINT,
+    updated_by BIGINT,
+    FOREIGN KEY (created_by) REFERENCES employees(id),
+    FOREIGN KEY (updated_by) REFERENCES employees(id)
+);
+
+INSERT INTO stock_locations (code, name, type, priority)
+VALUES ('MAIN', 'Main warehouse', 'WAREHOUSE', 0)
+ON CONFLICT (code) DO NOTHING;
+
+-- Create product_stock table (one row per product and location, zero rows included)
+CREATE TABLE IF NOT EXISTS product_stock (
+    product_id BIGINT NOT NULL,
+    location_id BIGINT NOT NULL,
+    quantity INTEGER NOT NULL DEFAULT 0 CHECK (quantity >= 0),
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (product_id, location_id),
+    FOREIGN KEY (product_id) REFERENCES products(id) ON DELETE CASCADE,
+    FOREIGN KEY (location_id) REFERENCES stock_locations(id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_stock_location_id ON product_stock(location_id);
+
+-- Existing stock moves to the main warehouse
+INSERT INTO product_stock (product_id, location_id, quantity)
+SELECT p.id, l.id, p.stock_quantity
+FROM products p
+JOIN stock_locations l ON l.code = 'MAIN'
+ON CONFLICT (product_id, location_id) DO NOTHING;
+
+-- products.stock_quantity becomes the total over all locations, kept in step
+-- with every change to product_stock so reads never need to aggregate
+CREATE OR REPLACE FUNCTION sync_product_stock_total() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE products SET stock_quantity = stock_quantity + NEW.quantity
+        WHERE id = NEW.product_id;
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE products SET stock_quantity = stock_quantity - OLD.quantity
+        WHERE id = OLD.product_id;
+    ELSIF NEW.quantity <> OLD.quantity THEN
+        UPDATE products SET stock_quantity = stock_quantity + NEW.quantity - OLD.quantity
+        WHERE id = NEW.product_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_product_stock_total ON product_stock;
+CREATE TRIGGER trg_product_stock_total
+AFTER INSERT OR UPDATE OF quantity OR DELETE ON product_stock
+FOR EACH ROW EXECUTE FUNCTION sync_product_stock_total();
+
+-- Order items and stock holds remember where their stock was taken from
+ALTER TABLE sale_order_items ADD COLUMN IF NOT EXISTS location_id BIGINT REFERENCES stock_locations(id);
+UPDATE sale_order_items SET location_id = (SELECT id FROM stock_locations WHERE code = 'MAIN')
+WHERE location_id IS NULL;
+ALTER TABLE sale_order_items ALTER COLUMN location_id SET NOT NULL;
+
+ALTER TABLE stock_holds ADD COLUMN IF NOT EXISTS location_id BIGINT REFERENCES stock_locations(id);
+UPDATE stock_holds SET location_id = (SELECT id FROM stock_locations WHERE code = 'MAIN')
+WHERE location_id IS NULL;
+ALTER TABLE stock_holds ALTER COLUMN location_id SET NOT NULL;
@@ -0,0 +1,23 @@
+-- Create replenishment_suggestions table (rebuilt nightly by the replenishment forecaster)
+CREATE TABLE IF NOT EXISTS replenishment_suggestions (
+    product_id BIGINT PRIMARY KEY,
+    product_name VARCHAR(100) NOT NULL,
+    sku VARCHAR(50) NOT NULL,
+    supplier_id BIGINT,
+    supplier_name VARCHAR(100),
+    units_sold BIGINT NOT NULL,
+    daily_velocity DECIMAL(12, 4) NOT NULL,
+    stock_quantity INTEGER NOT NULL,
+    days_of_cover DECIMAL(12, 1),
+    suggested_quantity INTEGER NOT NULL,
+    computed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    FOREIGN KEY (product_id) REFERENCES products(id) ON DELETE CASCADE,
+    FOREIGN KEY (supplier_id) REFERENCES suppliers(id) ON DELETE SET NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_replenishment_suggestions_supplier
+    ON replenishment_suggestions(supplier_name, supplier_id) WHERE suggested_quantity > 0;
+
+-- The forecaster scans orders in id ranges restricted to the sales window
+CREATE INDEX IF NOT EXISTS idx_sale_orders_order_date ON sale_orders(order_date);
+CREATE INDEX IF NOT EXISTS idx_sale_order_items_order_id ON sale_order_items(order_id);
@@ -0,0 +1,19 @@
+-- Trigram indexes for substring search on customer name and email
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_customers_name_trgm ON customers USING gin (LOWER(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_customers_email_trgm ON customers USING gin (LOWER(email) gin_trgm_ops);
+
+-- Name prefix lookups for the typeahead (text_pattern_ops serves LIKE 'abc%' under any collation)
+CREATE INDEX IF NOT EXISTS idx_customers_name_prefix ON customers (LOWER(name) text_pattern_ops);
+
+-- Phone and tax id reduced to digits, so "(11) 9876-5432" and "11987655432" match the same prefix
+ALTER TABLE customers ADD COLUMN IF NOT EXISTS tax_id VARCHAR(20);
+
+ALTER TABLE customers ADD COLUMN IF NOT EXISTS phone_digits VARCHAR(20)
+    GENERATED ALWAYS AS (NULLIF(regexp_replace(phone, '[^0-9]', '', 'g'), '')) STORED;
+ALTER TABLE customers ADD COLUMN IF NOT EXISTS tax_id_digits VARCHAR(20)
+    GENERATED ALWAYS AS (NULLIF(regexp_replace(tax_id, '[^0-9]', '', 'g'), '')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_customers_phone_digits ON customers (phone_digits text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_customers_tax_id_digits ON customers (tax_id_digits text_pattern_ops);
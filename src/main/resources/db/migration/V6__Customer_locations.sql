@@ -0,0 +1,63 @@
+-- Normalized location key, so "São Paulo / SP" and " são paulo / sp" are the same place
+ALTER TABLE customers ADD COLUMN IF NOT EXISTS city VARCHAR(255);
+ALTER TABLE customers ADD COLUMN IF NOT EXISTS state VARCHAR(255);
+
+ALTER TABLE customers ADD COLUMN IF NOT EXISTS location_key VARCHAR(512)
+    GENERATED ALWAYS AS (
+        CASE WHEN NULLIF(btrim(city), '') IS NOT NULL AND NULLIF(btrim(state), '') IS NOT NULL
+             THEN lower(btrim(state)) || '|' || lower(btrim(city))
+        END
+    ) STORED;
+
+-- Serves the by-location seek: equality on the key, then id order
+CREATE INDEX IF NOT EXISTS idx_customers_location_key ON customers (location_key, id)
+    WHERE location_key IS NOT NULL;
+
+-- Create customer_locations table (one row per distinct location, with its customer count)
+CREATE TABLE IF NOT EXISTS customer_locations (
+    location_key VARCHAR(512) PRIMARY KEY,
+    city VARCHAR(255) NOT NULL,
+    state VARCHAR(255) NOT NULL,
+    customer_count BIGINT NOT NULL CHECK (customer_count > 0),
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO customer_locations (location_key, city, state, customer_count)
+SELECT location_key, MIN(btrim(city)), MIN(btrim(state)), COUNT(*)
+FROM customers
+WHERE location_key IS NOT NULL
+GROUP BY location_key
+ON CONFLICT (location_key) DO NOTHING;
+
+-- Keeps the counts in step with every customer insert, move and delete; a
+-- location disappears with its last customer and keeps the spelling of the
+-- customer that introduced it
+CREATE OR REPLACE FUNCTION sync_customer_locations() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND NEW.location_key IS NOT DISTINCT FROM OLD.location_key THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.location_key IS NOT NULL THEN
+        UPDATE customer_locations
+        SET customer_count = customer_count - 1, updated_at = CURRENT_TIMESTAMP
+        WHERE location_key = OLD.location_key AND customer_count > 1;
+        IF NOT FOUND THEN
+            DELETE FROM customer_locations WHERE location_key = OLD.location_key;
+        END IF;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.location_key IS NOT NULL THEN
+        INSERT INTO customer_locations (location_key, city, state, customer_count)
+        VALUES (NEW.location_key, btrim(NEW.city), btrim(NEW.state), 1)
+        ON CONFLICT (location_key) DO UPDATE
+        SET customer_count = customer_locations.customer_count + 1, updated_at = CURRENT_TIMESTAMP;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_customer_locations ON customers;
+CREATE TRIGGER trg_customer_locations
+AFTER INSERT OR UPDATE OF city, state OR DELETE ON customers
+FOR EACH ROW EXECUTE FUNCTION sync_customer_locations();
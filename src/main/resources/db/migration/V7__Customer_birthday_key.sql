@@ -0,0 +1,12 @@
+-- Year-agnostic birthday key (month * 100 + day, e.g. 1225), so a range of
+-- calendar days matches whatever year a customer was born in. Unlike a plain
+-- day-of-year number it does not shift after February in leap years.
+ALTER TABLE customers ADD COLUMN IF NOT EXISTS birth_date DATE;
+
+ALTER TABLE customers ADD COLUMN IF NOT EXISTS birthday_key SMALLINT
+    GENERATED ALWAYS AS (
+        (EXTRACT(MONTH FROM birth_date) * 100 + EXTRACT(DAY FROM birth_date))::SMALLINT
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_customers_birthday_key ON customers (birthday_key, id)
+    WHERE birthday_key IS NOT NULL;
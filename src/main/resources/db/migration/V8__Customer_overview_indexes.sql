@@ -0,0 +1,3 @@
+-- Per-customer lookups used by the customer overview
+CREATE INDEX IF NOT EXISTS idx_sale_orders_customer_date ON sale_orders (customer_id, order_date DESC);
+CREATE INDEX IF NOT EXISTS idx_service_schedules_customer_id ON service_schedules (customer_id);
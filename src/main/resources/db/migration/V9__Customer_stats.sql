@@ -0,0 +1,29 @@
+-- Create customer_stats table (lifetime totals over paid orders, plus daily RFM scores)
+CREATE TABLE IF NOT EXISTS customer_stats (
+    customer_id BIGINT PRIMARY KEY,
+    order_count INTEGER NOT NULL DEFAULT 0,
+    total_spend DECIMAL(12, 2) NOT NULL DEFAULT 0,
+    first_order_at TIMESTAMP WITH TIME ZONE,
+    last_order_at TIMESTAMP WITH TIME ZONE,
+    -- 1 (lowest) to 5 (highest) quintiles, refreshed by the daily segmentation
+    recency_score SMALLINT,
+    frequency_score SMALLINT,
+    monetary_score SMALLINT,
+    segment VARCHAR(20),
+    scored_at TIMESTAMP WITH TIME ZONE,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (customer_id) REFERENCES customers(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_customer_stats_total_spend ON customer_stats (total_spend DESC, customer_id);
+CREATE INDEX IF NOT EXISTS idx_customer_stats_last_order ON customer_stats (last_order_at, customer_id);
+CREATE INDEX IF NOT EXISTS idx_customer_stats_segment ON customer_stats (segment, total_spend DESC)
+    WHERE segment IS NOT NULL;
+
+INSERT INTO customer_stats (customer_id, order_count, total_spend, first_order_at, last_order_at)
+SELECT so.customer_id, COUNT(*), COALESCE(SUM(so.final_amount), 0), MIN(so.order_date), MAX(so.order_date)
+FROM sale_orders so
+WHERE so.customer_id IS NOT NULL
+  AND so.status IN ('PAID', 'PROCESSING', 'SHIPPED', 'DELIVERED')
+GROUP BY so.customer_id
+ON CONFLICT (customer_id) DO NOTHING;
@@ -0,0 +1,121 @@
+package com.managersys.repository;
+
+import com.managersys.dto.ProductListDTO;
+import com.managersys.model.Product;
+import com.managersys.model.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the number of SQL statements issued by product list reads, so that
+ * lazy supplier loading cannot silently turn back into one query per row.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+class ProductRepositoryStatementCountTest {
+
+    private static final int SUPPLIERS = 5;
+    private static final int PRODUCTS = 30;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int s = 0; s < SUPPLIERS; s++) {
+            Supplier supplier = new Supplier();
+            supplier.setName("Supplier " + s);
+            supplier.setEmail("supplier" + s + "@example.com");
+            entityManager.persist(supplier);
+        }
+        entityManager.flush();
+
+        // stock_quantity is not insertable through JPA, so products are inserted directly
+        entityManager.getEntityManager().createNativeQuery(
+                "INSERT INTO products (name, sku, price, stock_quantity, supplier_id) " +
+                "SELECT 'Product ' || g, 'SKU-' || g, 9.90, g, " +
+                "       (SELECT id FROM suppliers ORDER BY id OFFSET (g % " + SUPPLIERS + ") LIMIT 1) " +
+                "FROM generate_series(1, " + PRODUCTS + ") g")
+                .executeUpdate();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void listPageUsesOneSelectAndOneCount() {
+        Page<ProductListDTO> page = productRepository.findAllListItems(PageRequest.of(0, 20, Sort.by("sku")));
+
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getTotalElements()).isEqualTo(PRODUCTS);
+        assertThat(page.getContent()).allSatisfy(item -> {
+            assertThat(item.getSupplierId()).isNotNull();
+            assertThat(item.getSupplierName()).startsWith("Supplier ");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void lazySuppliersAreLoadedInOneBatch() {
+        List<Product> products = productRepository.findAll();
+        long afterProducts = statistics.getPrepareStatementCount();
+
+        products.forEach(product -> assertThat(product.getSupplier().getName()).isNotNull());
+
+        assertThat(afterProducts).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount() - afterProducts).isEqualTo(1);
+    }
+
+    @Test
+    void supplierProductCollectionsAreLoadedInOneBatch() {
+        List<Supplier> suppliers = entityManager.getEntityManager()
+                .createQuery("SELECT s FROM Supplier s", Supplier.class)
+                .getResultList();
+        long afterSuppliers = statistics.getPrepareStatementCount();
+
+        int total = suppliers.stream().mapToInt(supplier -> supplier.getProducts().size()).sum();
+
+        assertThat(total).isEqualTo(PRODUCTS);
+        assertThat(statistics.getPrepareStatementCount() - afterSuppliers).isEqualTo(1);
+    }
+}
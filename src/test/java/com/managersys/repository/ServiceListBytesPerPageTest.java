@@ -0,0 +1,104 @@
+package com.managersys.repository;
+
+import com.managersys.dto.ServiceListDTO;
+import com.managersys.model.Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the bytes one service list page reads: the full rows the entity
+ * query used to load, against the columns ServiceListDTO projects. Bytes are
+ * the text form of each row, as sent to the driver.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+class ServiceListBytesPerPageTest {
+
+    private static final int SERVICES = 50;
+    private static final int PAGE_SIZE = 20;
+
+    // Sizes in the range of real descriptions, instructions and policies
+    private static final String DESCRIPTION = "Full description of the service. ".repeat(45);
+    private static final String PREPARATION = "Arrive ten minutes early. ".repeat(30);
+    private static final String CANCELLATION = "Cancel up to 24 hours before. ".repeat(20);
+
+    private static final String ENTITY_PAGE_BYTES =
+            "SELECT SUM(octet_length(CAST(t.* AS text))) FROM ( " +
+            "    SELECT s.* FROM services s ORDER BY s.id LIMIT " + PAGE_SIZE +
+            ") t";
+
+    // The columns of ServiceRepository.LIST_ITEM_SELECT
+    private static final String LIST_PAGE_BYTES =
+            "SELECT SUM(octet_length(CAST(t.* AS text))) FROM ( " +
+            "    SELECT s.id, s.name, s.price, s.duration_minutes, s.is_active, " +
+            "           s.is_online_booking_available, c.id AS category_id, c.name AS category_name " +
+            "    FROM services s LEFT JOIN service_categories c ON c.id = s.category_id " +
+            "    ORDER BY s.id LIMIT " + PAGE_SIZE +
+            ") t";
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < SERVICES; i++) {
+            Service service = new Service("Service " + i, DESCRIPTION, new BigDecimal("49.90"), 60);
+            service.setPreparationInstructions(PREPARATION);
+            service.setCancellationPolicy(CANCELLATION);
+            entityManager.persist(service);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void listPageReadsAFractionOfTheEntityBytes() {
+        Page<ServiceListDTO> page = serviceRepository.findAllListItems(PageRequest.of(0, PAGE_SIZE, Sort.by("id")));
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+
+        long entityBytes = bytes(ENTITY_PAGE_BYTES);
+        long listBytes = bytes(LIST_PAGE_BYTES);
+
+        // About 3 KB of text per entity row against well under 100 bytes per list row
+        assertThat(entityBytes).isGreaterThan(PAGE_SIZE * 2500L);
+        assertThat(listBytes).isLessThan(PAGE_SIZE * 100L);
+        assertThat(listBytes * 20).isLessThan(entityBytes);
+    }
+
+    private long bytes(String sql) {
+        return ((Number) entityManager.getEntityManager().createNativeQuery(sql).getSingleResult()).longValue();
+    }
+}
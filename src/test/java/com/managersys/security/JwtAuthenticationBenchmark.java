@@ -0,0 +1,93 @@
+package com.managersys.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Token checks done by {@link JwtAuthenticationFilter} for one request,
+ * without the user lookup:
+ * <ul>
+ *     <li>{@code legacy}: the previous path, three parses with the key rebuilt each time</li>
+ *     <li>{@code singleParse}: one parse with the prebuilt parser (claims cache disabled)</li>
+ *     <li>{@code cachedClaims}: a token verified before, served from the claims cache</li>
+ * </ul>
+ * Not run by the build; start {@link #main} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "NDA0RTYzNTI2NjU1NkE1ODZFMzI3MjM1NzUzODc4MkY0MTNGNDQyODQ3MkI0QjYy";
+    private static final long EXPIRATION = 3_600_000;
+
+    private JwtService uncachedService;
+    private JwtService cachedService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncachedService = new JwtService(SECRET, EXPIRATION, EXPIRATION, 0);
+        cachedService = new JwtService(SECRET, EXPIRATION, EXPIRATION, 1000);
+        userDetails = User.withUsername("manager@example.com").password("unused").roles("MANAGER").build();
+        token = cachedService.generateToken(userDetails);
+        cachedService.parseVerifiedClaims(token);
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        String username = legacyClaim(token, Claims::getSubject);
+        return username.equals(userDetails.getUsername())
+                && legacyClaim(token, Claims::getSubject).equals(userDetails.getUsername())
+                && !legacyClaim(token, Claims::getExpiration).before(new Date());
+    }
+
+    @Benchmark
+    public boolean singleParse() {
+        return uncachedService.isTokenValid(uncachedService.parseVerifiedClaims(token), userDetails);
+    }
+
+    @Benchmark
+    public boolean cachedClaims() {
+        return cachedService.isTokenValid(cachedService.parseVerifiedClaims(token), userDetails);
+    }
+
+    // The parse JwtService did before the key and parser were built once
+    private static <T> T legacyClaim(String token, Function<Claims, T> resolver) {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return resolver.apply(claims);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}